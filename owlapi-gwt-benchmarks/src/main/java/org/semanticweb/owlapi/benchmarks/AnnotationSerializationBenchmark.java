@@ -0,0 +1,98 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.gwt.server.StubSerializationStream;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.CustomFieldSerializerUtil;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading annotation-heavy payloads.  Every axiom of the ontology is given one to four annotations, some
+ * of which are annotated themselves.  The set benchmarks read only the annotation sets, and copy them into a
+ * {@link SmallSortedSet} as the axiom constructors do; the baseline uses {@link BaselineCustomFieldSerializerUtil}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnnotationSerializationBenchmark {
+
+    private StubSerializationStream serializedAxioms;
+
+    private StubSerializationStream serializedSets;
+
+    private int setCount;
+
+    @Setup
+    public void setUp(OntologyState state) throws SerializationException {
+        OWLDataFactory dataFactory = state.dataFactory;
+        Random random = new Random(OntologyState.SEED);
+        List<OWLAnnotationProperty> properties = Arrays.asList(dataFactory.getRDFSLabel(),
+                dataFactory.getRDFSComment(), dataFactory.getRDFSSeeAlso(), dataFactory.getRDFSIsDefinedBy());
+        List<OWLAxiom> annotated = new ArrayList<>();
+        List<Set<OWLAnnotation>> annotationSets = new ArrayList<>();
+        for (OWLAxiom axiom : state.axioms) {
+            int count = 1 + random.nextInt(4);
+            Set<OWLAnnotation> annotations = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                OWLAnnotationProperty property = properties.get(i);
+                OWLLiteral value = dataFactory.getOWLLiteral("value " + random.nextInt(1000), "en");
+                Set<OWLAnnotation> nested = Collections.emptySet();
+                if (random.nextInt(4) == 0) {
+                    nested = Collections.singleton(dataFactory.getOWLAnnotation(dataFactory.getRDFSComment(),
+                            dataFactory.getOWLLiteral("source " + random.nextInt(100))));
+                }
+                annotations.add(dataFactory.getOWLAnnotation(property, value, nested));
+            }
+            OWLAxiom annotatedAxiom = axiom.getAnnotatedAxiom(annotations);
+            annotated.add(annotatedAxiom);
+            annotationSets.add(annotatedAxiom.getAnnotations());
+        }
+        serializedAxioms = new StubSerializationStream();
+        StubSerializationStream.Writer writer = serializedAxioms.createWriter();
+        writer.writeInt(annotated.size());
+        for (OWLAxiom axiom : annotated) {
+            writer.writeObject(axiom);
+        }
+        serializedSets = new StubSerializationStream();
+        writer = serializedSets.createWriter();
+        for (Set<OWLAnnotation> annotations : annotationSets) {
+            CustomFieldSerializerUtil.serializeSet(annotations, writer);
+        }
+        setCount = annotationSets.size();
+    }
+
+    @Benchmark
+    public void deserializeAxioms(Blackhole blackhole) throws SerializationException {
+        StubSerializationStream.Reader reader = serializedAxioms.createReader();
+        int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(reader.readObject());
+        }
+    }
+
+    @Benchmark
+    public void deserializeSets(Blackhole blackhole) throws SerializationException {
+        StubSerializationStream.Reader reader = serializedSets.createReader();
+        for (int i = 0; i < setCount; i++) {
+            Set<OWLAnnotation> annotations = CustomFieldSerializerUtil.deserializeSet(reader);
+            blackhole.consume(SmallSortedSet.copyOf(annotations));
+        }
+    }
+
+    @Benchmark
+    public void deserializeSetsBaseline(Blackhole blackhole) throws SerializationException {
+        StubSerializationStream.Reader reader = serializedSets.createReader();
+        for (int i = 0; i < setCount; i++) {
+            Set<OWLAnnotation> annotations = BaselineCustomFieldSerializerUtil.deserializeSet(reader);
+            blackhole.consume(SmallSortedSet.copyOf(annotations));
+        }
+    }
+}
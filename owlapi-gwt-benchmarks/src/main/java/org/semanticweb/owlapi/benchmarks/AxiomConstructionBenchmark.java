@@ -0,0 +1,95 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.gwt.server.SyntheticOntology;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import uk.ac.manchester.cs.owl.owlapi.AxiomBatchBuilder;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the axioms of a synthetic ontology with the data factory, with and without entity caching
+ * and structure sharing.  The subclass and assertion benchmarks build the same axioms from columns of IRIs, one
+ * factory call at a time and with an {@link AxiomBatchBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AxiomConstructionBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    @Param({"false", "true"})
+    public boolean shareStructure;
+
+    private OWLDataFactoryImpl dataFactory;
+
+    private IRI[] subClasses;
+
+    private IRI[] superClasses;
+
+    private IRI[] properties;
+
+    private IRI[] subjects;
+
+    private IRI[] objects;
+
+    @Setup
+    public void setUp() {
+        dataFactory = new OWLDataFactoryImpl(cache, false, shareStructure);
+        Random random = new Random(OntologyState.SEED);
+        subClasses = names(random, "Class", size / 4);
+        superClasses = names(random, "Class", size / 4);
+        properties = names(random, "objectProperty", size / 100);
+        subjects = names(random, "individual", size / 10);
+        objects = names(random, "individual", size / 10);
+    }
+
+    private IRI[] names(Random random, String prefix, int count) {
+        IRI[] names = new IRI[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = IRI.create(SyntheticOntology.NAMESPACE, prefix + random.nextInt(Math.max(10, count)));
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<?> buildAxioms() {
+        return new SyntheticOntology(dataFactory, size, OntologyState.SEED).getAxioms();
+    }
+
+    @Benchmark
+    public List<?> buildAxiomsOneByOne() {
+        List<OWLAxiom> axioms = new ArrayList<>(2 * size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.getOWLSubClassOfAxiom(dataFactory.getOWLClass(subClasses[i]),
+                    dataFactory.getOWLClass(superClasses[i])));
+        }
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(dataFactory.getOWLObjectProperty(properties[i]),
+                    dataFactory.getOWLNamedIndividual(subjects[i]), dataFactory.getOWLNamedIndividual(objects[i])));
+        }
+        return axioms;
+    }
+
+    @Benchmark
+    public List<?> buildAxiomsInBatch() {
+        AxiomBatchBuilder builder = dataFactory.getAxiomBatchBuilder();
+        List<OWLAxiom> axioms = new ArrayList<>(2 * size);
+        axioms.addAll(builder.getOWLSubClassOfAxioms(subClasses, superClasses));
+        axioms.addAll(builder.getOWLObjectPropertyAssertionAxioms(properties, subjects, objects));
+        return axioms;
+    }
+}
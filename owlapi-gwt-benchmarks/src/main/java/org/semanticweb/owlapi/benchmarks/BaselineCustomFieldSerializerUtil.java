@@ -0,0 +1,34 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The set decoding of CustomFieldSerializerUtil before sets were read straight into their final storage, kept as a
+ * baseline for {@link AnnotationSerializationBenchmark}.  The elements are read into an unsized list and then
+ * rehashed into a new set.
+ */
+final class BaselineCustomFieldSerializerUtil {
+
+    private BaselineCustomFieldSerializerUtil() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Set<T> deserializeSet(SerializationStreamReader reader) throws SerializationException {
+        int size = reader.readInt();
+        if (size == 0) {
+            return Collections.emptySet();
+        }
+        List<T> elements = new ArrayList<T>();
+        for (int i = 0; i < size; i++) {
+            elements.add((T) reader.readObject());
+        }
+        return CollectionFactory.createSet(elements);
+    }
+}
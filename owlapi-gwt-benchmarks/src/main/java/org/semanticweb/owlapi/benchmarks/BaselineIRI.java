@@ -0,0 +1,42 @@
+package org.semanticweb.owlapi.benchmarks;
+
+/**
+ * The hashing and string conversion of IRI before the hash code and full string were cached, kept as a baseline
+ * for {@link IRIBenchmark}.
+ */
+final class BaselineIRI {
+
+    private final String namespace;
+
+    private final String remainder;
+
+    BaselineIRI(String namespace, String remainder) {
+        this.namespace = namespace;
+        this.remainder = remainder;
+    }
+
+    @Override
+    public int hashCode() {
+        return namespace.hashCode() + remainder.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BaselineIRI)) {
+            return false;
+        }
+        BaselineIRI other = (BaselineIRI) obj;
+        return remainder.equals(other.remainder) && namespace.equals(other.namespace);
+    }
+
+    @Override
+    public String toString() {
+        if (remainder.isEmpty()) {
+            return namespace;
+        }
+        return namespace + remainder;
+    }
+}
@@ -0,0 +1,85 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.gwt.server.SyntheticOntology;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing axioms, both pairwise and by sorting copies of the axioms of the ontology.  Comparisons of
+ * operands and annotations should not allocate; run with {@code -prof gc} to check the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompareToBenchmark {
+
+    /**
+     * The axioms in a fixed random order, and equal copies of the axioms built by a second data factory, so that
+     * comparing them cannot short cut on identity.
+     */
+    @State(Scope.Benchmark)
+    public static class Axioms {
+
+        List<OWLAxiom> shuffled;
+
+        List<OWLAxiom> copies;
+
+        @Setup
+        public void setUp(OntologyState state) {
+            shuffled = new ArrayList<>(state.axioms);
+            Collections.shuffle(shuffled, new Random(OntologyState.SEED));
+            copies = new SyntheticOntology(new OWLDataFactoryImpl(), state.size, OntologyState.SEED).getAxioms();
+        }
+    }
+
+    @Benchmark
+    public int compareAdjacent(OntologyState state) {
+        List<OWLAxiom> axioms = state.axioms;
+        int result = 0;
+        for (int i = 1; i < axioms.size(); i++) {
+            result += axioms.get(i - 1).compareTo(axioms.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int compareEqualCopies(OntologyState state, Axioms axioms) {
+        List<OWLAxiom> originals = state.axioms;
+        List<OWLAxiom> copies = axioms.copies;
+        int result = 0;
+        for (int i = 0; i < originals.size(); i++) {
+            result += originals.get(i).compareTo(copies.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OWLAxiom> sortAxioms(OntologyState state) {
+        List<OWLAxiom> axioms = new ArrayList<>(state.axioms);
+        Collections.sort(axioms);
+        return axioms;
+    }
+
+    @Benchmark
+    public List<OWLAxiom> sortShuffledAxioms(Axioms axioms) {
+        List<OWLAxiom> sorted = new ArrayList<>(axioms.shuffled);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public Set<OWLAxiom> treeSetOfShuffledAxioms(Axioms axioms) {
+        return new TreeSet<>(axioms.shuffled);
+    }
+}
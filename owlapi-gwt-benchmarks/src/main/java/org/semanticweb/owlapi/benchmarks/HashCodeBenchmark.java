@@ -0,0 +1,72 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.HashCode;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks computing structural hash codes and fingerprints of axioms.  {@link HashCode#hashCode} and
+ * {@link StructuralFingerprint#compute} recompute the value of the axiom from the cached values of its children,
+ * whereas {@link Object#hashCode} and {@link StructuralFingerprint#fingerprint} on an axiom return the cached value
+ * after the first call.  The equals benchmark compares each axiom with its neighbour, which is rejected on the cached
+ * fingerprints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCodeBenchmark {
+
+    @Benchmark
+    public int computeHashCode(OntologyState state) {
+        int hash = 0;
+        for (OWLAxiom axiom : state.axioms) {
+            hash += HashCode.hashCode(axiom);
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int cachedHashCode(OntologyState state) {
+        int hash = 0;
+        for (OWLAxiom axiom : state.axioms) {
+            hash += axiom.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public long computeFingerprint(OntologyState state) {
+        long fingerprint = 0;
+        for (OWLAxiom axiom : state.axioms) {
+            fingerprint += StructuralFingerprint.compute(axiom);
+        }
+        return fingerprint;
+    }
+
+    @Benchmark
+    public long cachedFingerprint(OntologyState state) {
+        long fingerprint = 0;
+        for (OWLAxiom axiom : state.axioms) {
+            fingerprint += StructuralFingerprint.fingerprint(axiom);
+        }
+        return fingerprint;
+    }
+
+    @Benchmark
+    public int equalsAdjacent(OntologyState state) {
+        List<OWLAxiom> axioms = state.axioms;
+        int equal = 0;
+        for (int i = 1; i < axioms.size(); i++) {
+            if (axioms.get(i - 1).equals(axioms.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+}
@@ -0,0 +1,113 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks IRI creation, hashing, string conversion and map lookups.  The baseline benchmarks use
+ * {@link BaselineIRI}, which hashes and converts to a string the way IRI did before these were cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IRIBenchmark {
+
+    private List<String> iriStrings;
+
+    private List<IRI> iris;
+
+    private List<BaselineIRI> baselineIRIs;
+
+    private Map<IRI, IRI> iriMap;
+
+    private Map<BaselineIRI, BaselineIRI> baselineIRIMap;
+
+    @Setup
+    public void setUp(OntologyState state) {
+        iriStrings = new ArrayList<>();
+        iris = new ArrayList<>();
+        baselineIRIs = new ArrayList<>();
+        iriMap = new HashMap<>();
+        baselineIRIMap = new HashMap<>();
+        for (String iriString : state.ontology.getIRIStrings()) {
+            // Copy the strings so that they do not share cached hash codes with the strings held by the IRIs
+            iriStrings.add(new String(iriString));
+            IRI iri = IRI.create(iriString);
+            iris.add(iri);
+            iriMap.put(iri, iri);
+            BaselineIRI baselineIRI = new BaselineIRI(iri.getNamespace(), iri.getRemainder().or(""));
+            baselineIRIs.add(baselineIRI);
+            baselineIRIMap.put(baselineIRI, baselineIRI);
+        }
+    }
+
+    @Benchmark
+    public void createFromString(Blackhole blackhole) {
+        for (String iriString : iriStrings) {
+            blackhole.consume(IRI.create(iriString));
+        }
+    }
+
+    @Benchmark
+    public void createFromPrefixAndSuffix(Blackhole blackhole) {
+        for (IRI iri : iris) {
+            blackhole.consume(IRI.create(iri.getNamespace(), iri.getRemainder().orNull()));
+        }
+    }
+
+    @Benchmark
+    public int hashCodeIRI() {
+        int hash = 0;
+        for (IRI iri : iris) {
+            hash += iri.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int hashCodeBaseline() {
+        int hash = 0;
+        for (BaselineIRI iri : baselineIRIs) {
+            hash += iri.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public void toStringIRI(Blackhole blackhole) {
+        for (IRI iri : iris) {
+            blackhole.consume(iri.toString());
+        }
+    }
+
+    @Benchmark
+    public void toStringBaseline(Blackhole blackhole) {
+        for (BaselineIRI iri : baselineIRIs) {
+            blackhole.consume(iri.toString());
+        }
+    }
+
+    @Benchmark
+    public void mapLookupIRI(Blackhole blackhole) {
+        for (IRI iri : iris) {
+            blackhole.consume(iriMap.get(iri));
+        }
+    }
+
+    @Benchmark
+    public void mapLookupBaseline(Blackhole blackhole) {
+        for (BaselineIRI iri : baselineIRIs) {
+            blackhole.consume(baselineIRIMap.get(iri));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.AxiomNormalizer;
+import org.semanticweb.owlapi.util.MemoizingNNF;
+import org.semanticweb.owlapi.util.NNF;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting the axioms of an ontology to negation normal form.  {@link MemoizingNNF} is measured once with
+ * one instance for the whole ontology, so that shared class expressions are converted once, and once with a new
+ * instance for each axiom.  {@link AxiomNormalizer} converts the whole ontology at once, on the common fork join pool
+ * if there is more than one processor, with one memo table per task; {@code memoizingNNF} is the sequential
+ * counterpart with a single memo table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NNFBenchmark {
+
+    @Benchmark
+    public void nnf(OntologyState state, Blackhole blackhole) {
+        NNF nnf = new NNF(state.dataFactory);
+        for (OWLAxiom axiom : state.axioms) {
+            nnf.reset();
+            blackhole.consume(axiom.accept(nnf));
+        }
+    }
+
+    @Benchmark
+    public void memoizingNNF(OntologyState state, Blackhole blackhole) {
+        MemoizingNNF nnf = new MemoizingNNF(state.dataFactory);
+        for (OWLAxiom axiom : state.axioms) {
+            blackhole.consume(axiom.accept(nnf));
+        }
+    }
+
+    @Benchmark
+    public void memoizingNNFPerAxiom(OntologyState state, Blackhole blackhole) {
+        for (OWLAxiom axiom : state.axioms) {
+            blackhole.consume(axiom.accept(new MemoizingNNF(state.dataFactory)));
+        }
+    }
+
+    @Benchmark
+    public List<OWLAxiom> normalizeAll(OntologyState state) {
+        return new AxiomNormalizer(state.dataFactory).normalizeAll(state.axioms);
+    }
+}
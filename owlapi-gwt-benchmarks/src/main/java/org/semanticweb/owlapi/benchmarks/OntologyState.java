@@ -0,0 +1,38 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.gwt.server.SyntheticOntology;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.List;
+
+/**
+ * A synthetic ontology shared by the benchmarks.  The size can be set on the command line, for example
+ * {@code -p size=100000}.
+ */
+@State(Scope.Benchmark)
+public class OntologyState {
+
+    public static final long SEED = 42L;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    public OWLDataFactory dataFactory;
+
+    public SyntheticOntology ontology;
+
+    public List<OWLAxiom> axioms;
+
+    @Setup
+    public void setUp() {
+        dataFactory = new OWLDataFactoryImpl();
+        ontology = new SyntheticOntology(dataFactory, size, SEED);
+        axioms = ontology.getAxioms();
+    }
+}
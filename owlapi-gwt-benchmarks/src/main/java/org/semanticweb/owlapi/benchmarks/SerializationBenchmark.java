@@ -0,0 +1,92 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.gwt.server.StubSerializationStream;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.AxiomChunk;
+import uk.ac.manchester.cs.owl.owlapi.CompactOWLObjectSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the custom field serializers by writing the axioms of an ontology to a {@link StubSerializationStream}
+ * and reading them back.  The chunked benchmark writes the axioms as a sequence of {@link AxiomChunk}s, one stream
+ * per chunk as with one RPC response per chunk, and returns the size of the largest stream.  The compact benchmarks
+ * write and read the axioms with {@link CompactOWLObjectSerializer}; the serialize benchmarks return the number of
+ * tokens written, so the sizes of the two forms can be compared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private StubSerializationStream serialized;
+
+    private StubSerializationStream serializedCompact;
+
+    private final StubSerializationStream scratch = new StubSerializationStream();
+
+    @Setup
+    public void setUp(OntologyState state) throws SerializationException {
+        serialized = new StubSerializationStream();
+        StubSerializationStream.Writer writer = serialized.createWriter();
+        writer.writeInt(state.axioms.size());
+        for (OWLAxiom axiom : state.axioms) {
+            writer.writeObject(axiom);
+        }
+        serializedCompact = new StubSerializationStream();
+        CompactOWLObjectSerializer.serializeAxioms(state.axioms, serializedCompact.createWriter());
+    }
+
+    @Benchmark
+    public int serialize(OntologyState state) throws SerializationException {
+        scratch.clear();
+        StubSerializationStream.Writer writer = scratch.createWriter();
+        writer.writeInt(state.axioms.size());
+        for (OWLAxiom axiom : state.axioms) {
+            writer.writeObject(axiom);
+        }
+        return scratch.size();
+    }
+
+    @Benchmark
+    public int serializeCompact(OntologyState state) throws SerializationException {
+        scratch.clear();
+        CompactOWLObjectSerializer.serializeAxioms(state.axioms, scratch.createWriter());
+        return scratch.size();
+    }
+
+    @Benchmark
+    public int serializeInChunks(OntologyState state) throws SerializationException {
+        int maxSize = 0;
+        int offset = 0;
+        AxiomChunk chunk;
+        do {
+            chunk = AxiomChunk.of(state.axioms, offset);
+            scratch.clear();
+            scratch.createWriter().writeObject(chunk);
+            maxSize = Math.max(maxSize, scratch.size());
+            offset = chunk.getNextOffset();
+        } while (!chunk.isLast());
+        return maxSize;
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole) throws SerializationException {
+        StubSerializationStream.Reader reader = serialized.createReader();
+        int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(reader.readObject());
+        }
+    }
+
+    @Benchmark
+    public OWLAxiom[] deserializeCompact() throws SerializationException {
+        return CompactOWLObjectSerializer.deserializeAxioms(serializedCompact.createReader());
+    }
+}
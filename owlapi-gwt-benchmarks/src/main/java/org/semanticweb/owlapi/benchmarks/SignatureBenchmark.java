@@ -0,0 +1,60 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import uk.ac.manchester.cs.owl.owlapi.HasIncrementalSignatureGenerationSupport;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks computing the signatures of axioms, through the signature getters and through incremental signature
+ * generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureBenchmark {
+
+    @Benchmark
+    public void getSignature(OntologyState state, Blackhole blackhole) {
+        for (OWLAxiom axiom : state.axioms) {
+            blackhole.consume(axiom.getSignature());
+        }
+    }
+
+    @Benchmark
+    public void getClassesInSignature(OntologyState state, Blackhole blackhole) {
+        for (OWLAxiom axiom : state.axioms) {
+            blackhole.consume(axiom.getClassesInSignature());
+        }
+    }
+
+    @Benchmark
+    public int addSignatureEntitiesToSet(OntologyState state) {
+        Set<OWLEntity> entities = new HashSet<>();
+        for (OWLAxiom axiom : state.axioms) {
+            ((HasIncrementalSignatureGenerationSupport) axiom).addSignatureEntitiesToSet(entities);
+        }
+        return entities.size();
+    }
+
+    @Benchmark
+    public void forEachSignatureEntity(OntologyState state, final Blackhole blackhole) {
+        Consumer<OWLEntity> consumer = new Consumer<OWLEntity>() {
+            @Override
+            public void accept(OWLEntity entity) {
+                blackhole.consume(entity);
+            }
+        };
+        for (OWLAxiom axiom : state.axioms) {
+            ((HasIncrementalSignatureGenerationSupport) axiom).forEachSignatureEntity(consumer);
+        }
+    }
+}
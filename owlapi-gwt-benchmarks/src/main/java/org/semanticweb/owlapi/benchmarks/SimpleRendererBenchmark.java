@@ -0,0 +1,35 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.SimpleRenderer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rendering the axioms of an ontology with the {@link SimpleRenderer}, once as a string per axiom and once
+ * streamed into a single buffer, as for a download or a log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleRendererBenchmark {
+
+    @Benchmark
+    public void render(OntologyState state, Blackhole blackhole) {
+        SimpleRenderer renderer = new SimpleRenderer();
+        for (OWLAxiom axiom : state.axioms) {
+            blackhole.consume(renderer.render(axiom));
+        }
+    }
+
+    @Benchmark
+    public int renderToAppendable(OntologyState state) {
+        StringBuilder out = new StringBuilder();
+        new SimpleRenderer().render(state.axioms, out);
+        return out.length();
+    }
+}
@@ -0,0 +1,126 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.gwt.server.BaselineXMLUtils;
+import org.semanticweb.owlapi.io.XMLUtils;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the NCName scanning done when IRIs are decoded from strings.  The baseline benchmarks use
+ * {@link BaselineXMLUtils}, which checks character classes with chains of range checks the way XMLUtils did before
+ * the lookup tables.  The unicode benchmarks use IRIs whose local names are written in Greek, so that they miss the
+ * ASCII fast path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XMLUtilsBenchmark {
+
+    private List<String> iriStrings;
+
+    private List<String> unicodeIRIStrings;
+
+    private List<String> localNames;
+
+    @Setup
+    public void setUp(OntologyState state) {
+        iriStrings = new ArrayList<>();
+        unicodeIRIStrings = new ArrayList<>();
+        localNames = new ArrayList<>();
+        for (String iriString : state.ontology.getIRIStrings()) {
+            iriStrings.add(iriString);
+            int localNameStart = BaselineXMLUtils.getNCNameSuffixIndex(iriString);
+            if (localNameStart < 0) {
+                unicodeIRIStrings.add(iriString);
+                continue;
+            }
+            localNames.add(iriString.substring(localNameStart));
+            StringBuilder unicode = new StringBuilder(iriString.substring(0, localNameStart));
+            for (int i = localNameStart; i < iriString.length(); i++) {
+                char c = iriString.charAt(i);
+                unicode.append(Character.isLetter(c) ? (char) (0x3B1 + Character.toLowerCase(c) % 24) : c);
+            }
+            unicodeIRIStrings.add(unicode.toString());
+        }
+    }
+
+    @Benchmark
+    public int suffixIndex() {
+        int sum = 0;
+        for (String iriString : iriStrings) {
+            sum += XMLUtils.getNCNameSuffixIndex(iriString);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int suffixIndexBaseline() {
+        int sum = 0;
+        for (String iriString : iriStrings) {
+            sum += BaselineXMLUtils.getNCNameSuffixIndex(iriString);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int suffixIndexUnicode() {
+        int sum = 0;
+        for (String iriString : unicodeIRIStrings) {
+            sum += XMLUtils.getNCNameSuffixIndex(iriString);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int suffixIndexUnicodeBaseline() {
+        int sum = 0;
+        for (String iriString : unicodeIRIStrings) {
+            sum += BaselineXMLUtils.getNCNameSuffixIndex(iriString);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int isNCName() {
+        int count = 0;
+        for (String localName : localNames) {
+            if (XMLUtils.isNCName(localName)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isNCNameBaseline() {
+        int count = 0;
+        for (String localName : localNames) {
+            if (BaselineXMLUtils.isNCName(localName)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void decodeIRIs(Blackhole blackhole) {
+        for (String iriString : iriStrings) {
+            blackhole.consume(IRI.create(iriString));
+        }
+    }
+
+    @Benchmark
+    public void decodeIRIsUnicode(Blackhole blackhole) {
+        for (String iriString : unicodeIRIStrings) {
+            blackhole.consume(IRI.create(iriString));
+        }
+    }
+}
@@ -42,6 +42,54 @@ public final class XMLUtils {
 
     private XMLUtils() {}
 
+    // Character classes are looked up in precomputed tables rather than
+    // evaluated as chains of range checks, which are slow in compiled
+    // JavaScript: one flag byte per ASCII character, and one bit per
+    // character of the Basic Multilingual Plane. All supplementary
+    // characters up to 0xEFFFF are name characters.
+    private static final int ASCII_LIMIT = 0x80;
+    private static final int BMP_LIMIT = 0x10000;
+    private static final byte XML_NAME_START = 1;
+    private static final byte XML_NAME_CHAR = 2;
+    private static final byte NC_NAME_START = 4;
+    private static final byte NC_NAME_CHAR = 8;
+    private static final byte[] ASCII_FLAGS = new byte[ASCII_LIMIT];
+    private static final int[] NAME_START_BITS = new int[BMP_LIMIT >>> 5];
+    private static final int[] NAME_CHAR_BITS = new int[BMP_LIMIT >>> 5];
+    static {
+        int[] nameStartRanges = { ':', ':', 'A', 'Z', '_', '_', 'a', 'z', 0xC0, 0xD6, 0xD8, 0xF6, 0xF8, 0x2FF, 0x370,
+            0x37D, 0x37F, 0x1FFF, 0x200C, 0x200D, 0x2070, 0x218F, 0x2C00, 0x2FEF, 0x3001, 0xD7FF, 0xF900, 0xFDCF,
+            0xFDF0, 0xFFFD };
+        int[] nameCharOnlyRanges = { '-', '.', '0', '9', 0xB7, 0xB7, 0x0300, 0x036F, 0x203F, 0x2040 };
+        setBits(NAME_START_BITS, nameStartRanges);
+        setBits(NAME_CHAR_BITS, nameStartRanges);
+        setBits(NAME_CHAR_BITS, nameCharOnlyRanges);
+        for (int c = 0; c < ASCII_LIMIT; c++) {
+            int flags = 0;
+            if ((NAME_START_BITS[c >>> 5] & 1 << c) != 0) {
+                flags |= XML_NAME_START;
+                if (c != ':') {
+                    flags |= NC_NAME_START;
+                }
+            }
+            if ((NAME_CHAR_BITS[c >>> 5] & 1 << c) != 0) {
+                flags |= XML_NAME_CHAR;
+                if (c != ':') {
+                    flags |= NC_NAME_CHAR;
+                }
+            }
+            ASCII_FLAGS[c] = (byte) flags;
+        }
+    }
+
+    private static void setBits(int[] bits, int[] ranges) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int c = ranges[i]; c <= ranges[i + 1]; c++) {
+                bits[c >>> 5] |= 1 << c;
+            }
+        }
+    }
+
     /**
      * Determines if a character is an XML name start character.
      * 
@@ -53,13 +101,13 @@ public final class XMLUtils {
      *         otherwise {@code false}
      */
     public static boolean isXMLNameStartCharacter(int codePoint) {
-        return codePoint == ':' || codePoint >= 'A' && codePoint <= 'Z' || codePoint == '_' || codePoint >= 'a'
-            && codePoint <= 'z' || codePoint >= 0xC0 && codePoint <= 0xD6 || codePoint >= 0xD8 && codePoint <= 0xF6
-            || codePoint >= 0xF8 && codePoint <= 0x2FF || codePoint >= 0x370 && codePoint <= 0x37D || codePoint >= 0x37F
-                && codePoint <= 0x1FFF || codePoint >= 0x200C && codePoint <= 0x200D || codePoint >= 0x2070
-                    && codePoint <= 0x218F || codePoint >= 0x2C00 && codePoint <= 0x2FEF || codePoint >= 0x3001
-                        && codePoint <= 0xD7FF || codePoint >= 0xF900 && codePoint <= 0xFDCF || codePoint >= 0xFDF0
-                            && codePoint <= 0xFFFD || codePoint >= 0x10000 && codePoint <= 0xEFFFF;
+        if (codePoint < ASCII_LIMIT) {
+            return codePoint >= 0 && (ASCII_FLAGS[codePoint] & XML_NAME_START) != 0;
+        }
+        if (codePoint < BMP_LIMIT) {
+            return (NAME_START_BITS[codePoint >>> 5] & 1 << codePoint) != 0;
+        }
+        return codePoint <= 0xEFFFF;
     }
 
     /**
@@ -73,9 +121,13 @@ public final class XMLUtils {
      *         otherwise {@code false}
      */
     public static boolean isXMLNameChar(int codePoint) {
-        return isXMLNameStartCharacter(codePoint) || codePoint == '-' || codePoint == '.' || codePoint >= '0'
-            && codePoint <= '9' || codePoint == 0xB7 || codePoint >= 0x0300 && codePoint <= 0x036F
-            || codePoint >= 0x203F && codePoint <= 0x2040;
+        if (codePoint < ASCII_LIMIT) {
+            return codePoint >= 0 && (ASCII_FLAGS[codePoint] & XML_NAME_CHAR) != 0;
+        }
+        if (codePoint < BMP_LIMIT) {
+            return (NAME_CHAR_BITS[codePoint >>> 5] & 1 << codePoint) != 0;
+        }
+        return codePoint <= 0xEFFFF;
     }
 
     /**
@@ -90,7 +142,10 @@ public final class XMLUtils {
      *         otherwise {@code false}.
      */
     public static boolean isNCNameStartChar(int codePoint) {
-        return codePoint != ':' && isXMLNameStartCharacter(codePoint);
+        if (codePoint < ASCII_LIMIT) {
+            return codePoint >= 0 && (ASCII_FLAGS[codePoint] & NC_NAME_START) != 0;
+        }
+        return isXMLNameStartCharacter(codePoint);
     }
 
     /**
@@ -104,7 +159,10 @@ public final class XMLUtils {
      *         otherwise {@code false}.
      */
     public static boolean isNCNameChar(int codePoint) {
-        return codePoint != ':' && isXMLNameChar(codePoint);
+        if (codePoint < ASCII_LIMIT) {
+            return codePoint >= 0 && (ASCII_FLAGS[codePoint] & NC_NAME_CHAR) != 0;
+        }
+        return isXMLNameChar(codePoint);
     }
 
     /**
@@ -208,8 +266,18 @@ public final class XMLUtils {
         }
         int index = -1;
         for (int i = s.length() - 1; i > -1; i--) {
-            if (!Character.isLowSurrogate(s.charAt(i))) {
-                int codePoint = Character.codePointAt(s, i);
+            char c = s.charAt(i);
+            if (c < ASCII_LIMIT) {
+                // fast path for the common case of ASCII local names
+                int flags = ASCII_FLAGS[c];
+                if ((flags & NC_NAME_START) != 0) {
+                    index = i;
+                }
+                if ((flags & NC_NAME_CHAR) == 0) {
+                    break;
+                }
+            } else if (!Character.isLowSurrogate(c)) {
+                int codePoint = Character.isHighSurrogate(c) ? Character.codePointAt(s, i) : c;
                 if (isNCNameStartChar(codePoint)) {
                     index = i;
                 }
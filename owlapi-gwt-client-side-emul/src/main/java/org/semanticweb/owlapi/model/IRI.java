@@ -15,6 +15,7 @@ package org.semanticweb.owlapi.model;
 import com.google.common.base.Optional;
 import org.semanticweb.owlapi.io.XMLUtils;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.InterningCache;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
@@ -162,7 +163,10 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     }
 
     /**
-     * Creates an IRI from the specified String.
+     * Creates an IRI from the specified String. IRIs are interned, so that
+     * repeated calls with equal strings return the same instance for as long
+     * as that instance is in use; the string is only split into namespace and
+     * remainder the first time it is seen.
      *
      * @param str The String that specifies the IRI
      * @return The IRI that has the specified string representation.
@@ -170,12 +174,16 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     @Nonnull
     public static IRI create(@Nonnull String str) {
         checkNotNull(str, "str cannot be null");
+        IRI pooled = POOL.get(str);
+        if (pooled != null) {
+            return pooled;
+        }
         int index = XMLUtils.getNCNameSuffixIndex(str);
         if (index < 0) {
             // no ncname
-            return new IRI(str, "");
+            return POOL.intern(str, new IRI(str, "", str));
         }
-        return new IRI(str.substring(0, index), str.substring(index));
+        return POOL.intern(str, new IRI(str.substring(0, index), str.substring(index), str));
     }
 
     /**
@@ -211,7 +219,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
                 // the prefix does not contain an ncname character and there is
                 // no illegal character in the suffix
                 // the split is therefore correct
-                return new IRI(prefix, suffix);
+                return createFromSplit(prefix, suffix);
             }
             // otherwise the split is wrong; we could obtain the right split by
             // using index and test, but it's just as easy to use the other
@@ -224,6 +232,23 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     // public creation
     private static final long serialVersionUID = 40000L;
 
+    /**
+     * The maximum number of IRIs interned in compiled JavaScript. On the JVM
+     * interned IRIs are weakly referenced and the pool is not bounded.
+     */
+    private static final int CLIENT_POOL_SIZE = 100000;
+
+    /** Interned IRIs keyed by their full string. */
+    @Nonnull
+    private static final InterningCache<String, IRI> POOL = new InterningCache<>(CLIENT_POOL_SIZE);
+
+    /**
+     * The same IRIs keyed by their namespace and remainder, so that IRIs that
+     * arrive already split are found without building their full string.
+     */
+    @Nonnull
+    private static final InterningCache<Split, IRI> SPLIT_POOL = new InterningCache<>(CLIENT_POOL_SIZE);
+
 
     @Nonnull
     private final String remainder;
@@ -231,6 +256,17 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     @Nonnull
     private final String namespace;
 
+    /**
+     * Computed once; strings do not cache their hash codes in JavaScript. Not
+     * serialized, so that IRIs serialized by earlier versions are read with a
+     * correct hash code; recomputed on first use after deserialization.
+     */
+    private transient int hashCode;
+
+    /** The full IRI string, built on first use. */
+    @Nullable
+    private transient String fullIRI;
+
     /**
      * Constructs an IRI which is built from the concatenation of the specified
      * prefix and suffix.
@@ -239,8 +275,85 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @param suffix The suffix.
      */
     protected IRI(@Nonnull String prefix, @Nullable String suffix) {
+        this(prefix, suffix, null);
+    }
+
+    /**
+     * @param prefix The prefix.
+     * @param suffix The suffix.
+     * @param full The concatenation of prefix and suffix, if already known.
+     */
+    private IRI(@Nonnull String prefix, @Nullable String suffix, @Nullable String full) {
         namespace = prefix;
         remainder = suffix == null ? "" : suffix;
+        hashCode = namespace.hashCode() + remainder.hashCode();
+        fullIRI = full;
+    }
+
+    /**
+     * Creates an IRI from a namespace and remainder that were split by
+     * {@link #create(String)}, for example by the sender of a serialized IRI.
+     * The IRI is interned like IRIs created from strings, but the string is
+     * not split again.
+     *
+     * @param namespace The namespace of the IRI.
+     * @param remainder The remainder of the IRI, possibly empty.
+     * @return The interned IRI.
+     */
+    @Nonnull
+    static IRI createFromSplit(@Nonnull String namespace, @Nonnull String remainder) {
+        IRI pooled = SPLIT_POOL.get(new Split(namespace, remainder));
+        if (pooled != null) {
+            return pooled;
+        }
+        String full = namespace + remainder;
+        pooled = POOL.get(full);
+        if (pooled == null) {
+            pooled = POOL.intern(full, new IRI(namespace, remainder, full));
+        }
+        if (pooled.namespace.equals(namespace) && pooled.remainder.equals(remainder)) {
+            // key on the strings of the interned IRI, so that the key keeps no other strings alive
+            return SPLIT_POOL.intern(new Split(pooled.namespace, pooled.remainder), pooled);
+        }
+        return SPLIT_POOL.intern(new Split(namespace, remainder), pooled);
+    }
+
+    /** Key of {@link #SPLIT_POOL}; it does not refer to the IRI, so that the IRI can be evicted. */
+    private static final class Split {
+
+        @Nonnull
+        private final String namespace;
+        @Nonnull
+        private final String remainder;
+
+        Split(@Nonnull String namespace, @Nonnull String remainder) {
+            this.namespace = namespace;
+            this.remainder = remainder;
+        }
+
+        @Override
+        public int hashCode() {
+            return namespace.hashCode() * 31 + remainder.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Split)) {
+                return false;
+            }
+            Split other = (Split) obj;
+            return remainder.equals(other.remainder) && namespace.equals(other.namespace);
+        }
+    }
+
+    /**
+     * @return the interned IRI with the same namespace and remainder
+     */
+    protected Object readResolve() {
+        return createFromSplit(namespace, remainder);
     }
 
     /**
@@ -412,12 +525,22 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         if (remainder.isEmpty()) {
             return namespace;
         }
-        return namespace + remainder;
+        String full = fullIRI;
+        if (full == null) {
+            full = namespace + remainder;
+            fullIRI = full;
+        }
+        return full;
     }
 
     @Override
     public int hashCode() {
-        return namespace.hashCode() + remainder.hashCode();
+        int h = hashCode;
+        if (h == 0) {
+            h = namespace.hashCode() + remainder.hashCode();
+            hashCode = h;
+        }
+        return h;
     }
 
     @Override
@@ -467,6 +590,9 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             return false;
         }
         IRI other = (IRI) obj;
+        if (hashCode() != other.hashCode()) {
+            return false;
+        }
         return remainder.equals(other.remainder) && other.namespace.equals(namespace);
     }
 }
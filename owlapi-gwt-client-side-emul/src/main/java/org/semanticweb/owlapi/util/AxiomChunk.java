@@ -0,0 +1,169 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * A bounded run of consecutive axioms from a larger list, for sending a large
+ * collection of axioms over GWT RPC in several small responses rather than one
+ * large one. The server answers each request with the chunk at the requested
+ * offset; the client can use the axioms of each chunk as soon as it arrives,
+ * and requests the chunk at {@link #getNextOffset()} until
+ * {@link #isLast()}. Only one chunk of the collection is held in a
+ * serialization buffer at a time. {@link AxiomChunkAssembler} collects the
+ * chunks of a collection on the client.
+ * <p>
+ * A chunk created on the server is a view of the list it was taken from,
+ * which must not change while chunks are being sent.
+ *
+ * @since 4.3.2.1
+ */
+public class AxiomChunk implements Serializable {
+
+    private static final long serialVersionUID = 40000L;
+    /** Default maximum number of axioms in a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    private final int offset;
+    private final int totalSize;
+    @Nonnull
+    private final List<OWLAxiom> axioms;
+
+    /**
+     * @param offset
+     *        position of the first axiom of this chunk in the whole list
+     * @param totalSize
+     *        size of the whole list
+     * @param axioms
+     *        the axioms of this chunk; not copied
+     */
+    public AxiomChunk(int offset, int totalSize, @Nonnull List<? extends OWLAxiom> axioms) {
+        checkNotNull(axioms, "axioms cannot be null");
+        if (offset < 0 || offset > totalSize - axioms.size()) {
+            throw new IllegalArgumentException("chunk of " + axioms.size() + " axioms at offset " + offset
+                + " does not fit in a list of " + totalSize);
+        }
+        this.offset = offset;
+        this.totalSize = totalSize;
+        this.axioms = Collections.unmodifiableList(axioms);
+    }
+
+    /**
+     * @param axioms
+     *        the whole list of axioms
+     * @param offset
+     *        position of the first axiom of the chunk; between 0 and the size
+     *        of the list
+     * @param maxSize
+     *        maximum number of axioms in the chunk
+     * @return the chunk of at most {@code maxSize} axioms of the list starting
+     *         at {@code offset}
+     */
+    @Nonnull
+    public static AxiomChunk of(@Nonnull List<? extends OWLAxiom> axioms, int offset, int maxSize) {
+        checkNotNull(axioms, "axioms cannot be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        int size = axioms.size();
+        if (offset < 0 || offset > size) {
+            throw new IndexOutOfBoundsException("offset " + offset + " is outside a list of " + size);
+        }
+        return new AxiomChunk(offset, size, axioms.subList(offset, Math.min(size, offset + maxSize)));
+    }
+
+    /**
+     * @param axioms
+     *        the whole list of axioms
+     * @param offset
+     *        position of the first axiom of the chunk
+     * @return the chunk of at most {@link #DEFAULT_CHUNK_SIZE} axioms of the
+     *         list starting at {@code offset}
+     */
+    @Nonnull
+    public static AxiomChunk of(@Nonnull List<? extends OWLAxiom> axioms, int offset) {
+        return of(axioms, offset, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @return position of the first axiom of this chunk in the whole list
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return size of the whole list
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * @return the axioms of this chunk, in list order
+     */
+    @Nonnull
+    public List<OWLAxiom> getAxioms() {
+        return axioms;
+    }
+
+    /**
+     * @return offset of the chunk that follows this one
+     */
+    public int getNextOffset() {
+        return offset + axioms.size();
+    }
+
+    /**
+     * @return true if this chunk ends the list
+     */
+    public boolean isLast() {
+        return getNextOffset() >= totalSize;
+    }
+
+    /** Sublist views are not serializable; Java serialization writes a copy. */
+    private Object writeReplace() {
+        return new AxiomChunk(offset, totalSize, new ArrayList<>(axioms));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof AxiomChunk)) {
+            return false;
+        }
+        AxiomChunk other = (AxiomChunk) obj;
+        return offset == other.offset && totalSize == other.totalSize && axioms.equals(other.axioms);
+    }
+
+    @Override
+    public int hashCode() {
+        return (offset * 31 + totalSize) * 31 + axioms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AxiomChunk(" + offset + ".." + getNextOffset() + " of " + totalSize + ')';
+    }
+}
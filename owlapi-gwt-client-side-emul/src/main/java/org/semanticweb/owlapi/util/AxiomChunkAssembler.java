@@ -0,0 +1,81 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * Collects the {@link AxiomChunk}s of a list of axioms as they arrive, in
+ * order, into a list sized for the whole collection when the first chunk
+ * arrives.
+ *
+ * @since 4.3.2.1
+ */
+public class AxiomChunkAssembler {
+
+    @Nonnull
+    private List<OWLAxiom> axioms = Collections.emptyList();
+    private int totalSize = -1;
+
+    /**
+     * @param chunk
+     *        the next chunk; its offset must be {@link #getNextOffset()}
+     * @return the axioms of the chunk, for incremental processing
+     * @throws IllegalArgumentException
+     *         if the chunk is out of order or from a list of a different size
+     */
+    @Nonnull
+    public List<OWLAxiom> add(@Nonnull AxiomChunk chunk) {
+        checkNotNull(chunk, "chunk cannot be null");
+        if (totalSize < 0) {
+            totalSize = chunk.getTotalSize();
+            axioms = new ArrayList<>(totalSize);
+        }
+        if (chunk.getOffset() != axioms.size() || chunk.getTotalSize() != totalSize) {
+            throw new IllegalArgumentException("expected a chunk at offset " + axioms.size() + " of " + totalSize
+                + ", received " + chunk);
+        }
+        axioms.addAll(chunk.getAxioms());
+        return chunk.getAxioms();
+    }
+
+    /**
+     * @return offset of the next chunk to request
+     */
+    public int getNextOffset() {
+        return axioms.size();
+    }
+
+    /**
+     * @return true once all chunks have been added
+     */
+    public boolean isComplete() {
+        return totalSize >= 0 && axioms.size() == totalSize;
+    }
+
+    /**
+     * @return the axioms received so far, in list order
+     */
+    @Nonnull
+    public List<OWLAxiom> getAxioms() {
+        return Collections.unmodifiableList(axioms);
+    }
+}
@@ -0,0 +1,134 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+/**
+ * A short form provider that remembers the short forms produced by another
+ * provider, so that an entity or IRI that occurs many times in a rendering is
+ * shortened once. At most {@code capacity} entities and {@code capacity} IRIs
+ * are remembered; the least recently used ones are forgotten first.
+ * <p>
+ * The cached short forms are not updated when the delegate changes, for
+ * example when a prefix is set on a prefix manager; whoever changes the
+ * delegate must call {@link #clear()}.
+ *
+ * @since 4.3.2.1
+ */
+public class CachingShortFormProvider implements ShortFormProvider,
+        IRIShortFormProvider {
+
+    private static final long serialVersionUID = 40000L;
+    /** the default number of short forms remembered for entities and IRIs */
+    public static final int DEFAULT_CAPACITY = 4096;
+    @Nonnull
+    private final ShortFormProvider delegate;
+    @Nonnull
+    private final IRIShortFormProvider iriDelegate;
+    @Nonnull
+    private final Map<OWLEntity, String> entityShortForms;
+    @Nonnull
+    private final Map<IRI, String> iriShortForms;
+
+    /**
+     * @param delegate
+     *        provider for entity and IRI short forms, such as a
+     *        {@link DefaultPrefixManager}
+     * @param <P>
+     *        provider type
+     */
+    public <P extends ShortFormProvider & IRIShortFormProvider> CachingShortFormProvider(
+            @Nonnull P delegate) {
+        this(delegate, delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate
+     *        provider for entity short forms
+     * @param iriDelegate
+     *        provider for IRI short forms
+     * @param capacity
+     *        the number of entity short forms and the number of IRI short
+     *        forms to remember
+     */
+    public CachingShortFormProvider(@Nonnull ShortFormProvider delegate,
+            @Nonnull IRIShortFormProvider iriDelegate, int capacity) {
+        this.delegate = checkNotNull(delegate, "delegate cannot be null");
+        this.iriDelegate = checkNotNull(iriDelegate,
+                "iriDelegate cannot be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "capacity must be positive: " + capacity);
+        }
+        entityShortForms = new BoundedMap<>(capacity);
+        iriShortForms = new BoundedMap<>(capacity);
+    }
+
+    @Override
+    public String getShortForm(OWLEntity entity) {
+        String shortForm = entityShortForms.get(entity);
+        if (shortForm == null) {
+            shortForm = delegate.getShortForm(entity);
+            entityShortForms.put(entity, shortForm);
+        }
+        return shortForm;
+    }
+
+    @Override
+    public String getShortForm(IRI iri) {
+        String shortForm = iriShortForms.get(iri);
+        if (shortForm == null) {
+            shortForm = iriDelegate.getShortForm(iri);
+            iriShortForms.put(iri, shortForm);
+        }
+        return shortForm;
+    }
+
+    /** Forgets all cached short forms. */
+    public void clear() {
+        entityShortForms.clear();
+        iriShortForms.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        delegate.dispose();
+    }
+
+    /** A map in access order that drops its eldest entry when full. */
+    private static class BoundedMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 40000L;
+        private final int capacity;
+
+        BoundedMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -373,6 +373,16 @@ public class CollectionFactory {
             }
         }
 
+        /**
+         * @return the collection that read-only operations are delegated to;
+         *         this is the source collection until a change is attempted.
+         *         It must not be modified.
+         */
+        @Nonnull
+        public Collection<T> getDelegate() {
+            return delegate;
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (obj == null) {
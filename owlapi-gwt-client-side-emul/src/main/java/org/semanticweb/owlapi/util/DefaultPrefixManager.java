@@ -36,6 +36,8 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
     @Nonnull private Map<String, String> prefix2NamespaceMap;
     @Nonnull private final Map<String, String> reverseprefix2NamespaceMap = new HashMap<>();
     @Nonnull private StringComparator comparator;
+    /** index of the namespaces in reverseprefix2NamespaceMap, rebuilt after changes */
+    @Nullable private transient NamespaceTrie namespaceTrie;
 
     /**
      * @param defaultPrefix
@@ -92,6 +94,7 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
     public void clear() {
         prefix2NamespaceMap.clear();
         reverseprefix2NamespaceMap.clear();
+        namespaceTrie = null;
     }
 
     @Override
@@ -119,16 +122,36 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
         prefix2NamespaceMap.put(":", defaultPrefix);
         if (!reverseprefix2NamespaceMap.containsKey(defaultPrefix)) {
             reverseprefix2NamespaceMap.put(defaultPrefix, ":");
+            namespaceTrie = null;
         }
     }
 
+    /**
+     * Abbreviates an IRI with the longest registered namespace that the
+     * namespace of the IRI starts with. Namespaces that end inside the local
+     * name of the IRI, or inside a path segment of its namespace, are not
+     * used: a namespace ending in {@code /}, {@code #} or {@code :} matches
+     * any IRI it starts, other namespaces only match if the IRI continues
+     * with one of those characters. The rest of the namespace is kept in the
+     * local name without escaping, so {@code ex:a/b#C} is meant for display;
+     * {@link #getIRI(String)} reads it back, but it is not a valid Turtle or
+     * SPARQL prefixed name.
+     */
     @Override
     public String getPrefixIRI(IRI iri) {
-        String prefix = reverseprefix2NamespaceMap.get(iri.getNamespace());
-        if (prefix == null) {
+        String namespace = iri.getNamespace();
+        String prefix = reverseprefix2NamespaceMap.get(namespace);
+        if (prefix != null) {
+            return iri.prefixedBy(prefix);
+        }
+        if (namespaceTrie == null) {
+            namespaceTrie = new NamespaceTrie(reverseprefix2NamespaceMap);
+        }
+        NamespaceTrie match = namespaceTrie.longestMatch(namespace);
+        if (match == null) {
             return null;
         }
-        return iri.prefixedBy(prefix);
+        return iri.prefixedBy(match.prefixName + namespace.substring(match.depth));
     }
 
     @Override
@@ -196,6 +219,7 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
         }
         prefix2NamespaceMap.put(_prefixName, prefix);
         reverseprefix2NamespaceMap.put(prefix, _prefixName);
+        namespaceTrie = null;
     }
 
     @Override
@@ -207,6 +231,7 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
             }
         }
         reverseprefix2NamespaceMap.remove(namespace);
+        namespaceTrie = null;
         for (String s : toRemove) {
             prefix2NamespaceMap.remove(s);
         }
@@ -229,4 +254,88 @@ public class DefaultPrefixManager implements PrefixManager, ShortFormProvider, I
 
     @Override
     public void dispose() {}
+
+    /**
+     * A node of a trie of namespaces, with one edge per character; a node
+     * whose prefix name is not null ends a namespace. Looking up the longest
+     * namespace that starts a string takes one step per character of the
+     * string, however many namespaces are registered. Only namespaces that
+     * end at a segment boundary of the string are matched.
+     */
+    private static class NamespaceTrie {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final NamespaceTrie[] NO_CHILDREN = new NamespaceTrie[0];
+        final int depth;
+        @Nullable String prefixName;
+        private char[] labels = NO_LABELS;
+        private NamespaceTrie[] children = NO_CHILDREN;
+        private int size;
+
+        NamespaceTrie(Map<String, String> namespace2PrefixName) {
+            this(0);
+            for (Map.Entry<String, String> e : namespace2PrefixName.entrySet()) {
+                NamespaceTrie node = this;
+                String namespace = e.getKey();
+                for (int i = 0; i < namespace.length(); i++) {
+                    node = node.childOrAdd(namespace.charAt(i));
+                }
+                node.prefixName = e.getValue();
+            }
+        }
+
+        private NamespaceTrie(int depth) {
+            this.depth = depth;
+        }
+
+        @Nullable
+        private NamespaceTrie child(char c) {
+            for (int i = 0; i < size; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private NamespaceTrie childOrAdd(char c) {
+            NamespaceTrie child = child(c);
+            if (child == null) {
+                if (size == labels.length) {
+                    int capacity = Math.max(2, size * 2);
+                    labels = Arrays.copyOf(labels, capacity);
+                    children = Arrays.copyOf(children, capacity);
+                }
+                child = new NamespaceTrie(depth + 1);
+                labels[size] = c;
+                children[size++] = child;
+            }
+            return child;
+        }
+
+        /**
+         * @param s
+         *        string to match
+         * @return the node of the longest namespace that {@code s} starts
+         *         with at a segment boundary, or null if there is none
+         */
+        @Nullable
+        NamespaceTrie longestMatch(String s) {
+            NamespaceTrie match = prefixName == null ? null : this;
+            NamespaceTrie node = this;
+            for (int i = 0; i < s.length() && node != null; i++) {
+                char c = s.charAt(i);
+                node = node.child(c);
+                if (node != null && node.prefixName != null
+                    && (isSeparator(c) || i + 1 == s.length() || isSeparator(s.charAt(i + 1)))) {
+                    match = node;
+                }
+            }
+            return match;
+        }
+
+        private static boolean isSeparator(char c) {
+            return c == '/' || c == '#' || c == ':';
+        }
+    }
 }
@@ -12,9 +12,18 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.util;
 
-import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.*;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -49,6 +58,7 @@ import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
@@ -104,6 +114,14 @@ import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
 
 /**
+ * Computes structural hash codes. Children that cache their hash code
+ * ({@link HasCachedHashCode}) contribute the cached value; children that have
+ * not been hashed yet are not recursed into, but hashed first from an explicit
+ * stack, deepest first, so that hashing a deeply nested expression for the
+ * first time needs no more call stack than hashing a shallow one. Collections
+ * are hashed element by element, with the same value as their own
+ * {@code hashCode()}.
+ *
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
  * @since 2.0.0
@@ -111,8 +129,14 @@ import org.semanticweb.owlapi.model.SWRLVariable;
 public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
 
     private int hashCode;
+    /** uncached children found while visiting, above the objects waiting for them */
+    @Nullable
+    private Deque<OWLObject> pending;
+    /** objects whose hash code is 0, and therefore never look cached */
+    @Nullable
+    private Map<OWLObject, Boolean> zeroHashes;
     private static final int MULT = 31;
-    private static final int[] primes = { 37,// 37 41 43 47 53 59 61 67 71
+    static final int[] primes = { 37,// 37 41 43 47 53 59 61 67 71
             73,// 79 83 89 97 101 103 107 109 113
             127,// 131 137 139 149 151 157 163 167 173
             179,// 181 191 193 197 199 211 223 227 229
@@ -222,441 +246,535 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         checkNotNull(object, "object cannot be null");
         HashCode hashCode = new HashCode();
         object.accept(hashCode);
-        return hashCode.hashCode;
+        if (hashCode.pending == null) {
+            return hashCode.hashCode;
+        }
+        return hashCode.resolvePending(object);
+    }
+
+    /**
+     * Hashes the uncached children found while visiting the root, then visits
+     * the root again. An object on top of the stack is visited; if it has no
+     * uncached children left, its hash code is computed and cached, otherwise
+     * its children are pushed above it.
+     */
+    private int resolvePending(@Nonnull OWLObject root) {
+        Deque<OWLObject> stack = verifyNotNull(pending);
+        stack.addLast(root);
+        while (true) {
+            OWLObject top = verifyNotNull(stack.peekFirst());
+            int size = stack.size();
+            top.accept(this);
+            if (stack.size() == size) {
+                stack.removeFirst();
+                if (stack.isEmpty()) {
+                    return hashCode;
+                }
+                // all children are cached, so this does not recurse
+                if (top.hashCode() == 0) {
+                    Map<OWLObject, Boolean> zeros = zeroHashes;
+                    if (zeros == null) {
+                        zeros = new IdentityHashMap<>();
+                        zeroHashes = zeros;
+                    }
+                    zeros.put(top, Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param object
+     *        the object to check
+     * @return true if the hash code of the object does not depend on other
+     *         objects that cache their hash codes, so that it can be computed
+     *         directly
+     */
+    static boolean isLeaf(@Nonnull OWLObject object) {
+        return object instanceof OWLEntity || object instanceof OWLLiteral || object instanceof OWLAnonymousIndividual
+            || object instanceof SWRLVariable;
+    }
+
+    private int hash(@Nonnull OWLObject object) {
+        if (object instanceof HasCachedHashCode && !((HasCachedHashCode) object).isHashCodeCached()
+            && !isLeaf(object) && !isZeroHash(object)) {
+            Deque<OWLObject> stack = pending;
+            if (stack == null) {
+                stack = new ArrayDeque<>();
+                pending = stack;
+            }
+            stack.addFirst(object);
+            // the value is not used: the object is visited again once this
+            // child has been hashed
+            return 0;
+        }
+        return object.hashCode();
+    }
+
+    private boolean isZeroHash(@Nonnull OWLObject object) {
+        Map<OWLObject, Boolean> zeros = zeroHashes;
+        return zeros != null && zeros.containsKey(object);
+    }
+
+    /**
+     * Same value as {@link List#hashCode()} or {@link Set#hashCode()}, but
+     * without recursing into uncached elements. Copy on request sets hash
+     * like the collection they wrap.
+     */
+    private int hash(@Nonnull Collection<? extends OWLObject> objects) {
+        Collection<?> source = objects;
+        if (objects instanceof CollectionFactory.ConditionalCopySet) {
+            source = ((CollectionFactory.ConditionalCopySet<?>) objects).delegate;
+        }
+        if (source instanceof List) {
+            int h = 1;
+            for (Object object : source) {
+                h = MULT * h + hash((OWLObject) object);
+            }
+            return h;
+        }
+        if (source instanceof Set) {
+            int h = 0;
+            for (Object object : source) {
+                h += hash((OWLObject) object);
+            }
+            return h;
+        }
+        return source.hashCode();
     }
 
     @Override
     public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
         hashCode = primes[0];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLClassAssertionAxiom axiom) {
         hashCode = primes[1];
-        hashCode = hashCode * MULT + axiom.getIndividual().hashCode();
-        hashCode = hashCode * MULT + axiom.getClassExpression().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getIndividual());
+        hashCode = hashCode * MULT + hash(axiom.getClassExpression());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDataPropertyAssertionAxiom axiom) {
         hashCode = primes[2];
-        hashCode = hashCode * MULT + axiom.getSubject().hashCode();
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getObject().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubject());
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getObject());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDataPropertyDomainAxiom axiom) {
         hashCode = primes[3];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getDomain().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getDomain());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDataPropertyRangeAxiom axiom) {
         hashCode = primes[4];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getRange().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getRange());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSubDataPropertyOfAxiom axiom) {
         hashCode = primes[5];
-        hashCode = hashCode * MULT + axiom.getSubProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getSuperProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubProperty());
+        hashCode = hashCode * MULT + hash(axiom.getSuperProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDeclarationAxiom axiom) {
         hashCode = primes[6];
-        hashCode = hashCode * MULT + axiom.getEntity().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getEntity());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDifferentIndividualsAxiom axiom) {
         hashCode = primes[7];
-        hashCode = hashCode * MULT + axiom.getIndividuals().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getIndividuals());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDisjointClassesAxiom axiom) {
         hashCode = primes[8];
-        hashCode = hashCode * MULT + axiom.getClassExpressions().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getClassExpressions());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDisjointDataPropertiesAxiom axiom) {
         hashCode = primes[9];
-        hashCode = hashCode * MULT + axiom.getProperties().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperties());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
         hashCode = primes[10];
-        hashCode = hashCode * MULT + axiom.getProperties().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperties());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLDisjointUnionAxiom axiom) {
         hashCode = primes[11];
-        hashCode = hashCode * MULT + axiom.getOWLClass().hashCode();
-        hashCode = hashCode * MULT + axiom.getClassExpressions().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getOWLClass());
+        hashCode = hashCode * MULT + hash(axiom.getClassExpressions());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLAnnotationAssertionAxiom axiom) {
         hashCode = primes[12];
-        hashCode = hashCode * MULT + axiom.getSubject().hashCode();
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getValue().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubject());
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getValue());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLEquivalentClassesAxiom axiom) {
         hashCode = primes[13];
-        hashCode = hashCode * MULT + axiom.getClassExpressions().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getClassExpressions());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
         hashCode = primes[14];
-        hashCode = hashCode * MULT + axiom.getProperties().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperties());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
         hashCode = primes[15];
-        hashCode = hashCode * MULT + axiom.getProperties().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperties());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLFunctionalDataPropertyAxiom axiom) {
         hashCode = primes[16];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
         hashCode = primes[17];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
         hashCode = primes[18];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLInverseObjectPropertiesAxiom axiom) {
         hashCode = primes[19];
-        hashCode = hashCode * MULT + axiom.getFirstProperty().hashCode()
-                + axiom.getSecondProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getFirstProperty())
+                + hash(axiom.getSecondProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
         hashCode = primes[20];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
         hashCode = primes[21];
-        hashCode = hashCode * MULT + axiom.getSubject().hashCode();
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getObject().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubject());
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getObject());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
         hashCode = primes[22];
-        hashCode = hashCode * MULT + axiom.getSubject().hashCode();
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getObject().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubject());
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getObject());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLObjectPropertyAssertionAxiom axiom) {
         hashCode = primes[23];
-        hashCode = hashCode * MULT + axiom.getSubject().hashCode();
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getObject().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubject());
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getObject());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSubPropertyChainOfAxiom axiom) {
         hashCode = primes[24];
-        hashCode = hashCode * MULT + axiom.getPropertyChain().hashCode();
-        hashCode = hashCode * MULT + axiom.getSuperProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getPropertyChain());
+        hashCode = hashCode * MULT + hash(axiom.getSuperProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLObjectPropertyDomainAxiom axiom) {
         hashCode = primes[25];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getDomain().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getDomain());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLObjectPropertyRangeAxiom axiom) {
         hashCode = primes[26];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getRange().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getRange());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSubObjectPropertyOfAxiom axiom) {
         hashCode = primes[27];
-        hashCode = hashCode * MULT + axiom.getSubProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getSuperProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubProperty());
+        hashCode = hashCode * MULT + hash(axiom.getSuperProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
         hashCode = primes[28];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSameIndividualAxiom axiom) {
         hashCode = primes[29];
-        hashCode = hashCode * MULT + axiom.getIndividuals().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getIndividuals());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSubClassOfAxiom axiom) {
         hashCode = primes[30];
-        hashCode = hashCode * MULT + axiom.getSubClass().hashCode();
-        hashCode = hashCode * MULT + axiom.getSuperClass().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubClass());
+        hashCode = hashCode * MULT + hash(axiom.getSuperClass());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
         hashCode = primes[31];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
         hashCode = primes[32];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getAnnotations());
     }
 
     @Override
     public void visit(OWLClass ce) {
         hashCode = primes[33];
-        hashCode = hashCode * MULT + ce.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getIRI());
     }
 
     @Override
     public void visit(OWLDataAllValuesFrom ce) {
         hashCode = primes[34];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataExactCardinality ce) {
         hashCode = primes[35];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataMaxCardinality ce) {
         hashCode = primes[36];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataMinCardinality ce) {
         hashCode = primes[37];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataSomeValuesFrom ce) {
         hashCode = primes[38];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataHasValue ce) {
         hashCode = primes[39];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectAllValuesFrom ce) {
         hashCode = primes[40];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectComplementOf ce) {
         hashCode = primes[41];
-        hashCode = hashCode * MULT + ce.getOperand().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getOperand());
     }
 
     @Override
     public void visit(OWLObjectExactCardinality ce) {
         hashCode = primes[42];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectIntersectionOf ce) {
         hashCode = primes[43];
-        hashCode = hashCode * MULT + ce.getOperands().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getOperands());
     }
 
     @Override
     public void visit(OWLObjectMaxCardinality ce) {
         hashCode = primes[44];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectMinCardinality ce) {
         hashCode = primes[45];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
         hashCode = hashCode * MULT + ce.getCardinality();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectOneOf ce) {
         hashCode = primes[46];
-        hashCode = hashCode * MULT + ce.getIndividuals().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getIndividuals());
     }
 
     @Override
     public void visit(OWLObjectHasSelf ce) {
         hashCode = primes[47];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
     }
 
     @Override
     public void visit(OWLObjectSomeValuesFrom ce) {
         hashCode = primes[48];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLObjectUnionOf ce) {
         hashCode = primes[49];
-        hashCode = hashCode * MULT + ce.getOperands().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getOperands());
     }
 
     @Override
     public void visit(OWLObjectHasValue ce) {
         hashCode = primes[50];
-        hashCode = hashCode * MULT + ce.getProperty().hashCode();
-        hashCode = hashCode * MULT + ce.getFiller().hashCode();
+        hashCode = hashCode * MULT + hash(ce.getProperty());
+        hashCode = hashCode * MULT + hash(ce.getFiller());
     }
 
     @Override
     public void visit(OWLDataComplementOf node) {
         hashCode = primes[51];
-        hashCode = hashCode * MULT + node.getDataRange().hashCode();
+        hashCode = hashCode * MULT + hash(node.getDataRange());
     }
 
     @Override
     public void visit(OWLDataOneOf node) {
         hashCode = primes[52];
-        hashCode = hashCode * MULT + node.getValues().hashCode();
+        hashCode = hashCode * MULT + hash(node.getValues());
     }
 
     @Override
     public void visit(OWLDatatype node) {
         hashCode = primes[53];
-        hashCode = hashCode * MULT + node.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(node.getIRI());
     }
 
     @Override
     public void visit(OWLDatatypeRestriction node) {
         hashCode = primes[54];
-        hashCode = hashCode * MULT + node.getDatatype().hashCode();
-        hashCode = hashCode * MULT + node.getFacetRestrictions().hashCode();
+        hashCode = hashCode * MULT + hash(node.getDatatype());
+        hashCode = hashCode * MULT + hash(node.getFacetRestrictions());
     }
 
     @Override
     public void visit(OWLDataProperty property) {
         hashCode = primes[55];
-        hashCode = hashCode * MULT + property.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(property.getIRI());
     }
 
     @Override
     public void visit(OWLObjectProperty property) {
         hashCode = primes[56];
-        hashCode = hashCode * MULT + property.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(property.getIRI());
     }
 
     @Override
     public void visit(OWLObjectInverseOf property) {
         hashCode = primes[57];
-        hashCode = hashCode * MULT + property.getInverse().hashCode();
+        hashCode = hashCode * MULT + hash(property.getInverse());
     }
 
     @Override
     public void visit(OWLNamedIndividual individual) {
         hashCode = primes[58];
-        hashCode = hashCode * MULT + individual.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(individual.getIRI());
     }
 
     @Override
     public void visit(OWLFacetRestriction node) {
         hashCode = primes[59];
         hashCode = hashCode * MULT + node.getFacet().hashCode();
-        hashCode = hashCode * MULT + node.getFacetValue().hashCode();
+        hashCode = hashCode * MULT + hash(node.getFacetValue());
     }
 
     @Override
@@ -667,123 +785,123 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
     @Override
     public void visit(SWRLRule rule) {
         hashCode = primes[61];
-        hashCode = hashCode * MULT + rule.getBody().hashCode();
-        hashCode = hashCode * MULT + rule.getHead().hashCode();
+        hashCode = hashCode * MULT + hash(rule.getBody());
+        hashCode = hashCode * MULT + hash(rule.getHead());
     }
 
     @Override
     public void visit(SWRLClassAtom node) {
         hashCode = primes[62];
-        hashCode = hashCode * MULT + node.getArgument().hashCode();
-        hashCode = hashCode * MULT + node.getPredicate().hashCode();
+        hashCode = hashCode * MULT + hash(node.getArgument());
+        hashCode = hashCode * MULT + hash(node.getPredicate());
     }
 
     @Override
     public void visit(SWRLDataRangeAtom node) {
         hashCode = primes[63];
-        hashCode = hashCode * MULT + node.getArgument().hashCode();
-        hashCode = hashCode * MULT + node.getPredicate().hashCode();
+        hashCode = hashCode * MULT + hash(node.getArgument());
+        hashCode = hashCode * MULT + hash(node.getPredicate());
     }
 
     @Override
     public void visit(SWRLObjectPropertyAtom node) {
         hashCode = primes[64];
-        hashCode = hashCode * MULT + node.getFirstArgument().hashCode();
-        hashCode = hashCode * MULT + node.getSecondArgument().hashCode();
-        hashCode = hashCode * MULT + node.getPredicate().hashCode();
+        hashCode = hashCode * MULT + hash(node.getFirstArgument());
+        hashCode = hashCode * MULT + hash(node.getSecondArgument());
+        hashCode = hashCode * MULT + hash(node.getPredicate());
     }
 
     @Override
     public void visit(SWRLDataPropertyAtom node) {
         hashCode = primes[65];
-        hashCode = hashCode * MULT + node.getFirstArgument().hashCode();
-        hashCode = hashCode * MULT + node.getSecondArgument().hashCode();
-        hashCode = hashCode * MULT + node.getPredicate().hashCode();
+        hashCode = hashCode * MULT + hash(node.getFirstArgument());
+        hashCode = hashCode * MULT + hash(node.getSecondArgument());
+        hashCode = hashCode * MULT + hash(node.getPredicate());
     }
 
     @Override
     public void visit(SWRLBuiltInAtom node) {
         hashCode = primes[66];
-        hashCode = hashCode * MULT + node.getAllArguments().hashCode();
-        hashCode = hashCode * MULT + node.getPredicate().hashCode();
+        hashCode = hashCode * MULT + hash(node.getAllArguments());
+        hashCode = hashCode * MULT + hash(node.getPredicate());
     }
 
     @Override
     public void visit(SWRLVariable node) {
         hashCode = primes[67];
-        hashCode = hashCode * MULT + node.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(node.getIRI());
     }
 
     @Override
     public void visit(SWRLIndividualArgument node) {
         hashCode = primes[68];
-        hashCode = hashCode * MULT + node.getIndividual().hashCode();
+        hashCode = hashCode * MULT + hash(node.getIndividual());
     }
 
     @Override
     public void visit(SWRLLiteralArgument node) {
         hashCode = primes[69];
-        hashCode = hashCode * MULT + node.getLiteral().hashCode();
+        hashCode = hashCode * MULT + hash(node.getLiteral());
     }
 
     @Override
     public void visit(SWRLDifferentIndividualsAtom node) {
         hashCode = primes[70];
-        hashCode = hashCode * MULT + node.getFirstArgument().hashCode();
-        hashCode = hashCode * MULT + node.getSecondArgument().hashCode();
+        hashCode = hashCode * MULT + hash(node.getFirstArgument());
+        hashCode = hashCode * MULT + hash(node.getSecondArgument());
     }
 
     @Override
     public void visit(SWRLSameIndividualAtom node) {
         hashCode = primes[71];
-        hashCode = hashCode * MULT + node.getFirstArgument().hashCode();
-        hashCode = hashCode * MULT + node.getSecondArgument().hashCode();
+        hashCode = hashCode * MULT + hash(node.getFirstArgument());
+        hashCode = hashCode * MULT + hash(node.getSecondArgument());
     }
 
     @Override
     public void visit(OWLHasKeyAxiom axiom) {
         hashCode = primes[72];
-        hashCode = hashCode * MULT + axiom.getClassExpression().hashCode();
-        hashCode = hashCode * MULT + axiom.getPropertyExpressions().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getClassExpression());
+        hashCode = hashCode * MULT + hash(axiom.getPropertyExpressions());
     }
 
     @Override
     public void visit(OWLAnnotationPropertyDomainAxiom axiom) {
         hashCode = primes[73];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getDomain().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getDomain());
     }
 
     @Override
     public void visit(OWLAnnotationPropertyRangeAxiom axiom) {
         hashCode = primes[74];
-        hashCode = hashCode * MULT + axiom.getProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getRange().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getProperty());
+        hashCode = hashCode * MULT + hash(axiom.getRange());
     }
 
     @Override
     public void visit(OWLSubAnnotationPropertyOfAxiom axiom) {
         hashCode = primes[75];
-        hashCode = hashCode * MULT + axiom.getSubProperty().hashCode();
-        hashCode = hashCode * MULT + axiom.getSuperProperty().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getSubProperty());
+        hashCode = hashCode * MULT + hash(axiom.getSuperProperty());
     }
 
     @Override
     public void visit(OWLDataIntersectionOf node) {
         hashCode = primes[76];
-        hashCode = hashCode * MULT + node.getOperands().hashCode();
+        hashCode = hashCode * MULT + hash(node.getOperands());
     }
 
     @Override
     public void visit(OWLDataUnionOf node) {
         hashCode = primes[77];
-        hashCode = hashCode * MULT + node.getOperands().hashCode();
+        hashCode = hashCode * MULT + hash(node.getOperands());
     }
 
     @Override
     public void visit(OWLAnnotationProperty property) {
         hashCode = primes[78];
-        hashCode = hashCode * MULT + property.getIRI().hashCode();
+        hashCode = hashCode * MULT + hash(property.getIRI());
     }
 
     @Override
@@ -801,14 +919,14 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
     @Override
     public void visit(OWLAnnotation node) {
         hashCode = primes[81];
-        hashCode = hashCode * MULT + node.getProperty().hashCode();
-        hashCode = hashCode * MULT + node.getValue().hashCode();
+        hashCode = hashCode * MULT + hash(node.getProperty());
+        hashCode = hashCode * MULT + hash(node.getValue());
     }
 
     @Override
     public void visit(OWLDatatypeDefinitionAxiom axiom) {
         hashCode = primes[82];
-        hashCode = hashCode * MULT + axiom.getDatatype().hashCode();
-        hashCode = hashCode * MULT + axiom.getDataRange().hashCode();
+        hashCode = hashCode * MULT + hash(axiom.getDatatype());
+        hashCode = hashCode * MULT + hash(axiom.getDataRange());
     }
 }
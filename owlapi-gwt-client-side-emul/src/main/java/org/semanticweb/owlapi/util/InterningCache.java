@@ -0,0 +1,120 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A cache that maps keys to a canonical value, so that equal objects built
+ * from equal keys are shared rather than duplicated. On the JVM the cache is
+ * concurrent and holds its values through weak references, so an entry is
+ * evicted as soon as nothing else refers to its value. Compiled GWT
+ * JavaScript has no weak references and is single threaded; there the cache
+ * is a plain map bounded to a maximum number of entries.
+ *
+ * @param <K>
+ *        key type
+ * @param <V>
+ *        value type
+ * @since 4.3.2.1
+ */
+public class InterningCache<K, V> {
+
+    @Nonnull
+    private final Cache<K, V> cache;
+
+    /**
+     * @param maximumClientSize
+     *        the maximum number of entries held by the map backed variant
+     *        used in compiled JavaScript; ignored on the JVM, where entries
+     *        are evicted when their values are no longer referenced
+     */
+    public InterningCache(long maximumClientSize) {
+        CacheBuilder<Object, Object> builder = new JvmPlatform().configure(CacheBuilder.newBuilder(),
+            maximumClientSize);
+        cache = builder.build();
+    }
+
+    /**
+     * @param key
+     *        the key to look up
+     * @return the canonical value for the key, or {@code null} if there is no
+     *         value cached for the key
+     */
+    @Nullable
+    public V get(@Nonnull K key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Makes a value the canonical value for a key, unless the key already has
+     * a canonical value.
+     *
+     * @param key
+     *        the key
+     * @param value
+     *        the candidate value
+     * @return the canonical value for the key; this is {@code value} unless
+     *         another value had already been interned for the key
+     */
+    @Nonnull
+    public V intern(@Nonnull K key, @Nonnull V value) {
+        checkNotNull(value, "value cannot be null");
+        V existing = cache.asMap().putIfAbsent(key, value);
+        if (existing == null) {
+            return value;
+        }
+        return existing;
+    }
+
+    /** Removes all entries from this cache. */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the approximate number of entries in this cache
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /** Configuration used when compiled to JavaScript. */
+    static class Platform {
+
+        CacheBuilder<Object, Object> configure(CacheBuilder<Object, Object> builder, long maximumClientSize) {
+            return builder.maximumSize(maximumClientSize);
+        }
+    }
+
+    /**
+     * Configuration used on the JVM. The GWT compiler strips the override, so
+     * that compiled JavaScript falls back to the map backed configuration of
+     * {@link Platform}.
+     */
+    static class JvmPlatform extends Platform {
+
+        @Override
+        @GwtIncompatible("weak references are not available in JavaScript")
+        CacheBuilder<Object, Object> configure(CacheBuilder<Object, Object> builder, long maximumClientSize) {
+            return builder.weakValues();
+        }
+    }
+}
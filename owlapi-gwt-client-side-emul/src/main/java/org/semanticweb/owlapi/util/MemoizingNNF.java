@@ -0,0 +1,681 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLDataComplementOf;
+import org.semanticweb.owlapi.model.OWLDataExactCardinality;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataIntersectionOf;
+import org.semanticweb.owlapi.model.OWLDataMaxCardinality;
+import org.semanticweb.owlapi.model.OWLDataMinCardinality;
+import org.semanticweb.owlapi.model.OWLDataOneOf;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataUnionOf;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNaryBooleanClassExpression;
+import org.semanticweb.owlapi.model.OWLNaryDataRange;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLObjectComplementOf;
+import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
+import org.semanticweb.owlapi.model.OWLObjectHasSelf;
+import org.semanticweb.owlapi.model.OWLObjectHasValue;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+import org.semanticweb.owlapi.model.OWLObjectMaxCardinality;
+import org.semanticweb.owlapi.model.OWLObjectMinCardinality;
+import org.semanticweb.owlapi.model.OWLObjectOneOf;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectUnionOf;
+import org.semanticweb.owlapi.model.OWLQuantifiedDataRestriction;
+import org.semanticweb.owlapi.model.OWLQuantifiedObjectRestriction;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+/**
+ * Converts class expressions, data ranges and axioms to negation normal form,
+ * with the same results as {@link NNF}, but without recursion and without
+ * rebuilding what does not change. The result for each class expression or
+ * data range is remembered separately for the expression and for its
+ * negation, so subexpressions that are shared between the expressions and
+ * axioms that are converted by one instance are only converted once. A
+ * subexpression that is already in negation normal form is returned as it
+ * is, rather than as an equal copy made by the data factory. The expressions
+ * are walked with an explicit stack, so deeply nested expressions cannot
+ * exhaust the call stack, which is small in compiled JavaScript.
+ * <p>
+ * The remembered results are kept until {@link #clear()} is called, so an
+ * instance should not outlive the set of axioms it is used for.
+ *
+ * @since 4.3.2.1
+ */
+public class MemoizingNNF extends NNF {
+
+    private static final Object[] NO_CHILDREN = new Object[0];
+    /**
+     * Result of an expression that is already in negation normal form. The
+     * results are looked up by equality, so this stands for whichever
+     * instance is looked up, rather than the first one that was converted.
+     */
+    private static final Object UNCHANGED = new Object();
+    private final OWLDataFactory dataFactory;
+    private final Map<OWLObject, Object> positive = new HashMap<>();
+    private final Map<OWLObject, Object> negative = new HashMap<>();
+    private final List<Frame> stack = new ArrayList<>();
+
+    /**
+     * An expression waiting for the results of its children.
+     */
+    private static final class Frame {
+
+        final OWLObject node;
+        final boolean negated;
+        /** null until the children have been pushed */
+        Object[] children;
+        boolean childrenNegated;
+
+        Frame(OWLObject node, boolean negated) {
+            this.node = node;
+            this.negated = negated;
+        }
+    }
+
+    /**
+     * @param dataFactory
+     *        datafactory to use
+     */
+    public MemoizingNNF(@Nonnull OWLDataFactory dataFactory) {
+        super(dataFactory);
+        this.dataFactory = checkNotNull(dataFactory,
+                "dataFactory cannot be null");
+    }
+
+    /** Forgets the results of the expressions converted so far. */
+    public void clear() {
+        positive.clear();
+        negative.clear();
+    }
+
+    /**
+     * @param ce
+     *        class expression to convert
+     * @param negated
+     *        true if the negation of the class expression should be converted
+     * @return the negation normal form of the class expression, or of its
+     *         negation
+     */
+    @Nonnull
+    public OWLClassExpression getNNF(@Nonnull OWLClassExpression ce,
+            boolean negated) {
+        return (OWLClassExpression) convert(checkNotNull(ce, "ce cannot be null"), negated);
+    }
+
+    /**
+     * @param range
+     *        data range to convert
+     * @param negated
+     *        true if the complement of the data range should be converted
+     * @return the negation normal form of the data range, or of its
+     *         complement
+     */
+    @Nonnull
+    public OWLDataRange getNNF(@Nonnull OWLDataRange range, boolean negated) {
+        return (OWLDataRange) convert(checkNotNull(range, "range cannot be null"), negated);
+    }
+
+    private Map<OWLObject, Object> results(boolean negated) {
+        return negated ? negative : positive;
+    }
+
+    /**
+     * @return the result for the node, or null if it has not been converted
+     */
+    private OWLObject result(Object node, boolean negated) {
+        if (!negated && node instanceof OWLEntity) {
+            // classes and datatypes, which are not worth remembering
+            return (OWLObject) node;
+        }
+        Object result = results(negated).get(node);
+        return result == UNCHANGED ? (OWLObject) node : (OWLObject) result;
+    }
+
+    private OWLObject convert(OWLObject root, boolean negated) {
+        OWLObject result = result(root, negated);
+        if (result != null) {
+            return result;
+        }
+        int base = stack.size();
+        stack.add(new Frame(root, negated));
+        while (stack.size() > base) {
+            Frame frame = stack.get(stack.size() - 1);
+            if (frame.children == null) {
+                // frames are only pushed for nodes without a result; a node
+                // that is pushed twice before it is converted is converted
+                // twice, to an equal result
+                if (frame.node instanceof OWLClassExpression) {
+                    expand(frame, (OWLClassExpression) frame.node);
+                } else {
+                    expand(frame, (OWLDataRange) frame.node);
+                }
+                if (pushChildren(frame)) {
+                    continue;
+                }
+            }
+            if (frame.node instanceof OWLClassExpression) {
+                result = combine(frame, (OWLClassExpression) frame.node);
+            } else {
+                result = combine(frame, (OWLDataRange) frame.node);
+            }
+            results(frame.negated).put(frame.node,
+                    result == frame.node ? UNCHANGED : result);
+            stack.remove(stack.size() - 1);
+        }
+        return result(root, negated);
+    }
+
+    private boolean pushChildren(Frame frame) {
+        boolean pushed = false;
+        for (int i = frame.children.length - 1; i >= 0; i--) {
+            OWLObject child = (OWLObject) frame.children[i];
+            if (result(child, frame.childrenNegated) == null) {
+                stack.add(new Frame(child, frame.childrenNegated));
+                pushed = true;
+            }
+        }
+        return pushed;
+    }
+
+    private static void setChild(Frame frame, OWLObject child, boolean negated) {
+        frame.children = new Object[] { child };
+        frame.childrenNegated = negated;
+    }
+
+    private void expand(Frame frame, OWLClassExpression ce) {
+        boolean negated = frame.negated;
+        switch (ce.getClassExpressionType()) {
+            case OBJECT_INTERSECTION_OF:
+            case OBJECT_UNION_OF:
+                frame.children = ((OWLNaryBooleanClassExpression) ce).getOperands().toArray();
+                frame.childrenNegated = negated;
+                break;
+            case OBJECT_COMPLEMENT_OF:
+                setChild(frame, ((OWLObjectComplementOf) ce).getOperand(), !negated);
+                break;
+            case OBJECT_SOME_VALUES_FROM:
+            case OBJECT_ALL_VALUES_FROM:
+                setChild(frame, ((OWLQuantifiedObjectRestriction) ce).getFiller(), negated);
+                break;
+            case OBJECT_HAS_VALUE:
+                setChild(frame, ((OWLObjectHasValue) ce).asSomeValuesFrom(), negated);
+                break;
+            case OBJECT_MIN_CARDINALITY:
+            case OBJECT_MAX_CARDINALITY:
+                setChild(frame, ((OWLObjectCardinalityRestriction) ce).getFiller(), false);
+                break;
+            case OBJECT_EXACT_CARDINALITY:
+                setChild(frame, ((OWLObjectExactCardinality) ce).asIntersectionOfMinMax(), negated);
+                break;
+            case OBJECT_ONE_OF:
+                OWLObjectOneOf oneOf = (OWLObjectOneOf) ce;
+                if (oneOf.getIndividuals().size() == 1) {
+                    frame.children = NO_CHILDREN;
+                } else {
+                    setChild(frame, oneOf.asObjectUnionOf(), negated);
+                }
+                break;
+            case DATA_SOME_VALUES_FROM:
+            case DATA_ALL_VALUES_FROM:
+                setChild(frame, ((OWLQuantifiedDataRestriction) ce).getFiller(), negated);
+                break;
+            case DATA_HAS_VALUE:
+                setChild(frame, ((OWLDataHasValue) ce).asSomeValuesFrom(), negated);
+                break;
+            case DATA_MIN_CARDINALITY:
+            case DATA_MAX_CARDINALITY:
+                setChild(frame, ((OWLDataCardinalityRestriction) ce).getFiller(), false);
+                break;
+            case DATA_EXACT_CARDINALITY:
+                setChild(frame, ((OWLDataExactCardinality) ce).asIntersectionOfMinMax(), negated);
+                break;
+            default:
+                // classes and self restrictions
+                frame.children = NO_CHILDREN;
+        }
+    }
+
+    private void expand(Frame frame, OWLDataRange range) {
+        switch (range.getDataRangeType()) {
+            case DATA_INTERSECTION_OF:
+            case DATA_UNION_OF:
+                frame.children = ((OWLNaryDataRange) range).getOperands().toArray();
+                frame.childrenNegated = frame.negated;
+                break;
+            case DATA_ONE_OF:
+                OWLDataOneOf oneOf = (OWLDataOneOf) range;
+                if (oneOf.getValues().size() == 1) {
+                    frame.children = NO_CHILDREN;
+                } else {
+                    // Encode as a data union of
+                    Set<OWLDataOneOf> oneOfs = new HashSet<>();
+                    for (OWLLiteral lit : oneOf.getValues()) {
+                        oneOfs.add(dataFactory.getOWLDataOneOf(lit));
+                    }
+                    setChild(frame, dataFactory.getOWLDataUnionOf(oneOfs), frame.negated);
+                }
+                break;
+            default:
+                // datatypes, restrictions and complements
+                frame.children = NO_CHILDREN;
+        }
+    }
+
+    private OWLObject child(Frame frame) {
+        return result(frame.children[0], frame.childrenNegated);
+    }
+
+    /**
+     * @return the converted operands of an n-ary expression, or null if none
+     *         of them changed
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> operands(Frame frame) {
+        Set<T> ops = null;
+        for (int i = 0; i < frame.children.length; i++) {
+            OWLObject op = result(frame.children[i], frame.childrenNegated);
+            if (ops == null && op != frame.children[i]) {
+                ops = new HashSet<>();
+                for (int j = 0; j < i; j++) {
+                    ops.add((T) frame.children[j]);
+                }
+            }
+            if (ops != null) {
+                ops.add((T) op);
+            }
+        }
+        return ops;
+    }
+
+    private OWLObject combine(Frame frame, OWLClassExpression ce) {
+        boolean negated = frame.negated;
+        switch (ce.getClassExpressionType()) {
+            case OWL_CLASS:
+                if (!negated) {
+                    return ce;
+                }
+                OWLClass cls = (OWLClass) ce;
+                if (cls.isOWLNothing()) {
+                    return dataFactory.getOWLThing();
+                } else if (cls.isOWLThing()) {
+                    return dataFactory.getOWLNothing();
+                }
+                return dataFactory.getOWLObjectComplementOf(ce);
+            case OBJECT_HAS_SELF:
+            case OBJECT_ONE_OF:
+                if (frame.children.length > 0) {
+                    return child(frame);
+                }
+                return negated ? dataFactory.getOWLObjectComplementOf(ce) : ce;
+            case OBJECT_INTERSECTION_OF:
+            case OBJECT_UNION_OF: {
+                Set<OWLClassExpression> ops = this.<OWLClassExpression> operands(frame);
+                boolean intersection = ce instanceof OWLObjectIntersectionOf;
+                if (ops == null) {
+                    if (!negated) {
+                        return ce;
+                    }
+                    ops = ((OWLNaryBooleanClassExpression) ce).getOperands();
+                }
+                if (intersection != negated) {
+                    return dataFactory.getOWLObjectIntersectionOf(ops);
+                }
+                return dataFactory.getOWLObjectUnionOf(ops);
+            }
+            case OBJECT_COMPLEMENT_OF: {
+                OWLObject result = child(frame);
+                // the complement of a class is its own normal form
+                return !negated && result.equals(ce) ? ce : result;
+            }
+            case OBJECT_SOME_VALUES_FROM:
+            case OBJECT_ALL_VALUES_FROM: {
+                OWLQuantifiedObjectRestriction r = (OWLQuantifiedObjectRestriction) ce;
+                OWLClassExpression filler = (OWLClassExpression) child(frame);
+                if (!negated && filler == r.getFiller()) {
+                    return ce;
+                }
+                if (ce instanceof OWLObjectSomeValuesFrom != negated) {
+                    return dataFactory.getOWLObjectSomeValuesFrom(r.getProperty(), filler);
+                }
+                return dataFactory.getOWLObjectAllValuesFrom(r.getProperty(), filler);
+            }
+            case OBJECT_MIN_CARDINALITY:
+            case OBJECT_MAX_CARDINALITY: {
+                OWLObjectCardinalityRestriction r = (OWLObjectCardinalityRestriction) ce;
+                OWLClassExpression filler = (OWLClassExpression) child(frame);
+                boolean min = ce instanceof OWLObjectMinCardinality;
+                if (!negated) {
+                    if (filler == r.getFiller()) {
+                        return ce;
+                    }
+                    return min ? dataFactory.getOWLObjectMinCardinality(r.getCardinality(), r.getProperty(), filler)
+                            : dataFactory.getOWLObjectMaxCardinality(r.getCardinality(), r.getProperty(), filler);
+                }
+                if (min) {
+                    return dataFactory.getOWLObjectMaxCardinality(Math.max(r.getCardinality() - 1, 0),
+                            r.getProperty(), filler);
+                }
+                return dataFactory.getOWLObjectMinCardinality(r.getCardinality() + 1, r.getProperty(), filler);
+            }
+            case DATA_SOME_VALUES_FROM:
+            case DATA_ALL_VALUES_FROM: {
+                OWLQuantifiedDataRestriction r = (OWLQuantifiedDataRestriction) ce;
+                OWLDataRange filler = (OWLDataRange) child(frame);
+                if (!negated && filler == r.getFiller()) {
+                    return ce;
+                }
+                if (ce instanceof OWLDataSomeValuesFrom != negated) {
+                    return dataFactory.getOWLDataSomeValuesFrom(r.getProperty(), filler);
+                }
+                return dataFactory.getOWLDataAllValuesFrom(r.getProperty(), filler);
+            }
+            case DATA_MIN_CARDINALITY:
+            case DATA_MAX_CARDINALITY: {
+                OWLDataCardinalityRestriction r = (OWLDataCardinalityRestriction) ce;
+                OWLDataRange filler = (OWLDataRange) child(frame);
+                boolean min = ce instanceof OWLDataMinCardinality;
+                if (!negated) {
+                    if (filler == r.getFiller()) {
+                        return ce;
+                    }
+                    return min ? dataFactory.getOWLDataMinCardinality(r.getCardinality(), r.getProperty(), filler)
+                            : dataFactory.getOWLDataMaxCardinality(r.getCardinality(), r.getProperty(), filler);
+                }
+                if (min) {
+                    return dataFactory.getOWLDataMaxCardinality(Math.max(r.getCardinality() - 1, 0),
+                            r.getProperty(), filler);
+                }
+                return dataFactory.getOWLDataMinCardinality(r.getCardinality() + 1, r.getProperty(), filler);
+            }
+            default:
+                // has value and exact cardinality restrictions are rewritten
+                return child(frame);
+        }
+    }
+
+    private OWLObject combine(Frame frame, OWLDataRange range) {
+        boolean negated = frame.negated;
+        switch (range.getDataRangeType()) {
+            case DATA_INTERSECTION_OF:
+            case DATA_UNION_OF: {
+                Set<OWLDataRange> ops = this.<OWLDataRange> operands(frame);
+                boolean intersection = range instanceof OWLDataIntersectionOf;
+                if (ops == null) {
+                    if (!negated) {
+                        return range;
+                    }
+                    ops = ((OWLNaryDataRange) range).getOperands();
+                }
+                if (intersection != negated) {
+                    return dataFactory.getOWLDataIntersectionOf(ops);
+                }
+                return dataFactory.getOWLDataUnionOf(ops);
+            }
+            case DATA_COMPLEMENT_OF:
+                return negated ? ((OWLDataComplementOf) range).getDataRange() : range;
+            case DATA_ONE_OF:
+                if (frame.children.length > 0) {
+                    return child(frame);
+                }
+                return negated ? dataFactory.getOWLDataComplementOf(range) : range;
+            default:
+                // datatypes and restrictions
+                return negated ? dataFactory.getOWLDataComplementOf(range) : range;
+        }
+    }
+
+    private boolean isNNF(OWLClassExpression ce) {
+        return getNNF(ce, false) == ce;
+    }
+
+    private boolean isNNF(Set<OWLClassExpression> ces) {
+        for (OWLClassExpression ce : ces) {
+            if (!isNNF(ce)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLClass ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectIntersectionOf ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectUnionOf ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectComplementOf ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectSomeValuesFrom ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectAllValuesFrom ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectHasValue ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectMinCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectExactCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectMaxCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectHasSelf ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLObjectOneOf ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataSomeValuesFrom ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataAllValuesFrom ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataHasValue ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataExactCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataMaxCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLClassExpression visit(OWLDataMinCardinality ce) {
+        return getNNF(ce, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDatatype node) {
+        return getNNF(node, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDataComplementOf node) {
+        return getNNF(node, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDataOneOf node) {
+        return getNNF(node, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDataIntersectionOf node) {
+        return getNNF(node, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDataUnionOf node) {
+        return getNNF(node, false);
+    }
+
+    @Override
+    public OWLDataRange visit(OWLDatatypeRestriction node) {
+        return getNNF(node, false);
+    }
+
+    // NNF rebuilds these axioms without their annotations, so only
+    // unannotated axioms can be returned as they are
+    @Override
+    public OWLAxiom visit(OWLSubClassOfAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getSubClass())
+                && isNNF(axiom.getSuperClass())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLEquivalentClassesAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getClassExpressions())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLDisjointClassesAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getClassExpressions())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLDisjointUnionAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getClassExpressions())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLObjectPropertyDomainAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getDomain())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLObjectPropertyRangeAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getRange())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLDataPropertyDomainAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getDomain())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLDataPropertyRangeAxiom axiom) {
+        if (!axiom.isAnnotated()
+                && getNNF(axiom.getRange(), false) == axiom.getRange()) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+
+    @Override
+    public OWLAxiom visit(OWLClassAssertionAxiom axiom) {
+        if (!axiom.isAnnotated() && isNNF(axiom.getClassExpression())) {
+            return axiom;
+        }
+        return super.visit(axiom);
+    }
+}
@@ -0,0 +1,117 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Canonicalizes objects by equality: the first of a set of equal objects that
+ * is interned is returned for all of them. Unlike {@link InterningCache}, the
+ * object is its own key. On the JVM the table is concurrent and references
+ * its objects weakly, so an object leaves the table once it is no longer used
+ * elsewhere. Compiled GWT JavaScript has no weak references; there the table
+ * is bounded to a maximum number of objects.
+ *
+ * @param <T>
+ *        type of interned objects
+ * @since 4.3.2.1
+ */
+public class ObjectInterner<T> {
+
+    private final long maximumClientSize;
+    @Nonnull
+    private volatile Table<T> table;
+
+    /**
+     * @param maximumClientSize
+     *        the maximum number of objects held in compiled JavaScript;
+     *        ignored on the JVM
+     */
+    public ObjectInterner(long maximumClientSize) {
+        this.maximumClientSize = maximumClientSize;
+        table = new JvmPlatform().create(maximumClientSize);
+    }
+
+    /**
+     * @param object
+     *        the object to intern
+     * @return the canonical object equal to {@code object}; this is
+     *         {@code object} itself unless an equal object was interned first
+     */
+    @Nonnull
+    public <S extends T> S intern(@Nonnull S object) {
+        checkNotNull(object, "object cannot be null");
+        @SuppressWarnings("unchecked")
+        S canonical = (S) table.intern(object);
+        return canonical;
+    }
+
+    /** Forgets all interned objects. */
+    public void clear() {
+        table = new JvmPlatform().<T> create(maximumClientSize);
+    }
+
+    /** The backing table. */
+    interface Table<T> {
+
+        @Nonnull
+        T intern(@Nonnull T object);
+    }
+
+    /** Configuration used when compiled to JavaScript. */
+    static class Platform {
+
+        <T> Table<T> create(long maximumClientSize) {
+            final Cache<T, T> cache = CacheBuilder.newBuilder().maximumSize(maximumClientSize).build();
+            return new Table<T>() {
+
+                @Override
+                public T intern(T object) {
+                    T existing = cache.asMap().putIfAbsent(object, object);
+                    if (existing == null) {
+                        return object;
+                    }
+                    return existing;
+                }
+            };
+        }
+    }
+
+    /**
+     * Configuration used on the JVM. The GWT compiler strips the override, so
+     * that compiled JavaScript falls back to the bounded table of
+     * {@link Platform}.
+     */
+    static class JvmPlatform extends Platform {
+
+        @Override
+        @GwtIncompatible("weak references are not available in JavaScript")
+        <T> Table<T> create(long maximumClientSize) {
+            final com.google.common.collect.Interner<T> interner = com.google.common.collect.Interners
+                .newWeakInterner();
+            return new Table<T>() {
+
+                @Override
+                public T intern(T object) {
+                    return interner.intern(object);
+                }
+            };
+        }
+    }
+}
@@ -12,14 +12,19 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.util;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.SortedSet;
 
 import javax.annotation.Nonnull;
 
 import org.semanticweb.owlapi.io.OWLObjectRenderer;
 import org.semanticweb.owlapi.model.*;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * A simple renderer that can be used for debugging purposes and provide an
  * implementation of the toString method for different implementations.
@@ -30,9 +35,16 @@ import org.semanticweb.owlapi.model.*;
  */
 public class SimpleRenderer implements OWLObjectVisitor, OWLObjectRenderer {
 
+    /**
+     * buffers that grew beyond this length while rendering one object are
+     * dropped on reset rather than kept for the next object
+     */
+    private static final int MAX_RETAINED_LENGTH = 1 << 16;
     private StringBuilder sb;
     private ShortFormProvider shortFormProvider;
     private IRIShortFormProvider iriShortFormProvider;
+    private DefaultPrefixManager defaultPrefixManager;
+    private CachingShortFormProvider defaultShortForms;
 
     /** default constructor */
     public SimpleRenderer() {
@@ -42,24 +54,30 @@ public class SimpleRenderer implements OWLObjectVisitor, OWLObjectRenderer {
 
     /** reset the renderer. */
     public void reset() {
-        sb = new StringBuilder();
+        if (sb.length() > MAX_RETAINED_LENGTH) {
+            sb = new StringBuilder();
+        } else {
+            sb.setLength(0);
+        }
     }
 
     /**
      * @return true if default is used
      */
     public boolean isUsingDefaultShortFormProvider() {
-        return shortFormProvider instanceof DefaultPrefixManager;
+        return shortFormProvider == defaultShortForms;
     }
 
     /**
      * Resets the short form provider to the default short form provider, which
-     * is a PrefixManager with the default set of prefixes.
+     * is a PrefixManager with the default set of prefixes. Short forms are
+     * cached, so that each entity and IRI is shortened once.
      */
     public final void resetShortFormProvider() {
-        DefaultPrefixManager defaultPrefixManager = new DefaultPrefixManager();
-        shortFormProvider = defaultPrefixManager;
-        iriShortFormProvider = defaultPrefixManager;
+        defaultPrefixManager = new DefaultPrefixManager();
+        defaultShortForms = new CachingShortFormProvider(defaultPrefixManager);
+        shortFormProvider = defaultShortForms;
+        iriShortFormProvider = defaultShortForms;
     }
 
     /**
@@ -75,7 +93,8 @@ public class SimpleRenderer implements OWLObjectVisitor, OWLObjectRenderer {
         if (!isUsingDefaultShortFormProvider()) {
             resetShortFormProvider();
         }
-        ((DefaultPrefixManager) shortFormProvider).setPrefix(prefixName, prefix);
+        defaultPrefixManager.setPrefix(prefixName, prefix);
+        defaultShortForms.clear();
     }
 
     @Override
@@ -99,8 +118,53 @@ public class SimpleRenderer implements OWLObjectVisitor, OWLObjectRenderer {
         return sb.toString();
     }
 
+    /**
+     * Renders an object without creating a string for it; the rendering is
+     * built in a buffer that is reused for the next object.
+     * 
+     * @param object
+     *        the object to render
+     * @param out
+     *        where to append the rendering
+     */
+    public void render(@Nonnull OWLObject object, @Nonnull Appendable out) {
+        reset();
+        object.accept(this);
+        append(out, sb);
+    }
+
+    /**
+     * Renders objects one per line, without creating a string for each
+     * object.
+     * 
+     * @param objects
+     *        the objects to render
+     * @param out
+     *        where to append the renderings
+     */
+    public void render(@Nonnull Iterable<? extends OWLObject> objects, @Nonnull Appendable out) {
+        for (OWLObject object : objects) {
+            reset();
+            object.accept(this);
+            sb.append('\n');
+            append(out, sb);
+        }
+    }
+
+    private static void append(Appendable out, CharSequence rendering) {
+        try {
+            out.append(rendering);
+        } catch (IOException e) {
+            throw new OWLRuntimeException(e);
+        }
+    }
+
     protected void render(Set<? extends OWLObject> objects) {
-        for (Iterator<? extends OWLObject> it = CollectionFactory.sortOptionally(objects).iterator(); it.hasNext();) {
+        Collection<? extends OWLObject> ordered = objects;
+        if (!isSorted(objects)) {
+            ordered = CollectionFactory.sortOptionally(objects);
+        }
+        for (Iterator<? extends OWLObject> it = ordered.iterator(); it.hasNext();) {
             it.next().accept(this);
             if (it.hasNext()) {
                 sb.append(' ');
@@ -108,6 +172,19 @@ public class SimpleRenderer implements OWLObjectVisitor, OWLObjectRenderer {
         }
     }
 
+    /**
+     * @return true if the set iterates in natural order; sets stored in
+     *         objects are small sorted sets, which are only ordered if their
+     *         elements could be sorted
+     */
+    private static boolean isSorted(Set<?> objects) {
+        SmallSortedSet<?> small = SmallSortedSet.unwrap(objects);
+        if (small != null) {
+            return small.isSorted();
+        }
+        return objects instanceof SortedSet && ((SortedSet<?>) objects).comparator() == null;
+    }
+
     private void insertSpace() {
         sb.append(' ');
     }
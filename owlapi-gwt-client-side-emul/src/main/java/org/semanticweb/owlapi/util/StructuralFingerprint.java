@@ -0,0 +1,910 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.*;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAsymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataComplementOf;
+import org.semanticweb.owlapi.model.OWLDataExactCardinality;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataIntersectionOf;
+import org.semanticweb.owlapi.model.OWLDataMaxCardinality;
+import org.semanticweb.owlapi.model.OWLDataMinCardinality;
+import org.semanticweb.owlapi.model.OWLDataOneOf;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataUnionOf;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLFunctionalDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectComplementOf;
+import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
+import org.semanticweb.owlapi.model.OWLObjectHasSelf;
+import org.semanticweb.owlapi.model.OWLObjectHasValue;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
+import org.semanticweb.owlapi.model.OWLObjectMaxCardinality;
+import org.semanticweb.owlapi.model.OWLObjectMinCardinality;
+import org.semanticweb.owlapi.model.OWLObjectOneOf;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectUnionOf;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLDataRangeAtom;
+import org.semanticweb.owlapi.model.SWRLDifferentIndividualsAtom;
+import org.semanticweb.owlapi.model.SWRLIndividualArgument;
+import org.semanticweb.owlapi.model.SWRLLiteralArgument;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLObjectVisitor;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+
+/**
+ * Computes a 64 bit structural fingerprint of an OWL object. Each object type
+ * combines the same components as {@link HashCode}, but children contribute
+ * their own fingerprints, names and literals are hashed from their
+ * characters, and numeric and boolean literals from their values. Equal
+ * objects therefore have equal fingerprints on the JVM and in compiled
+ * JavaScript alike, so a fingerprint can be used as a content key on both
+ * sides of an RPC call, and objects with different fingerprints cannot be
+ * equal. Objects implementing
+ * {@link HasStructuralFingerprint} compute their fingerprint once and cache
+ * it; as in {@link HashCode}, children without a cached fingerprint are
+ * fingerprinted first from an explicit stack rather than by recursion.
+ *
+ * @since 4.3.2.1
+ */
+public class StructuralFingerprint implements OWLObjectVisitor, SWRLObjectVisitor {
+
+    private static final long MULT = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final int[] primes = HashCode.primes;
+    private long fingerprint;
+    /** uncached children found while visiting, above the objects waiting for them */
+    @Nullable
+    private Deque<OWLObject> pending;
+    /** objects whose fingerprint is 0, and therefore never look cached */
+    @Nullable
+    private Map<OWLObject, Boolean> zeroFingerprints;
+
+    /**
+     * @param object
+     *        the object to fingerprint
+     * @return the fingerprint of the object, cached by the object if it
+     *         implements {@link HasStructuralFingerprint}
+     */
+    public static long fingerprint(@Nonnull OWLObject object) {
+        checkNotNull(object, "object cannot be null");
+        if (object instanceof HasStructuralFingerprint) {
+            return ((HasStructuralFingerprint) object).getStructuralFingerprint();
+        }
+        return compute(object);
+    }
+
+    /**
+     * Computes the fingerprint of an object, using the cached fingerprints of
+     * its children. Implementations of {@link HasStructuralFingerprint} call
+     * this to initialise their cached value.
+     *
+     * @param object
+     *        the object to fingerprint
+     * @return the fingerprint of the object
+     */
+    public static long compute(@Nonnull OWLObject object) {
+        checkNotNull(object, "object cannot be null");
+        StructuralFingerprint visitor = new StructuralFingerprint();
+        object.accept(visitor);
+        if (visitor.pending != null) {
+            visitor.resolvePending(object);
+        }
+        return mix(visitor.fingerprint);
+    }
+
+    /**
+     * Fingerprints the uncached children found while visiting the root, then
+     * visits the root again; see {@link HashCode}.
+     */
+    private void resolvePending(@Nonnull OWLObject root) {
+        Deque<OWLObject> stack = verifyNotNull(pending);
+        stack.addLast(root);
+        while (true) {
+            OWLObject top = verifyNotNull(stack.peekFirst());
+            int size = stack.size();
+            top.accept(this);
+            if (stack.size() == size) {
+                stack.removeFirst();
+                if (stack.isEmpty()) {
+                    return;
+                }
+                // all children are cached, so this does not recurse
+                if (((HasStructuralFingerprint) top).getStructuralFingerprint() == 0) {
+                    Map<OWLObject, Boolean> zeros = zeroFingerprints;
+                    if (zeros == null) {
+                        zeros = new IdentityHashMap<>();
+                        zeroFingerprints = zeros;
+                    }
+                    zeros.put(top, Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    private long childFingerprint(@Nonnull OWLObject object) {
+        if (object instanceof HasStructuralFingerprint) {
+            HasStructuralFingerprint child = (HasStructuralFingerprint) object;
+            if (child.isStructuralFingerprintCached() || HashCode.isLeaf(object) || isZeroFingerprint(object)) {
+                return child.getStructuralFingerprint();
+            }
+            Deque<OWLObject> stack = pending;
+            if (stack == null) {
+                stack = new ArrayDeque<>();
+                pending = stack;
+            }
+            stack.addFirst(object);
+            // the value is not used: the object is visited again once this
+            // child has been fingerprinted
+            return 0;
+        }
+        return compute(object);
+    }
+
+    private boolean isZeroFingerprint(@Nonnull OWLObject object) {
+        Map<OWLObject, Boolean> zeros = zeroFingerprints;
+        return zeros != null && zeros.containsKey(object);
+    }
+
+    /** The finalisation step of MurmurHash3, spreading every input bit. */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void addLong(long value) {
+        fingerprint = fingerprint * MULT + value;
+    }
+
+    private void addInt(int value) {
+        addLong(value);
+    }
+
+    private void add(@Nonnull OWLObject object) {
+        addLong(childFingerprint(object));
+    }
+
+    /** Sets are fingerprinted independently of iteration order, lists are not. */
+    private void add(@Nonnull Collection<? extends OWLObject> objects) {
+        long combined = 0;
+        if (objects instanceof List) {
+            for (OWLObject object : objects) {
+                combined = combined * MULT + childFingerprint(object);
+            }
+        } else {
+            for (OWLObject object : objects) {
+                combined += childFingerprint(object);
+            }
+        }
+        addLong(combined);
+        addInt(objects.size());
+    }
+
+    private void addUnordered(@Nonnull OWLObject first, @Nonnull OWLObject second) {
+        addLong(childFingerprint(first) + childFingerprint(second));
+    }
+
+    private void addString(@Nonnull String value) {
+        addLong(hashChars(FNV_OFFSET, value));
+    }
+
+    /** 64 bit FNV-1a hash of the characters of a string. */
+    private static long hashChars(long seed, @Nonnull String value) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    @Override
+    public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
+        fingerprint = primes[0];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLClassAssertionAxiom axiom) {
+        fingerprint = primes[1];
+        add(axiom.getIndividual());
+        add(axiom.getClassExpression());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyAssertionAxiom axiom) {
+        fingerprint = primes[2];
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyDomainAxiom axiom) {
+        fingerprint = primes[3];
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyRangeAxiom axiom) {
+        fingerprint = primes[4];
+        add(axiom.getProperty());
+        add(axiom.getRange());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubDataPropertyOfAxiom axiom) {
+        fingerprint = primes[5];
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDeclarationAxiom axiom) {
+        fingerprint = primes[6];
+        add(axiom.getEntity());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDifferentIndividualsAxiom axiom) {
+        fingerprint = primes[7];
+        add(axiom.getIndividuals());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointClassesAxiom axiom) {
+        fingerprint = primes[8];
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointDataPropertiesAxiom axiom) {
+        fingerprint = primes[9];
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
+        fingerprint = primes[10];
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointUnionAxiom axiom) {
+        fingerprint = primes[11];
+        add(axiom.getOWLClass());
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLAnnotationAssertionAxiom axiom) {
+        fingerprint = primes[12];
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getValue());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentClassesAxiom axiom) {
+        fingerprint = primes[13];
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
+        fingerprint = primes[14];
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
+        fingerprint = primes[15];
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLFunctionalDataPropertyAxiom axiom) {
+        fingerprint = primes[16];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
+        fingerprint = primes[17];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
+        fingerprint = primes[18];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLInverseObjectPropertiesAxiom axiom) {
+        fingerprint = primes[19];
+        addUnordered(axiom.getFirstProperty(), axiom.getSecondProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
+        fingerprint = primes[20];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
+        fingerprint = primes[21];
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
+        fingerprint = primes[22];
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyAssertionAxiom axiom) {
+        fingerprint = primes[23];
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubPropertyChainOfAxiom axiom) {
+        fingerprint = primes[24];
+        add(axiom.getPropertyChain());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyDomainAxiom axiom) {
+        fingerprint = primes[25];
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyRangeAxiom axiom) {
+        fingerprint = primes[26];
+        add(axiom.getProperty());
+        add(axiom.getRange());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubObjectPropertyOfAxiom axiom) {
+        fingerprint = primes[27];
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
+        fingerprint = primes[28];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSameIndividualAxiom axiom) {
+        fingerprint = primes[29];
+        add(axiom.getIndividuals());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubClassOfAxiom axiom) {
+        fingerprint = primes[30];
+        add(axiom.getSubClass());
+        add(axiom.getSuperClass());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
+        fingerprint = primes[31];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
+        fingerprint = primes[32];
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLClass ce) {
+        fingerprint = primes[33];
+        add(ce.getIRI());
+    }
+
+    @Override
+    public void visit(OWLDataAllValuesFrom ce) {
+        fingerprint = primes[34];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataExactCardinality ce) {
+        fingerprint = primes[35];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataMaxCardinality ce) {
+        fingerprint = primes[36];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataMinCardinality ce) {
+        fingerprint = primes[37];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataSomeValuesFrom ce) {
+        fingerprint = primes[38];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataHasValue ce) {
+        fingerprint = primes[39];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectAllValuesFrom ce) {
+        fingerprint = primes[40];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectComplementOf ce) {
+        fingerprint = primes[41];
+        add(ce.getOperand());
+    }
+
+    @Override
+    public void visit(OWLObjectExactCardinality ce) {
+        fingerprint = primes[42];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectIntersectionOf ce) {
+        fingerprint = primes[43];
+        add(ce.getOperands());
+    }
+
+    @Override
+    public void visit(OWLObjectMaxCardinality ce) {
+        fingerprint = primes[44];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectMinCardinality ce) {
+        fingerprint = primes[45];
+        add(ce.getProperty());
+        addInt(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectOneOf ce) {
+        fingerprint = primes[46];
+        add(ce.getIndividuals());
+    }
+
+    @Override
+    public void visit(OWLObjectHasSelf ce) {
+        fingerprint = primes[47];
+        add(ce.getProperty());
+    }
+
+    @Override
+    public void visit(OWLObjectSomeValuesFrom ce) {
+        fingerprint = primes[48];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectUnionOf ce) {
+        fingerprint = primes[49];
+        add(ce.getOperands());
+    }
+
+    @Override
+    public void visit(OWLObjectHasValue ce) {
+        fingerprint = primes[50];
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataComplementOf node) {
+        fingerprint = primes[51];
+        add(node.getDataRange());
+    }
+
+    @Override
+    public void visit(OWLDataOneOf node) {
+        fingerprint = primes[52];
+        add(node.getValues());
+    }
+
+    @Override
+    public void visit(OWLDatatype node) {
+        fingerprint = primes[53];
+        add(node.getIRI());
+    }
+
+    @Override
+    public void visit(OWLDatatypeRestriction node) {
+        fingerprint = primes[54];
+        add(node.getDatatype());
+        add(node.getFacetRestrictions());
+    }
+
+    @Override
+    public void visit(OWLDataProperty property) {
+        fingerprint = primes[55];
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLObjectProperty property) {
+        fingerprint = primes[56];
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLObjectInverseOf property) {
+        fingerprint = primes[57];
+        add(property.getInverse());
+    }
+
+    @Override
+    public void visit(OWLNamedIndividual individual) {
+        fingerprint = primes[58];
+        add(individual.getIRI());
+    }
+
+    @Override
+    public void visit(OWLFacetRestriction node) {
+        fingerprint = primes[59];
+        add(node.getFacet().getIRI());
+        add(node.getFacetValue());
+    }
+
+    @Override
+    public void visit(OWLLiteral node) {
+        fingerprint = primes[60];
+        addLiteralValue(node);
+        add(node.getDatatype());
+        addString(node.getLang());
+    }
+
+    /**
+     * Numeric and boolean literals compare their values rather than their
+     * lexical forms, so that for example "0.0"^^xsd:double equals
+     * "-0.0"^^xsd:double; their values are fingerprinted in the same way.
+     * Lexical forms that are not valid for the datatype are fingerprinted as
+     * strings.
+     */
+    private void addLiteralValue(@Nonnull OWLLiteral node) {
+        try {
+            if (node.isDouble()) {
+                double value = node.parseDouble();
+                addLong(Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+                return;
+            }
+            if (node.isFloat()) {
+                float value = node.parseFloat();
+                addInt(Float.floatToIntBits(value == 0.0f ? 0.0f : value));
+                return;
+            }
+            if (node.isInteger()) {
+                addInt(node.parseInteger());
+                return;
+            }
+            if (node.isBoolean()) {
+                addInt(node.parseBoolean() ? 1 : 0);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // not a valid value for the datatype: fall through
+        }
+        addString(node.getLiteral());
+    }
+
+    @Override
+    public void visit(SWRLRule rule) {
+        fingerprint = primes[61];
+        add(rule.getBody());
+        add(rule.getHead());
+    }
+
+    @Override
+    public void visit(SWRLClassAtom node) {
+        fingerprint = primes[62];
+        add(node.getArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLDataRangeAtom node) {
+        fingerprint = primes[63];
+        add(node.getArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLObjectPropertyAtom node) {
+        fingerprint = primes[64];
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLDataPropertyAtom node) {
+        fingerprint = primes[65];
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLBuiltInAtom node) {
+        fingerprint = primes[66];
+        add(node.getAllArguments());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLVariable node) {
+        fingerprint = primes[67];
+        add(node.getIRI());
+    }
+
+    @Override
+    public void visit(SWRLIndividualArgument node) {
+        fingerprint = primes[68];
+        add(node.getIndividual());
+    }
+
+    @Override
+    public void visit(SWRLLiteralArgument node) {
+        fingerprint = primes[69];
+        add(node.getLiteral());
+    }
+
+    @Override
+    public void visit(SWRLDifferentIndividualsAtom node) {
+        fingerprint = primes[70];
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+    }
+
+    @Override
+    public void visit(SWRLSameIndividualAtom node) {
+        fingerprint = primes[71];
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+    }
+
+    @Override
+    public void visit(OWLHasKeyAxiom axiom) {
+        fingerprint = primes[72];
+        add(axiom.getClassExpression());
+        add(axiom.getPropertyExpressions());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyDomainAxiom axiom) {
+        fingerprint = primes[73];
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyRangeAxiom axiom) {
+        fingerprint = primes[74];
+        add(axiom.getProperty());
+        add(axiom.getRange());
+    }
+
+    @Override
+    public void visit(OWLSubAnnotationPropertyOfAxiom axiom) {
+        fingerprint = primes[75];
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLDataIntersectionOf node) {
+        fingerprint = primes[76];
+        add(node.getOperands());
+    }
+
+    @Override
+    public void visit(OWLDataUnionOf node) {
+        fingerprint = primes[77];
+        add(node.getOperands());
+    }
+
+    @Override
+    public void visit(OWLAnnotationProperty property) {
+        fingerprint = primes[78];
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLAnonymousIndividual individual) {
+        fingerprint = primes[79];
+        addString(individual.getID().getID());
+    }
+
+    @Override
+    public void visit(IRI iri) {
+        fingerprint = primes[80];
+        // hash the full IRI, however it is split into namespace and remainder
+        long h = hashChars(FNV_OFFSET, iri.getNamespace());
+        addLong(hashChars(h, iri.getRemainder().or("")));
+    }
+
+    @Override
+    public void visit(OWLAnnotation node) {
+        fingerprint = primes[81];
+        add(node.getProperty());
+        add(node.getValue());
+    }
+
+    @Override
+    public void visit(OWLDatatypeDefinitionAxiom axiom) {
+        fingerprint = primes[82];
+        add(axiom.getDatatype());
+        add(axiom.getDataRange());
+    }
+}
@@ -12,6 +12,8 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
+import java.util.function.Consumer;
+
 import javax.annotation.Nonnull;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -34,7 +36,6 @@ import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
-import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLDataUnionOf;
 import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
@@ -45,6 +46,7 @@ import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLEntityVisitor;
 import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
@@ -76,6 +78,7 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectUnionOf;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectVisitor;
 import org.semanticweb.owlapi.model.OWLPropertyExpression;
 import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
@@ -119,6 +122,39 @@ public abstract class AbstractEntityRegistrationManager extends
         }
     };
 
+    @Nonnull
+    private final Consumer<OWLEntity> entityConsumer = new Consumer<OWLEntity>() {
+
+        @Override
+        public void accept(OWLEntity entity) {
+            entity.accept((OWLEntityVisitor) AbstractEntityRegistrationManager.this);
+        }
+    };
+
+    /**
+     * Visits the entities in the signature of an object with this visitor,
+     * without visiting the structure of the object. Objects that support
+     * incremental signature generation are traversed without building a
+     * signature set.
+     * <p>
+     * Anonymous individuals are not visited, and the signature of axioms and
+     * class expressions is read from an index that is built by visiting them
+     * with a subclass of this class; so only data ranges, which hold neither,
+     * are visited this way.
+     * 
+     * @param object
+     *        the object whose signature entities should be visited
+     */
+    protected void processSignature(@Nonnull OWLObject object) {
+        if (object instanceof HasIncrementalSignatureGenerationSupport) {
+            ((HasIncrementalSignatureGenerationSupport) object).forEachSignatureEntity(entityConsumer);
+        } else {
+            for (OWLEntity entity : object.getSignature()) {
+                entityConsumer.accept(entity);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected void processAxiomAnnotations(@Nonnull OWLAxiom ax) {
         // an OWLAxiomImpl will implement this interface with <OWLAnnotation >
@@ -479,38 +515,31 @@ public abstract class AbstractEntityRegistrationManager extends
     }
 
     // Data visitor
+    // data ranges are traversed through their signature, which reads their
+    // fields rather than copies of their operand and value sets
     @Override
     public void visit(@Nonnull OWLDataComplementOf node) {
-        node.getDataRange().accept(this);
+        processSignature(node);
     }
 
     @Override
     public void visit(@Nonnull OWLDataOneOf node) {
-        for (OWLLiteral val : node.getValues()) {
-            val.accept(this);
-        }
+        processSignature(node);
     }
 
     @Override
     public void visit(@Nonnull OWLDataIntersectionOf node) {
-        for (OWLDataRange dr : node.getOperands()) {
-            dr.accept(this);
-        }
+        processSignature(node);
     }
 
     @Override
     public void visit(@Nonnull OWLDataUnionOf node) {
-        for (OWLDataRange dr : node.getOperands()) {
-            dr.accept(this);
-        }
+        processSignature(node);
     }
 
     @Override
     public void visit(@Nonnull OWLDatatypeRestriction node) {
-        node.getDatatype().accept(this);
-        for (OWLFacetRestriction facetRestriction : node.getFacetRestrictions()) {
-            facetRestriction.accept(this);
-        }
+        processSignature(node);
     }
 
     @Override
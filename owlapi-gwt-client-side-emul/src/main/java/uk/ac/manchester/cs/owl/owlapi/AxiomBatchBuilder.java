@@ -0,0 +1,421 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+/**
+ * Builds axioms of one kind in bulk from columns of arguments: element
+ * {@code i} of each column are the arguments of the {@code i}th axiom. The
+ * columns are validated once, before any axiom is built, and all axioms share
+ * one annotation set. This avoids the per call argument checks and set copies
+ * of the equivalent {@link OWLDataFactoryImpl} methods when building large
+ * ontologies. Axioms are shared as by the factory if it shares structure.
+ * <p>
+ * For columns of IRIs, the builder reuses the entities it has recently
+ * created, from small tables indexed by IRI hash code, so that repeated IRIs
+ * share one entity instance even if the factory does not cache entities,
+ * without the cost of a map of every entity seen. A builder can be reused for
+ * any number of batches. It is not thread safe.
+ *
+ * @since 4.3.2.1
+ */
+public class AxiomBatchBuilder {
+
+    @Nonnull
+    private final OWLDataFactoryImpl dataFactory;
+    @Nonnull
+    private SmallSortedSet<OWLAnnotation> annotations = SmallSortedSet.empty();
+    @Nonnull
+    private final OWLClass[] classes = new OWLClass[ENTITY_TABLE_SIZE];
+    @Nonnull
+    private final OWLObjectProperty[] objectProperties = new OWLObjectProperty[ENTITY_TABLE_SIZE];
+    @Nonnull
+    private final OWLDataProperty[] dataProperties = new OWLDataProperty[ENTITY_TABLE_SIZE];
+    @Nonnull
+    private final OWLNamedIndividual[] individuals = new OWLNamedIndividual[ENTITY_TABLE_SIZE];
+    /** Number of recently created entities of each type kept; a power of 2. */
+    private static final int ENTITY_TABLE_SIZE = 4096;
+
+    /**
+     * @param dataFactory
+     *        factory used to create entities and share axioms
+     */
+    AxiomBatchBuilder(@Nonnull OWLDataFactoryImpl dataFactory) {
+        this.dataFactory = checkNotNull(dataFactory, "dataFactory cannot be null");
+    }
+
+    /**
+     * @param annotations
+     *        annotations for the axioms built from now on; copied once and
+     *        shared by all of them
+     * @return this builder
+     */
+    @Nonnull
+    public AxiomBatchBuilder setAnnotations(@Nonnull Set<? extends OWLAnnotation> annotations) {
+        checkNotNull(annotations, "annotations cannot be null");
+        this.annotations = SmallSortedSet.copyOf(annotations);
+        return this;
+    }
+
+    /**
+     * @return the annotations of the axioms built from now on
+     */
+    @Nonnull
+    public Set<OWLAnnotation> getAnnotations() {
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(annotations);
+    }
+
+    /**
+     * @param iri
+     *        class IRI
+     * @return the class with the IRI; recently created instances are reused
+     */
+    @Nonnull
+    public OWLClass getOWLClass(@Nonnull IRI iri) {
+        int slot = slot(iri);
+        OWLClass cls = classes[slot];
+        if (cls == null || !cls.getIRI().equals(iri)) {
+            cls = dataFactory.getOWLClass(iri);
+            classes[slot] = cls;
+        }
+        return cls;
+    }
+
+    /**
+     * @param iri
+     *        property IRI
+     * @return the object property with the IRI; recently created instances
+     *         are reused
+     */
+    @Nonnull
+    public OWLObjectProperty getOWLObjectProperty(@Nonnull IRI iri) {
+        int slot = slot(iri);
+        OWLObjectProperty property = objectProperties[slot];
+        if (property == null || !property.getIRI().equals(iri)) {
+            property = dataFactory.getOWLObjectProperty(iri);
+            objectProperties[slot] = property;
+        }
+        return property;
+    }
+
+    /**
+     * @param iri
+     *        property IRI
+     * @return the data property with the IRI; recently created instances
+     *         are reused
+     */
+    @Nonnull
+    public OWLDataProperty getOWLDataProperty(@Nonnull IRI iri) {
+        int slot = slot(iri);
+        OWLDataProperty property = dataProperties[slot];
+        if (property == null || !property.getIRI().equals(iri)) {
+            property = dataFactory.getOWLDataProperty(iri);
+            dataProperties[slot] = property;
+        }
+        return property;
+    }
+
+    /**
+     * @param iri
+     *        individual IRI
+     * @return the named individual with the IRI; recently created instances
+     *         are reused
+     */
+    @Nonnull
+    public OWLNamedIndividual getOWLNamedIndividual(@Nonnull IRI iri) {
+        int slot = slot(iri);
+        OWLNamedIndividual individual = individuals[slot];
+        if (individual == null || !individual.getIRI().equals(iri)) {
+            individual = dataFactory.getOWLNamedIndividual(iri);
+            individuals[slot] = individual;
+        }
+        return individual;
+    }
+
+    /**
+     * @param subClasses
+     *        sub classes
+     * @param superClasses
+     *        super classes, one per sub class
+     * @return one subclass axiom per element of the columns
+     */
+    @Nonnull
+    public List<OWLSubClassOfAxiom> getOWLSubClassOfAxioms(@Nonnull OWLClassExpression[] subClasses,
+        @Nonnull OWLClassExpression[] superClasses) {
+        int size = checkColumn(subClasses, "subClasses", -1);
+        checkColumn(superClasses, "superClasses", size);
+        List<OWLSubClassOfAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLSubClassOfAxiomImpl(subClasses[i], superClasses[i], annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param subClasses
+     *        sub class IRIs
+     * @param superClasses
+     *        super class IRIs, one per sub class
+     * @return one subclass axiom between named classes per element of the
+     *         columns
+     */
+    @Nonnull
+    public List<OWLSubClassOfAxiom> getOWLSubClassOfAxioms(@Nonnull IRI[] subClasses, @Nonnull IRI[] superClasses) {
+        int size = checkColumn(subClasses, "subClasses", -1);
+        checkColumn(superClasses, "superClasses", size);
+        List<OWLSubClassOfAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLSubClassOfAxiomImpl(getOWLClass(subClasses[i]),
+                getOWLClass(superClasses[i]), annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param classExpressions
+     *        class expressions
+     * @param individuals
+     *        individuals, one per class expression
+     * @return one class assertion per element of the columns
+     */
+    @Nonnull
+    public List<OWLClassAssertionAxiom> getOWLClassAssertionAxioms(@Nonnull OWLClassExpression[] classExpressions,
+        @Nonnull OWLIndividual[] individuals) {
+        int size = checkColumn(classExpressions, "classExpressions", -1);
+        checkColumn(individuals, "individuals", size);
+        List<OWLClassAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLClassAssertionAxiomImpl(individuals[i], classExpressions[i],
+                annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param classes
+     *        class IRIs
+     * @param individuals
+     *        individual IRIs, one per class
+     * @return one class assertion of a named class to a named individual per
+     *         element of the columns
+     */
+    @Nonnull
+    public List<OWLClassAssertionAxiom> getOWLClassAssertionAxioms(@Nonnull IRI[] classes, @Nonnull IRI[] individuals) {
+        int size = checkColumn(classes, "classes", -1);
+        checkColumn(individuals, "individuals", size);
+        List<OWLClassAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLClassAssertionAxiomImpl(getOWLNamedIndividual(individuals[i]),
+                getOWLClass(classes[i]), annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param properties
+     *        properties
+     * @param subjects
+     *        subjects, one per property
+     * @param objects
+     *        objects, one per property
+     * @return one object property assertion per element of the columns
+     */
+    @Nonnull
+    public List<OWLObjectPropertyAssertionAxiom> getOWLObjectPropertyAssertionAxioms(
+        @Nonnull OWLObjectPropertyExpression[] properties, @Nonnull OWLIndividual[] subjects,
+        @Nonnull OWLIndividual[] objects) {
+        int size = checkColumn(properties, "properties", -1);
+        checkColumn(subjects, "subjects", size);
+        checkColumn(objects, "objects", size);
+        List<OWLObjectPropertyAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLObjectPropertyAssertionAxiomImpl(subjects[i], properties[i],
+                objects[i], annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param properties
+     *        property IRIs
+     * @param subjects
+     *        subject IRIs, one per property
+     * @param objects
+     *        object IRIs, one per property
+     * @return one object property assertion between named individuals per
+     *         element of the columns
+     */
+    @Nonnull
+    public List<OWLObjectPropertyAssertionAxiom> getOWLObjectPropertyAssertionAxioms(@Nonnull IRI[] properties,
+        @Nonnull IRI[] subjects, @Nonnull IRI[] objects) {
+        int size = checkColumn(properties, "properties", -1);
+        checkColumn(subjects, "subjects", size);
+        checkColumn(objects, "objects", size);
+        List<OWLObjectPropertyAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLObjectPropertyAssertionAxiomImpl(getOWLNamedIndividual(subjects[i]),
+                getOWLObjectProperty(properties[i]), getOWLNamedIndividual(objects[i]), annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param properties
+     *        properties
+     * @param subjects
+     *        subjects, one per property
+     * @param values
+     *        values, one per property
+     * @return one data property assertion per element of the columns
+     */
+    @Nonnull
+    public List<OWLDataPropertyAssertionAxiom> getOWLDataPropertyAssertionAxioms(
+        @Nonnull OWLDataPropertyExpression[] properties, @Nonnull OWLIndividual[] subjects,
+        @Nonnull OWLLiteral[] values) {
+        int size = checkColumn(properties, "properties", -1);
+        checkColumn(subjects, "subjects", size);
+        checkColumn(values, "values", size);
+        List<OWLDataPropertyAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLDataPropertyAssertionAxiomImpl(subjects[i], properties[i], values[i],
+                annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param properties
+     *        property IRIs
+     * @param subjects
+     *        subject IRIs, one per property
+     * @param values
+     *        values, one per property
+     * @return one data property assertion on a named individual per element
+     *         of the columns
+     */
+    @Nonnull
+    public List<OWLDataPropertyAssertionAxiom> getOWLDataPropertyAssertionAxioms(@Nonnull IRI[] properties,
+        @Nonnull IRI[] subjects, @Nonnull OWLLiteral[] values) {
+        int size = checkColumn(properties, "properties", -1);
+        checkColumn(subjects, "subjects", size);
+        checkColumn(values, "values", size);
+        List<OWLDataPropertyAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLDataPropertyAssertionAxiomImpl(getOWLNamedIndividual(subjects[i]),
+                getOWLDataProperty(properties[i]), values[i], annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param properties
+     *        annotation properties
+     * @param subjects
+     *        subjects, one per property
+     * @param values
+     *        values, one per property
+     * @return one annotation assertion per element of the columns
+     */
+    @Nonnull
+    public List<OWLAnnotationAssertionAxiom> getOWLAnnotationAssertionAxioms(
+        @Nonnull OWLAnnotationProperty[] properties, @Nonnull OWLAnnotationSubject[] subjects,
+        @Nonnull OWLAnnotationValue[] values) {
+        int size = checkColumn(properties, "properties", -1);
+        checkColumn(subjects, "subjects", size);
+        checkColumn(values, "values", size);
+        List<OWLAnnotationAssertionAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLAnnotationAssertionAxiomImpl(subjects[i], properties[i], values[i],
+                annotations)));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param entities
+     *        entities to declare
+     * @return one declaration per entity
+     */
+    @Nonnull
+    public List<OWLDeclarationAxiom> getOWLDeclarationAxioms(@Nonnull OWLEntity[] entities) {
+        int size = checkColumn(entities, "entities", -1);
+        List<OWLDeclarationAxiom> axioms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            axioms.add(dataFactory.share(new OWLDeclarationAxiomImpl(entities[i], annotations)));
+        }
+        return axioms;
+    }
+
+    private static int slot(@Nonnull IRI iri) {
+        int h = iri.hashCode();
+        return (h ^ h >>> 16) & ENTITY_TABLE_SIZE - 1;
+    }
+
+    /**
+     * @param column
+     *        column to check
+     * @param name
+     *        name of the column, for error messages
+     * @param size
+     *        expected number of elements, or -1 for any
+     * @return the number of elements in the column
+     * @throws NullPointerException
+     *         if the column or any of its elements is null
+     * @throws IllegalArgumentException
+     *         if the column does not have the expected size
+     */
+    private static int checkColumn(Object[] column, @Nonnull String name, int size) {
+        checkNotNull(column, name + " cannot be null");
+        if (size >= 0 && column.length != size) {
+            throw new IllegalArgumentException(name + " has " + column.length + " elements, expected " + size);
+        }
+        for (int i = 0; i < column.length; i++) {
+            if (column[i] == null) {
+                throw new NullPointerException(name + '[' + i + "] cannot be null");
+            }
+        }
+        return column.length;
+    }
+}
@@ -1,6 +1,8 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -25,4 +27,37 @@ public interface HasIncrementalSignatureGenerationSupport {
     void
             addAnonymousIndividualsToSet(
                     @Nonnull Set<OWLAnonymousIndividual> anons);
+
+    /**
+     * Passes the entities that {@link #addSignatureEntitiesToSet(Set)} would
+     * add to a visitor, without building a set, until the visitor returns
+     * false. An entity that occurs more than once in this object may be
+     * passed more than once.
+     * 
+     * @param visitor
+     *        visitor to call for each entity; returning false stops the
+     *        traversal
+     * @return true if all entities were visited, false if the visitor stopped
+     *         the traversal
+     */
+    boolean forEachSignatureEntityWhile(@Nonnull Predicate<? super OWLEntity> visitor);
+
+    /**
+     * Passes the entities that {@link #addSignatureEntitiesToSet(Set)} would
+     * add to a consumer, without building a set. An entity that occurs more
+     * than once in this object may be passed more than once.
+     * 
+     * @param consumer
+     *        consumer to call for each entity
+     */
+    default void forEachSignatureEntity(@Nonnull final Consumer<? super OWLEntity> consumer) {
+        forEachSignatureEntityWhile(new Predicate<OWLEntity>() {
+
+            @Override
+            public boolean test(OWLEntity entity) {
+                consumer.accept(entity);
+                return true;
+            }
+        });
+    }
 }
@@ -15,8 +15,8 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -24,6 +24,8 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
@@ -38,7 +40,7 @@ public class OWLAnnotationImpl extends OWLObjectImplWithoutEntityAndAnonCaching
     @Nonnull
     private final OWLAnnotationValue value;
     @Nonnull
-    private final List<OWLAnnotation> anns;
+    private final SmallSortedSet<OWLAnnotation> anns;
 
     @Override
     protected int index() {
@@ -59,7 +61,7 @@ public class OWLAnnotationImpl extends OWLObjectImplWithoutEntityAndAnonCaching
         this.property = checkNotNull(property, "property cannot be null");
         this.value = checkNotNull(value, "value cannot be null");
         checkNotNull(annotations, "annotations cannot be null");
-        anns = CollectionFactory.sortOptionally((Set<OWLAnnotation>) annotations);
+        anns = SmallSortedSet.copyOf(annotations);
     }
 
     @Override
@@ -110,6 +112,9 @@ public class OWLAnnotationImpl extends OWLObjectImplWithoutEntityAndAnonCaching
         if (obj == this) {
             return true;
         }
+        if (differsStructurally(obj)) {
+            return false;
+        }
         if (obj instanceof OWLAnnotationImpl) {
             OWLAnnotationImpl other = (OWLAnnotationImpl) obj;
             return other.getProperty().equals(property)
@@ -162,6 +167,14 @@ public class OWLAnnotationImpl extends OWLObjectImplWithoutEntityAndAnonCaching
         addEntitiesFromAnnotationsToSet(anns, entities);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!visitor.test(property)) {
+            return false;
+        }
+        return forEachSignatureEntityWhileInAnnotations(anns, visitor);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsFromAnnotationsToSet(anns, anons);
@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -68,6 +69,11 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends
         entities.add(property);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return visitor.test(property);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 
@@ -21,6 +21,7 @@ import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Matthew Horridge, The University of Manchester, Information
@@ -246,6 +247,11 @@ public class OWLAnnotationPropertyImpl extends
         entities.add(this);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return visitor.test(this);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 }
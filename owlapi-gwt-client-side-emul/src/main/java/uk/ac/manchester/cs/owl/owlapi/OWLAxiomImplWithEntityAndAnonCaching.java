@@ -16,9 +16,7 @@ import static org.semanticweb.owlapi.util.CollectionFactory.*;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.*;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -30,6 +28,8 @@ import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.util.NNF;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
@@ -40,7 +40,7 @@ public abstract class OWLAxiomImplWithEntityAndAnonCaching extends OWLObjectImpl
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    private final List<OWLAnnotation> annotations;
+    private final SmallSortedSet<OWLAnnotation> annotations;
 
     @Override
     protected int index() {
@@ -51,19 +51,9 @@ public abstract class OWLAxiomImplWithEntityAndAnonCaching extends OWLObjectImpl
      * @param annotations
      *        annotations on the axiom
      */
-    @SuppressWarnings("unchecked")
     public OWLAxiomImplWithEntityAndAnonCaching(@Nonnull Collection<? extends OWLAnnotation> annotations) {
         checkNotNull(annotations, "annotations cannot be null");
-        if (!annotations.isEmpty()) {
-            if (annotations.size() == 1) {
-                OWLAnnotation tmp = annotations.iterator().next();
-                this.annotations = Collections.singletonList(tmp);
-            } else {
-                this.annotations = (List<OWLAnnotation>) sortOptionally(annotations);
-            }
-        } else {
-            this.annotations = emptyList();
-        }
+        this.annotations = SmallSortedSet.copyOf(annotations);
     }
 
     @Override
@@ -147,7 +137,7 @@ public abstract class OWLAxiomImplWithEntityAndAnonCaching extends OWLObjectImpl
         if (obj == null || hashCode() != obj.hashCode()) {
             return false;
         }
-        if (!(obj instanceof OWLAxiom)) {
+        if (!(obj instanceof OWLAxiom) || differsStructurally(obj)) {
             return false;
         }
         OWLAxiom other = (OWLAxiom) obj;
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -52,6 +53,15 @@ public abstract class OWLDataCardinalityRestrictionImpl extends
         addSignatureEntitiesToSetForValue(entities, property);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        OWLDataRange filler = getFiller();
+        if (!forEachSignatureEntityWhileForValue(visitor, filler)) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, property);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         OWLDataRange filler = getFiller();
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -64,6 +65,11 @@ public class OWLDataComplementOfImpl extends
         addSignatureEntitiesToSetForValue(entities, dataRange);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return forEachSignatureEntityWhileForValue(visitor, dataRange);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, dataRange);
@@ -100,7 +106,7 @@ public class OWLDataComplementOfImpl extends
         if (this == obj) {
             return true;
         }
-        if (!(obj instanceof OWLDataComplementOf)) {
+        if (!(obj instanceof OWLDataComplementOf) || differsStructurally(obj)) {
             return false;
         }
         return ((OWLDataComplementOf) obj).getDataRange().equals(dataRange);
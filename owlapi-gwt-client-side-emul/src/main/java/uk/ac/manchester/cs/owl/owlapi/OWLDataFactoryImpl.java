@@ -18,9 +18,11 @@ import java.io.Serializable;
 import java.util.*;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.ObjectInterner;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
@@ -51,20 +53,101 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     @Nonnull private static final OWLDataProperty        OWL_TOP_DATA_PROPERTY        = new OWLDataPropertyImpl(       OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI());
     @Nonnull private static final OWLDataProperty        OWL_BOTTOM_DATA_PROPERTY     = new OWLDataPropertyImpl(       OWLRDFVocabulary.OWL_BOTTOM_DATA_PROPERTY.getIRI());
     //@formatter:on
+    /** The maximum number of shared objects held in compiled JavaScript. */
+    private static final int CLIENT_SHARED_OBJECTS_SIZE = 100000;
     private final OWLDataFactoryInternals dataFactoryInternals;
+    private final boolean shareStructure;
+    @Nullable
+    private transient volatile ObjectInterner<OWLObject> sharedObjects;
 
 
     public OWLDataFactoryImpl() {
         this(new OWLDataFactoryInternalsImplNoCache(false));
     }
 
+    /**
+     * @param cache
+     *        true if entities and common literals should be shared
+     * @param useCompression
+     *        true if literals should be compressed
+     */
+    public OWLDataFactoryImpl(boolean cache, boolean useCompression) {
+        this(cache, useCompression, false);
+    }
+
+    /**
+     * @param cache
+     *        true if entities and common literals should be shared
+     * @param useCompression
+     *        true if literals should be compressed
+     * @param shareStructure
+     *        true if structurally equal class expressions, data ranges and
+     *        axioms should be shared, so that equal objects created by this
+     *        factory are identical while they are in use
+     */
+    public OWLDataFactoryImpl(boolean cache, boolean useCompression, boolean shareStructure) {
+        this(cache ? new OWLDataFactoryInternalsImpl(useCompression)
+            : new OWLDataFactoryInternalsImplNoCache(useCompression), shareStructure);
+    }
+
     public OWLDataFactoryImpl(OWLDataFactoryInternals dataFactoryInternals) {
+        this(dataFactoryInternals, false);
+    }
+
+    /**
+     * @param dataFactoryInternals
+     *        internals used to create entities and literals
+     * @param shareStructure
+     *        true if structurally equal class expressions, data ranges and
+     *        axioms should be shared
+     */
+    public OWLDataFactoryImpl(OWLDataFactoryInternals dataFactoryInternals, boolean shareStructure) {
         this.dataFactoryInternals = verifyNotNull(dataFactoryInternals);
+        this.shareStructure = shareStructure;
     }
 
     @Override
     public void purge() {
         dataFactoryInternals.purge();
+        ObjectInterner<OWLObject> shared = sharedObjects;
+        if (shared != null) {
+            shared.clear();
+        }
+    }
+
+    /**
+     * @param object
+     *        a newly created object
+     * @return the shared object equal to {@code object} if structure sharing
+     *         is enabled, {@code object} otherwise
+     */
+    @Nonnull
+    <T extends OWLObject> T share(@Nonnull T object) {
+        if (!shareStructure) {
+            return object;
+        }
+        ObjectInterner<OWLObject> shared = sharedObjects;
+        if (shared == null) {
+            synchronized (this) {
+                shared = sharedObjects;
+                if (shared == null) {
+                    // not serialized; recreated on first use after deserialization
+                    shared = new ObjectInterner<>(CLIENT_SHARED_OBJECTS_SIZE);
+                    sharedObjects = shared;
+                }
+            }
+        }
+        return shared.intern(object);
+    }
+
+    /**
+     * @return a new builder for creating many axioms of the same kind with
+     *         this factory, without checking and copying the arguments of
+     *         each axiom separately
+     */
+    @Nonnull
+    public AxiomBatchBuilder getAxiomBatchBuilder() {
+        return new AxiomBatchBuilder(this);
     }
 
     private static void checkAnnotations(@Nonnull Set<? extends OWLAnnotation> o) {
@@ -308,7 +391,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLDataOneOf getOWLDataOneOf(
         @Nonnull Set<? extends OWLLiteral> values) {
         checkNull(values, "values", true);
-        return new OWLDataOneOfImpl(values);
+        return share(new OWLDataOneOfImpl(values));
     }
 
     @Override
@@ -321,7 +404,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     @Override
     public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
         checkNotNull(dataRange, "dataRange cannot be null");
-        return new OWLDataComplementOfImpl(dataRange);
+        return share(new OWLDataComplementOfImpl(dataRange));
     }
 
     @Override
@@ -336,7 +419,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLDataIntersectionOf getOWLDataIntersectionOf(
         @Nonnull Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, "dataRanges", true);
-        return new OWLDataIntersectionOfImpl(dataRanges);
+        return share(new OWLDataIntersectionOfImpl(dataRanges));
     }
 
     @Override
@@ -350,7 +433,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLDataUnionOf getOWLDataUnionOf(
         @Nonnull Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, "dataRanges", true);
-        return new OWLDataUnionOfImpl(dataRanges);
+        return share(new OWLDataUnionOfImpl(dataRanges));
     }
 
     @Nonnull
@@ -360,7 +443,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<OWLFacetRestriction> facetRestrictions) {
         checkNotNull(dataType, "datatype cannot be null");
         checkNull(facetRestrictions, "facets", true);
-        return new OWLDatatypeRestrictionImpl(dataType, facetRestrictions);
+        return share(new OWLDatatypeRestrictionImpl(dataType, facetRestrictions));
     }
 
     @Nonnull
@@ -370,9 +453,9 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(dataType, "datatype cannot be null");
         checkNotNull(facet, "facet cannot be null");
         checkNotNull(typedLiteral, "typedConstant cannot be null");
-        return new OWLDatatypeRestrictionImpl(dataType,
+        return share(new OWLDatatypeRestrictionImpl(dataType,
             CollectionFactory.createSet(getOWLFacetRestriction(facet,
-                typedLiteral)));
+                typedLiteral))));
     }
 
     @Override
@@ -506,7 +589,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLLiteral facetValue) {
         checkNotNull(facet, "facet cannot be null");
         checkNotNull(facetValue, "facetValue cannot be null");
-        return new OWLFacetRestrictionImpl(facet, facetValue);
+        return share(new OWLFacetRestrictionImpl(facet, facetValue));
     }
 
     @Nonnull
@@ -514,7 +597,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         @Nonnull Set<? extends OWLClassExpression> operands) {
         checkNull(operands, "operands", true);
-        return new OWLObjectIntersectionOfImpl(operands);
+        return share(new OWLObjectIntersectionOfImpl(operands));
     }
 
     @Override
@@ -530,7 +613,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property, OWLDataRange dataRange) {
         checkNotNull(dataRange, "dataRange cannot be null");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataAllValuesFromImpl(property, dataRange);
+        return share(new OWLDataAllValuesFromImpl(property, dataRange));
     }
 
     @Nonnull
@@ -539,8 +622,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataExactCardinalityImpl(property, cardinality,
-            getTopDatatype());
+        return share(new OWLDataExactCardinalityImpl(property, cardinality,
+            getTopDatatype()));
     }
 
     @Nonnull
@@ -550,7 +633,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(dataRange, "dataRange cannot be null");
         checkNotNull(property, "property cannot be null");
         checkNotNegative(cardinality, "cardinality cannot be negative");
-        return new OWLDataExactCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataExactCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -559,8 +642,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataMaxCardinalityImpl(property, cardinality,
-            getTopDatatype());
+        return share(new OWLDataMaxCardinalityImpl(property, cardinality,
+            getTopDatatype()));
     }
 
     @Nonnull
@@ -570,7 +653,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
         checkNotNull(dataRange, "dataRange cannot be null");
-        return new OWLDataMaxCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataMaxCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -579,8 +662,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataMinCardinalityImpl(property, cardinality,
-            getTopDatatype());
+        return share(new OWLDataMinCardinalityImpl(property, cardinality,
+            getTopDatatype()));
     }
 
     @Nonnull
@@ -590,7 +673,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(dataRange, "dataRange cannot be null");
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataMinCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataMinCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -599,7 +682,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property, OWLDataRange dataRange) {
         checkNotNull(dataRange, "dataRange cannot be null");
         checkNotNull(property, "property cannot be null");
-        return new OWLDataSomeValuesFromImpl(property, dataRange);
+        return share(new OWLDataSomeValuesFromImpl(property, dataRange));
     }
 
     @Nonnull
@@ -608,7 +691,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLDataPropertyExpression property, OWLLiteral value) {
         checkNotNull(property, "property cannot be null");
         checkNotNull(value, "value cannot be null");
-        return new OWLDataHasValueImpl(property, value);
+        return share(new OWLDataHasValueImpl(property, value));
     }
 
     @Nonnull
@@ -616,7 +699,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLObjectComplementOf getOWLObjectComplementOf(
         OWLClassExpression operand) {
         checkNotNull(operand, "operand");
-        return new OWLObjectComplementOfImpl(operand);
+        return share(new OWLObjectComplementOfImpl(operand));
     }
 
     @Nonnull
@@ -626,7 +709,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectAllValuesFromImpl(property, classExpression);
+        return share(new OWLObjectAllValuesFromImpl(property, classExpression));
     }
 
     @Nonnull
@@ -634,7 +717,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLObjectOneOf getOWLObjectOneOf(
         @Nonnull Set<? extends OWLIndividual> values) {
         checkNull(values, "values", true);
-        return new OWLObjectOneOfImpl(values);
+        return share(new OWLObjectOneOfImpl(values));
     }
 
     @Override
@@ -649,8 +732,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         int cardinality, OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectExactCardinalityImpl(property, cardinality,
-            OWL_THING);
+        return share(new OWLObjectExactCardinalityImpl(property, cardinality,
+            OWL_THING));
     }
 
     @Nonnull
@@ -661,8 +744,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(property, "property cannot be null");
         checkNotNegative(cardinality, "cardinality cannot be negative");
-        return new OWLObjectExactCardinalityImpl(property, cardinality,
-            classExpression);
+        return share(new OWLObjectExactCardinalityImpl(property, cardinality,
+            classExpression));
     }
 
     @Nonnull
@@ -671,7 +754,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING);
+        return share(new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Nonnull
@@ -682,8 +765,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(property, "property cannot be null");
         checkNotNegative(cardinality, "cardinality cannot be negative");
-        return new OWLObjectMinCardinalityImpl(property, cardinality,
-            classExpression);
+        return share(new OWLObjectMinCardinalityImpl(property, cardinality,
+            classExpression));
     }
 
     @Nonnull
@@ -692,7 +775,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING);
+        return share(new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Nonnull
@@ -703,8 +786,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNegative(cardinality, "cardinality cannot be negative");
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectMaxCardinalityImpl(property, cardinality,
-            classExpression);
+        return share(new OWLObjectMaxCardinalityImpl(property, cardinality,
+            classExpression));
     }
 
     @Nonnull
@@ -712,7 +795,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLObjectHasSelf getOWLObjectHasSelf(
         OWLObjectPropertyExpression property) {
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectHasSelfImpl(property);
+        return share(new OWLObjectHasSelfImpl(property));
     }
 
     @Nonnull
@@ -722,7 +805,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(property, "property cannot be null");
-        return new OWLObjectSomeValuesFromImpl(property, classExpression);
+        return share(new OWLObjectSomeValuesFromImpl(property, classExpression));
     }
 
     @Nonnull
@@ -731,7 +814,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         OWLObjectPropertyExpression property, OWLIndividual individual) {
         checkNotNull(property, "property cannot be null");
         checkNotNull(individual, "individual cannot be null");
-        return new OWLObjectHasValueImpl(property, individual);
+        return share(new OWLObjectHasValueImpl(property, individual));
     }
 
     @Nonnull
@@ -739,7 +822,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public OWLObjectUnionOf getOWLObjectUnionOf(
         @Nonnull Set<? extends OWLClassExpression> operands) {
         checkNull(operands, "operands", true);
-        return new OWLObjectUnionOfImpl(operands);
+        return share(new OWLObjectUnionOfImpl(operands));
     }
 
     @Override
@@ -755,8 +838,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(propertyExpression, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression,
-            annotations);
+        return share(new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression,
+            annotations));
     }
 
     @Nonnull
@@ -775,7 +858,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(domain, "domain cannot be null");
         checkAnnotations(annotations);
-        return new OWLDataPropertyDomainAxiomImpl(property, domain, annotations);
+        return share(new OWLDataPropertyDomainAxiomImpl(property, domain, annotations));
     }
 
     @Nonnull
@@ -794,8 +877,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(owlDataRange, "owlDataRange cannot be null");
         checkAnnotations(annotations);
-        return new OWLDataPropertyRangeAxiomImpl(property, owlDataRange,
-            annotations);
+        return share(new OWLDataPropertyRangeAxiomImpl(property, owlDataRange,
+            annotations));
     }
 
     @Nonnull
@@ -815,8 +898,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(subProperty, "subProperty cannot be null");
         checkNotNull(superProperty, "superProperty cannot be null");
         checkAnnotations(annotations);
-        return new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty,
-            annotations);
+        return share(new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty,
+            annotations));
     }
 
     @Nonnull
@@ -840,7 +923,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(owlEntity, "owlEntity cannot be null");
         checkAnnotations(annotations);
-        return new OWLDeclarationAxiomImpl(owlEntity, annotations);
+        return share(new OWLDeclarationAxiomImpl(owlEntity, annotations));
     }
 
     @Nonnull
@@ -850,7 +933,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(individuals, "individuals", true);
         checkAnnotations(annotations);
-        return new OWLDifferentIndividualsAxiomImpl(individuals, annotations);
+        return share(new OWLDifferentIndividualsAxiomImpl(individuals, annotations));
     }
 
     @Override
@@ -876,7 +959,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(classExpressions, "classExpressions", true);
         checkAnnotations(annotations);
-        return new OWLDisjointClassesAxiomImpl(classExpressions, annotations);
+        return share(new OWLDisjointClassesAxiomImpl(classExpressions, annotations));
     }
 
     @Nonnull
@@ -904,7 +987,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, "properties", true);
         checkAnnotations(annotations);
-        return new OWLDisjointDataPropertiesAxiomImpl(properties, annotations);
+        return share(new OWLDisjointDataPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -946,7 +1029,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, "properties", true);
         checkAnnotations(annotations);
-        return new OWLDisjointObjectPropertiesAxiomImpl(properties, annotations);
+        return share(new OWLDisjointObjectPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -956,7 +1039,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(classExpressions, "classExpressions", true);
         checkAnnotations(annotations);
-        return new OWLEquivalentClassesAxiomImpl(classExpressions, annotations);
+        return share(new OWLEquivalentClassesAxiomImpl(classExpressions, annotations));
     }
 
     @Override
@@ -1002,7 +1085,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, "properties", true);
         checkAnnotations(annotations);
-        return new OWLEquivalentDataPropertiesAxiomImpl(properties, annotations);
+        return share(new OWLEquivalentDataPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -1084,7 +1167,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLFunctionalDataPropertyAxiomImpl(property, annotations);
+        return share(new OWLFunctionalDataPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1102,7 +1185,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1131,8 +1214,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(object, "object cannot be null");
         checkNotNull(subject, "subject cannot be null");
         checkAnnotations(annotations);
-        return new OWLDataPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return share(new OWLDataPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Nonnull
@@ -1208,8 +1291,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(object, "object cannot be null");
         checkNotNull(subject, "subject cannot be null");
         checkAnnotations(annotations);
-        return new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property,
-            object, annotations);
+        return share(new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property,
+            object, annotations));
     }
 
     @Nonnull
@@ -1231,8 +1314,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(object, "object cannot be null");
         checkNotNull(subject, "subject cannot be null");
         checkAnnotations(annotations);
-        return new OWLNegativeObjectPropertyAssertionAxiomImpl(subject,
-            property, object, annotations);
+        return share(new OWLNegativeObjectPropertyAssertionAxiomImpl(subject,
+            property, object, annotations));
     }
 
     @Nonnull
@@ -1260,8 +1343,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(classExpression, "classExpression cannot be null");
         checkNotNull(individual, "individual cannot be null");
         checkAnnotations(annotations);
-        return new OWLClassAssertionAxiomImpl(individual, classExpression,
-            annotations);
+        return share(new OWLClassAssertionAxiomImpl(individual, classExpression,
+            annotations));
     }
 
     @Nonnull
@@ -1279,8 +1362,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLInverseFunctionalObjectPropertyAxiomImpl(property,
-            annotations);
+        return share(new OWLInverseFunctionalObjectPropertyAxiomImpl(property,
+            annotations));
     }
 
     @Nonnull
@@ -1290,7 +1373,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1318,8 +1401,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(classExpression, "classExpression cannot be null");
         checkAnnotations(annotations);
-        return new OWLObjectPropertyDomainAxiomImpl(property, classExpression,
-            annotations);
+        return share(new OWLObjectPropertyDomainAxiomImpl(property, classExpression,
+            annotations));
     }
 
     @Nonnull
@@ -1339,7 +1422,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(range, "range cannot be null");
         checkAnnotations(annotations);
-        return new OWLObjectPropertyRangeAxiomImpl(property, range, annotations);
+        return share(new OWLObjectPropertyRangeAxiomImpl(property, range, annotations));
     }
 
     @Nonnull
@@ -1359,8 +1442,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(subProperty, "subProperty cannot be null");
         checkNotNull(superProperty, "superProperty cannot be null");
         checkAnnotations(annotations);
-        return new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty,
-            annotations);
+        return share(new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty,
+            annotations));
     }
 
     @Nonnull
@@ -1379,7 +1462,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLReflexiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLReflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1389,7 +1472,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(individuals, "individuals", true);
         checkAnnotations(annotations);
-        return new OWLSameIndividualAxiomImpl(individuals, annotations);
+        return share(new OWLSameIndividualAxiomImpl(individuals, annotations));
     }
 
     @Nonnull
@@ -1417,7 +1500,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(subClass, "subclass cannot be null");
         checkNotNull(superClass, "superclass cannot be null");
         checkAnnotations(annotations);
-        return new OWLSubClassOfAxiomImpl(subClass, superClass, annotations);
+        return share(new OWLSubClassOfAxiomImpl(subClass, superClass, annotations));
     }
 
     @Nonnull
@@ -1435,7 +1518,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLSymmetricObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLSymmetricObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1453,7 +1536,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, "property cannot be null");
         checkAnnotations(annotations);
-        return new OWLTransitiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLTransitiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1472,7 +1555,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         if (!(property instanceof OWLObjectProperty)) {
             throw new IllegalArgumentException("ObjectInverseOf can only be applied to Object Properties");
         }
-        return new OWLObjectInverseOfImpl(property);
+        return share(new OWLObjectInverseOfImpl(property));
     }
 
     @Nonnull
@@ -1484,8 +1567,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(forwardProperty, "forwardProperty cannot be null");
         checkNotNull(inverseProperty, "inverseProperty cannot be null");
         checkAnnotations(annotations);
-        return new OWLInverseObjectPropertiesAxiomImpl(forwardProperty,
-            inverseProperty, annotations);
+        return share(new OWLInverseObjectPropertiesAxiomImpl(forwardProperty,
+            inverseProperty, annotations));
     }
 
     @Nonnull
@@ -1506,8 +1589,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(superProperty, "superProperty cannot be null");
         checkNull(chain, "chain", true);
         checkAnnotations(annotations);
-        return new OWLSubPropertyChainAxiomImpl(chain, superProperty,
-            annotations);
+        return share(new OWLSubPropertyChainAxiomImpl(chain, superProperty,
+            annotations));
     }
 
     @Nonnull
@@ -1527,7 +1610,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(ce, "classExpression cannot be null");
         checkNull(objectProperties, "properties", true);
         checkAnnotations(annotations);
-        return new OWLHasKeyAxiomImpl(ce, objectProperties, annotations);
+        return share(new OWLHasKeyAxiomImpl(ce, objectProperties, annotations));
     }
 
     @Nonnull
@@ -1553,8 +1636,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(owlClass, "owlClass cannot be null");
         checkNull(classExpressions, "classExpressions", true);
         checkAnnotations(annotations);
-        return new OWLDisjointUnionAxiomImpl(owlClass, classExpressions,
-            annotations);
+        return share(new OWLDisjointUnionAxiomImpl(owlClass, classExpressions,
+            annotations));
     }
 
     @Nonnull
@@ -1572,8 +1655,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, "properties", true);
         checkAnnotations(annotations);
-        return new OWLEquivalentObjectPropertiesAxiomImpl(properties,
-            annotations);
+        return share(new OWLEquivalentObjectPropertiesAxiomImpl(properties,
+            annotations));
     }
 
     @Nonnull
@@ -1586,8 +1669,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(individual, "individual cannot be null");
         checkNotNull(object, "object cannot be null");
         checkAnnotations(annotations);
-        return new OWLObjectPropertyAssertionAxiomImpl(individual, property,
-            object, annotations);
+        return share(new OWLObjectPropertyAssertionAxiomImpl(individual, property,
+            object, annotations));
     }
 
     @Nonnull
@@ -1606,7 +1689,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(sub, "subProperty cannot be null");
         checkNotNull(sup, "superProperty cannot be null");
         checkAnnotations(annotations);
-        return new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations);
+        return share(new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations));
     }
 
     // Annotations
@@ -1672,8 +1755,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(value, "value cannot be null");
         checkAnnotations(annotations);
-        return new OWLAnnotationAssertionAxiomImpl(subject, property, value,
-            annotations);
+        return share(new OWLAnnotationAssertionAxiomImpl(subject, property, value,
+            annotations));
     }
 
     @Override
@@ -1691,8 +1774,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(prop, "property cannot be null");
         checkNotNull(domain, "domain cannot be null");
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyDomainAxiomImpl(prop, domain,
-            annotations);
+        return share(new OWLAnnotationPropertyDomainAxiomImpl(prop, domain,
+            annotations));
     }
 
     @Nonnull
@@ -1711,7 +1794,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(prop, "property cannot be null");
         checkNotNull(range, "range cannot be null");
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations);
+        return share(new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations));
     }
 
     @Nonnull
@@ -1731,7 +1814,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNull(body, "body", true);
         checkNull(head, "head", true);
         checkAnnotations(annotations);
-        return new SWRLRuleImpl(body, head, annotations);
+        return share(new SWRLRuleImpl(body, head, annotations));
     }
 
     @Nonnull
@@ -1740,7 +1823,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         @Nonnull Set<? extends SWRLAtom> head) {
         checkNull(body, "antecedent", true);
         checkNull(head, "consequent", true);
-        return new SWRLRuleImpl(body, head);
+        return share(new SWRLRuleImpl(body, head));
     }
 
     @Nonnull
@@ -1749,7 +1832,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         SWRLIArgument arg) {
         checkNotNull(predicate, "predicate cannot be null");
         checkNotNull(arg, "arg cannot be null");
-        return new SWRLClassAtomImpl(predicate, arg);
+        return share(new SWRLClassAtomImpl(predicate, arg));
     }
 
     @Nonnull
@@ -1758,7 +1841,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         SWRLDArgument arg) {
         checkNotNull(predicate, "predicate cannot be null");
         checkNotNull(arg, "arg cannot be null");
-        return new SWRLDataRangeAtomImpl(predicate, arg);
+        return share(new SWRLDataRangeAtomImpl(predicate, arg));
     }
 
     @Nonnull
@@ -1769,7 +1852,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(arg0, "arg0 cannot be null");
         checkNotNull(arg1, "arg1 cannot be null");
-        return new SWRLObjectPropertyAtomImpl(property, arg0, arg1);
+        return share(new SWRLObjectPropertyAtomImpl(property, arg0, arg1));
     }
 
     @Nonnull
@@ -1780,7 +1863,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(property, "property cannot be null");
         checkNotNull(arg0, "arg0 cannot be null");
         checkNotNull(arg1, "arg1 cannot be null");
-        return new SWRLDataPropertyAtomImpl(property, arg0, arg1);
+        return share(new SWRLDataPropertyAtomImpl(property, arg0, arg1));
     }
 
     @Nonnull
@@ -1789,14 +1872,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         List<SWRLDArgument> args) {
         checkNotNull(builtInIRI, "builtInIRI cannot be null");
         checkNotNull(args, "args cannot be null");
-        return new SWRLBuiltInAtomImpl(builtInIRI, args);
+        return share(new SWRLBuiltInAtomImpl(builtInIRI, args));
     }
 
     @Nonnull
     @Override
     public SWRLVariable getSWRLVariable(IRI var) {
         checkNotNull(var, "var cannot be null");
-        return new SWRLVariableImpl(var);
+        return share(new SWRLVariableImpl(var));
     }
 
     @Nonnull
@@ -1804,14 +1887,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
     public SWRLIndividualArgument getSWRLIndividualArgument(
         OWLIndividual individual) {
         checkNotNull(individual, "individual cannot be null");
-        return new SWRLIndividualArgumentImpl(individual);
+        return share(new SWRLIndividualArgumentImpl(individual));
     }
 
     @Nonnull
     @Override
     public SWRLLiteralArgument getSWRLLiteralArgument(OWLLiteral literal) {
         checkNotNull(literal, "literal");
-        return new SWRLLiteralArgumentImpl(literal);
+        return share(new SWRLLiteralArgumentImpl(literal));
     }
 
     @Nonnull
@@ -1820,10 +1903,10 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         SWRLIArgument arg0, SWRLIArgument arg1) {
         checkNotNull(arg0, "arg0 cannot be null");
         checkNotNull(arg1, "arg1 cannot be null");
-        return new SWRLDifferentIndividualsAtomImpl(
+        return share(new SWRLDifferentIndividualsAtomImpl(
             getOWLObjectProperty(OWLRDFVocabulary.OWL_DIFFERENT_FROM
                 .getIRI()),
-            arg0, arg1);
+            arg0, arg1));
     }
 
     @Nonnull
@@ -1832,9 +1915,9 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         SWRLIArgument arg1) {
         checkNotNull(arg0, "arg0 cannot be null");
         checkNotNull(arg1, "arg1 cannot be null");
-        return new SWRLSameIndividualAtomImpl(
+        return share(new SWRLSameIndividualAtomImpl(
             getOWLObjectProperty(OWLRDFVocabulary.OWL_SAME_AS.getIRI()),
-            arg0, arg1);
+            arg0, arg1));
     }
 
     @Nonnull
@@ -1859,8 +1942,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable,
         checkNotNull(datatype, "datatype cannot be null");
         checkNotNull(dataRange, "dataRange cannot be null");
         checkAnnotations(annotations);
-        return new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange,
-            annotations);
+        return share(new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange,
+            annotations));
     }
 
     @Override
@@ -0,0 +1,172 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.InterningCache;
+
+/**
+ * Data factory internals that share entities and common literals. Entities
+ * are cached by IRI; integer literals in a small range around zero and short
+ * xsd:string literals are cached by value. On the JVM the caches only hold
+ * objects that are still referenced elsewhere; {@link #purge()} empties them.
+ * 
+ * @since 4.3.2.1
+ */
+public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCache {
+
+    private static final long serialVersionUID = 40000L;
+    /** maximum number of entries per cache in compiled JavaScript */
+    private static final int CLIENT_CACHE_SIZE = 20000;
+    /** smallest integer value with a cached literal */
+    private static final int MIN_CACHED_INT = -128;
+    /** largest integer value with a cached literal */
+    private static final int MAX_CACHED_INT = 1023;
+    /** strings longer than this are not worth looking up */
+    private static final int MAX_CACHED_STRING_LENGTH = 64;
+    @Nonnull
+    private transient InterningCache<IRI, OWLClass> classes = newCache();
+    @Nonnull
+    private transient InterningCache<IRI, OWLObjectProperty> objectProperties = newCache();
+    @Nonnull
+    private transient InterningCache<IRI, OWLDataProperty> dataProperties = newCache();
+    @Nonnull
+    private transient InterningCache<IRI, OWLNamedIndividual> individuals = newCache();
+    @Nonnull
+    private transient InterningCache<IRI, OWLDatatype> datatypes = newCache();
+    @Nonnull
+    private transient InterningCache<IRI, OWLAnnotationProperty> annotationProperties = newCache();
+    @Nonnull
+    private transient InterningCache<String, OWLLiteral> stringLiterals = newCache();
+    @Nonnull
+    private transient OWLLiteral[] intLiterals = new OWLLiteral[MAX_CACHED_INT - MIN_CACHED_INT + 1];
+
+    /**
+     * @param useCompression
+     *        true if compression of literals should be used
+     */
+    public OWLDataFactoryInternalsImpl(boolean useCompression) {
+        super(useCompression);
+    }
+
+    @Nonnull
+    private static <K, V> InterningCache<K, V> newCache() {
+        return new InterningCache<>(CLIENT_CACHE_SIZE);
+    }
+
+    /**
+     * The caches are not serialized; a deserialized instance starts with
+     * empty caches.
+     * 
+     * @return a fresh instance with the same settings
+     */
+    protected Object readResolve() {
+        return new OWLDataFactoryInternalsImpl(useCompression);
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        classes.clear();
+        objectProperties.clear();
+        dataProperties.clear();
+        individuals.clear();
+        datatypes.clear();
+        annotationProperties.clear();
+        stringLiterals.clear();
+        intLiterals = new OWLLiteral[intLiterals.length];
+    }
+
+    @Override
+    public OWLClass getOWLClass(IRI iri) {
+        OWLClass cls = classes.get(iri);
+        if (cls == null) {
+            cls = classes.intern(iri, super.getOWLClass(iri));
+        }
+        return cls;
+    }
+
+    @Override
+    public OWLObjectProperty getOWLObjectProperty(IRI iri) {
+        OWLObjectProperty property = objectProperties.get(iri);
+        if (property == null) {
+            property = objectProperties.intern(iri, super.getOWLObjectProperty(iri));
+        }
+        return property;
+    }
+
+    @Override
+    public OWLDataProperty getOWLDataProperty(IRI iri) {
+        OWLDataProperty property = dataProperties.get(iri);
+        if (property == null) {
+            property = dataProperties.intern(iri, super.getOWLDataProperty(iri));
+        }
+        return property;
+    }
+
+    @Override
+    public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
+        OWLNamedIndividual individual = individuals.get(iri);
+        if (individual == null) {
+            individual = individuals.intern(iri, super.getOWLNamedIndividual(iri));
+        }
+        return individual;
+    }
+
+    @Override
+    public OWLDatatype getOWLDatatype(IRI iri) {
+        OWLDatatype datatype = datatypes.get(iri);
+        if (datatype == null) {
+            datatype = datatypes.intern(iri, super.getOWLDatatype(iri));
+        }
+        return datatype;
+    }
+
+    @Override
+    public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
+        OWLAnnotationProperty property = annotationProperties.get(iri);
+        if (property == null) {
+            property = annotationProperties.intern(iri, super.getOWLAnnotationProperty(iri));
+        }
+        return property;
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(int value) {
+        if (value < MIN_CACHED_INT || value > MAX_CACHED_INT) {
+            return super.getOWLLiteral(value);
+        }
+        // racing threads may both build the literal; either copy is correct
+        OWLLiteral[] cache = intLiterals;
+        OWLLiteral literal = cache[value - MIN_CACHED_INT];
+        if (literal == null) {
+            literal = super.getOWLLiteral(value);
+            cache[value - MIN_CACHED_INT] = literal;
+        }
+        return literal;
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(@Nonnull String value) {
+        if (value.length() > MAX_CACHED_STRING_LENGTH) {
+            return super.getOWLLiteral(value);
+        }
+        OWLLiteral literal = stringLiterals.get(value);
+        if (literal == null) {
+            literal = stringLiterals.intern(value, super.getOWLLiteral(value));
+        }
+        return literal;
+    }
+}
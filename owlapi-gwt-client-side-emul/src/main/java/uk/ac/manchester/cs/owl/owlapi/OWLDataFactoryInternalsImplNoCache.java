@@ -43,6 +43,9 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
     private static final OWLDatatype XSDINTEGER = new OWL2DatatypeImpl(
         XSD_INTEGER);
     @Nonnull
+    private static final OWLDatatype XSDSTRING = new OWL2DatatypeImpl(
+        XSD_STRING);
+    @Nonnull
     private static final OWLDatatype RDFSLITERAL = new OWL2DatatypeImpl(
         RDFS_LITERAL);
     @Nonnull
@@ -53,12 +56,14 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         false, XSDBOOLEAN);
     @Nullable
     private OWLLiteral negativeFloatZero;
+    protected final boolean useCompression;
 
     /**
      * @param useCompression
      *        true if compression of literals should be used
      */
     public OWLDataFactoryInternalsImplNoCache(boolean useCompression) {
+        this.useCompression = useCompression;
     }
 
     @Override
@@ -101,6 +106,9 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
 
     @Override
     public OWLLiteral getOWLLiteral(@Nonnull String value) {
+        if (isCompressible(value)) {
+            return new OWLLiteralImpl(value, "", XSDSTRING, true);
+        }
         return new OWLLiteralImplString(value);
     }
 
@@ -112,9 +120,23 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         } else {
             normalisedLang = lang.trim().toLowerCase(Locale.ENGLISH);
         }
+        if (isCompressible(literal)) {
+            return new OWLLiteralImpl(literal, normalisedLang, PLAIN, true);
+        }
         return new OWLLiteralImplPlain(literal, normalisedLang);
     }
 
+    /**
+     * @param lexicalValue
+     *        lexical form of a literal
+     * @return true if compression is enabled and the lexical form is long
+     *         enough to be stored compressed
+     */
+    protected boolean isCompressible(@Nonnull String lexicalValue) {
+        return useCompression
+            && lexicalValue.length() > OWLLiteralImpl.COMPRESSION_LIMIT;
+    }
+
     @Override
     public OWLLiteral getOWLLiteral(int value) {
         return new OWLLiteralImplInteger(value, getIntegerOWLDatatype());
@@ -208,10 +230,10 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
     @Nonnull
     protected OWLLiteral getBasicLiteral(@Nonnull String lexicalValue,
         String lang, OWLDatatype datatype) {
-        OWLLiteral literal = null;
-            literal = new OWLLiteralImplNoCompression(lexicalValue, lang,
-                datatype);
-        return literal;
+        if (useCompression) {
+            return new OWLLiteralImpl(lexicalValue, lang, datatype, true);
+        }
+        return new OWLLiteralImplNoCompression(lexicalValue, lang, datatype);
     }
 
     private static boolean isBooleanTrueValue(@Nonnull String lexicalValue) {
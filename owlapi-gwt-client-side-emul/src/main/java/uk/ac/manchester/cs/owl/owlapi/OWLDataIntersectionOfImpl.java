@@ -59,8 +59,7 @@ public class OWLDataIntersectionOfImpl extends OWLNaryDataRangeImpl implements
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
-        OWLDataIntersectionOf other = (OWLDataIntersectionOf) object;
-        return compareSets(getOperands(), other.getOperands());
+        return compareOperands((OWLDataIntersectionOf) object);
     }
 
     @Override
@@ -68,7 +67,7 @@ public class OWLDataIntersectionOfImpl extends OWLNaryDataRangeImpl implements
         if (obj == this) {
             return true;
         }
-        if (!(obj instanceof OWLDataIntersectionOf)) {
+        if (!(obj instanceof OWLDataIntersectionOf) || differsStructurally(obj)) {
             return false;
         }
         OWLDataIntersectionOf other = (OWLDataIntersectionOf) obj;
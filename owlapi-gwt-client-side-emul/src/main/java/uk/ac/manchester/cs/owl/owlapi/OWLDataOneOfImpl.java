@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -57,6 +58,16 @@ public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (OWLLiteral value : values) {
+            if (!visitor.test(value.getDatatype())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 
@@ -91,7 +102,7 @@ public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
         if (this == obj) {
             return true;
         }
-        if (!(obj instanceof OWLDataOneOf)) {
+        if (!(obj instanceof OWLDataOneOf) || differsStructurally(obj)) {
             return false;
         }
         if (obj instanceof OWLDataOneOfImpl) {
@@ -132,6 +143,10 @@ public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLDataOneOfImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(values, ((OWLDataOneOfImpl) object).values);
+        }
         return compareSets(values, ((OWLDataOneOf) object).getValues());
     }
 }
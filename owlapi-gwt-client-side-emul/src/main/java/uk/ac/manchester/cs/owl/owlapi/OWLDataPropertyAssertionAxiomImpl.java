@@ -13,6 +13,7 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -69,6 +70,19 @@ public class OWLDataPropertyAssertionAxiomImpl
         addSignatureEntitiesToSetForValue(entities, getObject());
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (getSubject().isNamed()) {
+            if (!visitor.test(getSubject().asOWLNamedIndividual())) {
+                return false;
+            }
+        }
+        if (!forEachSignatureEntityWhileForValue(visitor, getProperty())) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, getObject());
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         if (getSubject().isAnonymous()) {
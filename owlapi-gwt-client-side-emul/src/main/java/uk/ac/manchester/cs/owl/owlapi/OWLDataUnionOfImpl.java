@@ -58,8 +58,7 @@ public class OWLDataUnionOfImpl extends OWLNaryDataRangeImpl implements
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
-        OWLDataUnionOf other = (OWLDataUnionOf) object;
-        return compareSets(getOperands(), other.getOperands());
+        return compareOperands((OWLDataUnionOf) object);
     }
 
     @Override
@@ -67,7 +66,7 @@ public class OWLDataUnionOfImpl extends OWLNaryDataRangeImpl implements
         if (obj == this) {
             return true;
         }
-        if (!(obj instanceof OWLDataUnionOf)) {
+        if (!(obj instanceof OWLDataUnionOf) || differsStructurally(obj)) {
             return false;
         }
         OWLDataUnionOf other = (OWLDataUnionOf) obj;
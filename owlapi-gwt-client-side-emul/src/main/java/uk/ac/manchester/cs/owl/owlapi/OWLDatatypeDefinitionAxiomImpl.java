@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -70,6 +71,14 @@ public class OWLDatatypeDefinitionAxiomImpl extends
         addSignatureEntitiesToSetForValue(entities, dataRange);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!visitor.test(datatype)) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, dataRange);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, dataRange);
@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -65,6 +66,19 @@ public class OWLDatatypeRestrictionImpl extends
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!visitor.test(datatype)) {
+            return false;
+        }
+        for (OWLFacetRestriction facetRestriction : facetRestrictions) {
+            if (!forEachSignatureEntityWhileForValue(visitor, facetRestriction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (OWLFacetRestriction facetRestriction : facetRestrictions) {
@@ -108,7 +122,7 @@ public class OWLDatatypeRestrictionImpl extends
         if (this == obj) {
             return true;
         }
-        if (!(obj instanceof OWLDatatypeRestriction)) {
+        if (!(obj instanceof OWLDatatypeRestriction) || differsStructurally(obj)) {
             return false;
         }
         if (obj instanceof OWLDatatypeRestrictionImpl) {
@@ -158,6 +172,10 @@ public class OWLDatatypeRestrictionImpl extends
         if (diff != 0) {
             return diff;
         }
+        if (other instanceof OWLDatatypeRestrictionImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(facetRestrictions, ((OWLDatatypeRestrictionImpl) other).facetRestrictions);
+        }
         return compareSets(facetRestrictions, other.getFacetRestrictions());
     }
 }
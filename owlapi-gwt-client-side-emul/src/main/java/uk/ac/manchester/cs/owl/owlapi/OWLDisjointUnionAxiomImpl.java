@@ -149,6 +149,10 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements
         if (diff != 0) {
             return diff;
         }
+        if (other instanceof OWLDisjointUnionAxiomImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(classExpressions, ((OWLDisjointUnionAxiomImpl) other).classExpressions);
+        }
         return compareSets(classExpressions, other.getClassExpressions());
     }
 }
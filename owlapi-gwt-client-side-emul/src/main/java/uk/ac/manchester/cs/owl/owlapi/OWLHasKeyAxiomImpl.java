@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -65,6 +66,19 @@ public class OWLHasKeyAxiomImpl extends
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!forEachSignatureEntityWhileForValue(visitor, expression)) {
+            return false;
+        }
+        for (OWLPropertyExpression propertyExpression : propertyExpressions) {
+            if (!forEachSignatureEntityWhileForValue(visitor, propertyExpression)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, expression);
@@ -133,6 +147,10 @@ public class OWLHasKeyAxiomImpl extends
         if (diff != 0) {
             return diff;
         }
+        if (other instanceof OWLHasKeyAxiomImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(propertyExpressions, ((OWLHasKeyAxiomImpl) other).propertyExpressions);
+        }
         return compareSets(propertyExpressions, other.getPropertyExpressions());
     }
 
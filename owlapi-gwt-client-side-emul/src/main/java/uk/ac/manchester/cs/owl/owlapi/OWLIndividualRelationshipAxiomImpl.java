@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -77,6 +78,19 @@ public abstract class OWLIndividualRelationshipAxiomImpl<P extends OWLPropertyEx
         addSignatureEntitiesToSetForValue(entities, getObject());
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (getSubject().isNamed()) {
+            if (!visitor.test(getSubject().asOWLNamedIndividual())) {
+                return false;
+            }
+        }
+        if (!forEachSignatureEntityWhileForValue(visitor, getProperty())) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, getObject());
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         if (getSubject().isAnonymous()) {
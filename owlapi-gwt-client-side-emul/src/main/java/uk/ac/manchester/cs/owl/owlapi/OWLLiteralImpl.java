@@ -16,7 +16,9 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,11 +39,16 @@ import org.semanticweb.owlapi.model.OWLRuntimeException;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
+import com.google.common.annotations.GwtIncompatible;
 import com.google.common.base.Optional;
 
 /**
  * Implementation of {@link OWLLiteral} that uses compression of strings. See also
- * {@link OWLLiteralImplNoCompression}
+ * {@link OWLLiteralImplNoCompression}. If compression is requested, lexical forms longer than
+ * {@link #COMPRESSION_LIMIT} characters are deflated on the JVM and inflated again on each call to
+ * {@link #getLiteral()}.
+ * Compiled JavaScript has no deflater, and a byte array would take more memory there than the
+ * string itself, so lexical forms are never compressed on the client.
  * 
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -49,6 +56,9 @@ import com.google.common.base.Optional;
 public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching implements OWLLiteral {
 
     private static final long serialVersionUID = 40000L;
+    /** Lexical forms longer than this number of characters are compressed. */
+    public static final int COMPRESSION_LIMIT = 160;
+    private static final Platform PLATFORM = new JvmPlatform();
     private final LiteralWrapper literal;
     @Nonnull
     private static final OWLDatatype RDF_PLAIN_LITERAL =
@@ -73,7 +83,21 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
      */
     public OWLLiteralImpl(@Nonnull String literal, @Nullable String lang,
         @Nullable OWLDatatype datatype) {
-        this.literal = new LiteralWrapper(checkNotNull(literal, "literal cannot be null"));
+        this(literal, lang, datatype, false);
+    }
+
+    /**
+     * @param literal the lexical form
+     * @param lang the language; can be null or an empty string, in which case datatype can be any
+     *        datatype but not null
+     * @param datatype the datatype; if lang is null or the empty string, it can be null or it MUST
+     *        be RDFPlainLiteral
+     * @param compress true if a lexical form longer than {@link #COMPRESSION_LIMIT} characters
+     *        should be stored compressed
+     */
+    public OWLLiteralImpl(@Nonnull String literal, @Nullable String lang,
+        @Nullable OWLDatatype datatype, boolean compress) {
+        this.literal = new LiteralWrapper(checkNotNull(literal, "literal cannot be null"), compress);
         if (lang == null || lang.isEmpty()) {
             language = "";
             if (datatype == null) {
@@ -99,6 +123,11 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
         entities.add(datatype);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return visitor.test(datatype);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 
@@ -212,7 +241,7 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
             // it is possible that a literal does not have a value that's valid
             // for its datatype; not very useful for a consistent ontology but
             // some W3C reasoner tests use them
-            code += getLiteral().hashCode() * 65536;
+            code += lit.hashCode() * 65536;
         }
         if (hasLang()) {
             code = code * 37 + getLang().hashCode();
@@ -232,8 +261,13 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
             return false;
         }
         OWLLiteral other = (OWLLiteral) obj;
-        return literal.get().equals(other.getLiteral()) && datatype.equals(other.getDatatype())
-            && language.equals(other.getLang());
+        if (!datatype.equals(other.getDatatype()) || !language.equals(other.getLang())) {
+            return false;
+        }
+        if (other instanceof OWLLiteralImpl) {
+            return literal.equals(((OWLLiteralImpl) other).literal);
+        }
+        return literal.get().equals(other.getLiteral());
     }
 
     @Override
@@ -299,15 +333,125 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
     private static class LiteralWrapper implements Serializable {
 
         private static final long serialVersionUID = 40000L;
+        @Nullable
         String l;
+        @Nullable
+        byte[] bytes;
 
-        LiteralWrapper(String s) {
-            l = s;
+        LiteralWrapper(String s, boolean compress) {
+            if (compress && s.length() > COMPRESSION_LIMIT) {
+                bytes = PLATFORM.compress(s);
+            }
+            if (bytes == null) {
+                l = s;
+            }
         }
 
         @Nonnull
         String get() {
-                return verifyNotNull(l);
+            if (l != null) {
+                return l;
+            }
+            return PLATFORM.decompress(verifyNotNull(bytes));
+        }
+
+        @Override
+        public int hashCode() {
+            return get().hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LiteralWrapper)) {
+                return false;
+            }
+            LiteralWrapper other = (LiteralWrapper) obj;
+            if (l != null && other.l != null) {
+                return l.equals(other.l);
+            }
+            if (bytes != null && other.bytes != null && Arrays.equals(bytes, other.bytes)) {
+                // equal compressed forms always inflate to equal strings
+                return true;
+            }
+            return get().equals(other.get());
+        }
+    }
+
+    /** Compression used when compiled to JavaScript: lexical forms are kept as strings. */
+    static class Platform {
+
+        /**
+         * @param s
+         *        the lexical form
+         * @return the compressed lexical form, or {@code null} if it should be kept uncompressed
+         */
+        @Nullable
+        byte[] compress(@Nonnull String s) {
+            return null;
+        }
+
+        @Nonnull
+        String decompress(@Nonnull byte[] bytes) {
+            throw new OWLRuntimeException("compressed literals are not supported on this platform");
+        }
+    }
+
+    /**
+     * Compression used on the JVM. The GWT compiler strips the overrides, so that compiled
+     * JavaScript falls back to {@link Platform}.
+     */
+    static class JvmPlatform extends Platform {
+
+        @Override
+        @Nullable
+        @GwtIncompatible("java.util.zip is not available in JavaScript")
+        byte[] compress(@Nonnull String s) {
+            byte[] utf8 = s.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            java.util.zip.Deflater deflater = new java.util.zip.Deflater();
+            try {
+                deflater.setInput(utf8);
+                deflater.finish();
+                java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream(utf8.length / 2);
+                byte[] buffer = new byte[1024];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                byte[] compressed = out.toByteArray();
+                // a string takes two bytes per character; keep it if compression does not pay
+                if (compressed.length >= s.length() * 2) {
+                    return null;
+                }
+                return compressed;
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        @Nonnull
+        @GwtIncompatible("java.util.zip is not available in JavaScript")
+        String decompress(@Nonnull byte[] bytes) {
+            java.util.zip.Inflater inflater = new java.util.zip.Inflater();
+            try {
+                inflater.setInput(bytes);
+                java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream(bytes.length * 4);
+                byte[] buffer = new byte[1024];
+                while (!inflater.finished()) {
+                    int count = inflater.inflate(buffer);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new OWLRuntimeException("truncated compressed literal");
+                    }
+                    out.write(buffer, 0, count);
+                }
+                return new String(out.toByteArray(), java.nio.charset.StandardCharsets.UTF_8);
+            } catch (java.util.zip.DataFormatException e) {
+                throw new OWLRuntimeException(e);
+            } finally {
+                inflater.end();
+            }
         }
     }
 }
@@ -20,6 +20,7 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Matthew Horridge, The University of Manchester, Information
@@ -38,6 +39,11 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements
         entities.add(this);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return visitor.test(this);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 
@@ -17,6 +17,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -27,6 +28,8 @@ import org.semanticweb.owlapi.model.OWLNaryBooleanClassExpression;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.util.CollectionFactory;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
@@ -38,7 +41,7 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    private final List<OWLClassExpression> operands;
+    private final SmallSortedSet<OWLClassExpression> operands;
 
     /**
      * @param operands
@@ -48,7 +51,7 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
         @Nonnull Set<? extends OWLClassExpression> operands) {
         checkNotNull(operands,
             "operands cannot be null");
-        this.operands = CollectionFactory.sortOptionally((Set<OWLClassExpression>) operands);
+        this.operands = SmallSortedSet.copyOf(operands);
     }
 
     @Override
@@ -58,6 +61,16 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (OWLClassExpression operand : operands) {
+            if (!forEachSignatureEntityWhileForValue(visitor, operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (OWLClassExpression operand : operands) {
@@ -83,7 +96,10 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
 
     @Override
     public boolean equals(Object obj) {
-        if (!(obj instanceof OWLNaryBooleanClassExpression)) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof OWLNaryBooleanClassExpression) || differsStructurally(obj)) {
             return false;
         }
         if (obj instanceof OWLNaryBooleanClassExpressionImpl) {
@@ -12,7 +12,7 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import static org.semanticweb.owlapi.util.CollectionFactory.*;
+import static org.semanticweb.owlapi.util.CollectionFactory.getCopyOnRequestSetFromImmutableCollection;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.ArrayList;
@@ -29,6 +29,8 @@ import org.semanticweb.owlapi.model.OWLNaryClassAxiom;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLPairwiseVisitor;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
@@ -39,7 +41,7 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    private final List<OWLClassExpression> classExpressions;
+    private final SmallSortedSet<OWLClassExpression> classExpressions;
 
     /**
      * @param classExpressions
@@ -47,13 +49,12 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
      * @param annotations
      *        annotations
      */
-    @SuppressWarnings("unchecked")
     public OWLNaryClassAxiomImpl(
             @Nonnull Set<? extends OWLClassExpression> classExpressions,
             @Nonnull Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
         checkNotNull(classExpressions, "classExpressions cannot be null");
-        this.classExpressions = (List<OWLClassExpression>) sortOptionally(classExpressions);
+        this.classExpressions = SmallSortedSet.<OWLClassExpression> copyOf(classExpressions);
     }
 
     @Override
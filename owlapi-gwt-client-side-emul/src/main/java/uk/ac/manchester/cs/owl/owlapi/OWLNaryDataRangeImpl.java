@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -46,6 +47,20 @@ public abstract class OWLNaryDataRangeImpl extends
             .getCopyOnRequestSetFromImmutableCollection(operands);
     }
 
+    /**
+     * @param other
+     *        data range to compare with
+     * @return comparison of the operands of this data range with those of the
+     *         other data range
+     */
+    protected int compareOperands(@Nonnull OWLNaryDataRange other) {
+        if (other instanceof OWLNaryDataRangeImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(operands, ((OWLNaryDataRangeImpl) other).operands);
+        }
+        return compareSets(operands, other.getOperands());
+    }
+
     @Override
     public boolean isTopDatatype() {
         return false;
@@ -68,6 +83,16 @@ public abstract class OWLNaryDataRangeImpl extends
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (OWLDataRange operand : operands) {
+            if (!forEachSignatureEntityWhileForValue(visitor, operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (OWLDataRange operand : operands) {
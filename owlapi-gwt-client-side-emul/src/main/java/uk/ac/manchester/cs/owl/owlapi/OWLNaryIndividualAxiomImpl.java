@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -67,6 +68,18 @@ public abstract class OWLNaryIndividualAxiomImpl extends
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (OWLIndividual individual : individuals) {
+            if (individual.isNamed()) {
+                if (!visitor.test(individual.asOWLNamedIndividual())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (OWLIndividual individual : individuals) {
@@ -106,6 +119,11 @@ public abstract class OWLNaryIndividualAxiomImpl extends
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLNaryIndividualAxiomImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(individuals,
+                    ((OWLNaryIndividualAxiomImpl) object).individuals);
+        }
         return compareSets(individuals,
                 ((OWLNaryIndividualAxiom) object).getIndividuals());
     }
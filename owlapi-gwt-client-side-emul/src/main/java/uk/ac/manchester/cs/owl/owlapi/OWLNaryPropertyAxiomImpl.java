@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -81,6 +82,16 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (HasSignature hasSignature : getProperties()) {
+            if (!forEachSignatureEntityWhileForValue(visitor, hasSignature)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (HasAnonymousIndividuals hasAnons : getProperties()) {
@@ -121,6 +132,11 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLNaryPropertyAxiomImpl) {
+            // both lists are sorted: compare them in place
+            return compareLists(properties,
+                    ((OWLNaryPropertyAxiomImpl<?>) object).properties);
+        }
         return compareSets(properties,
                 ((OWLNaryPropertyAxiom<?>) object).getProperties());
     }
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -51,6 +52,14 @@ public abstract class OWLObjectCardinalityRestrictionImpl extends
         addSignatureEntitiesToSetForValue(entities, getFiller());
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!forEachSignatureEntityWhileForValue(visitor, property)) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, getFiller());
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, property);
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -60,6 +61,11 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl
         addSignatureEntitiesToSetForValue(entities, operand);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return forEachSignatureEntityWhileForValue(visitor, operand);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, operand);
@@ -82,7 +88,10 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl
 
     @Override
     public boolean equals(Object obj) {
-        if (!(obj instanceof OWLObjectComplementOf)) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof OWLObjectComplementOf) || differsStructurally(obj)) {
             return false;
         }
         return ((OWLObjectComplementOf) obj).getOperand().equals(operand);
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -70,6 +71,14 @@ public class OWLObjectHasValueImpl extends
         addSignatureEntitiesToSetForValue(entities, value);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!forEachSignatureEntityWhileForValue(visitor, property)) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, value);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, property);
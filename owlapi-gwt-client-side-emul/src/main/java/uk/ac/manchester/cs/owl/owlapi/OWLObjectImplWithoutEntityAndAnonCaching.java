@@ -14,24 +14,31 @@ package uk.ac.manchester.cs.owl.owlapi;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.io.ToStringRenderer;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.HasCachedHashCode;
+import org.semanticweb.owlapi.util.HasStructuralFingerprint;
 import org.semanticweb.owlapi.util.HashCode;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
  * @since 2.0.0
  */
 public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObject,
-    HasIncrementalSignatureGenerationSupport, Serializable {
+    HasIncrementalSignatureGenerationSupport, HasCachedHashCode, HasStructuralFingerprint, Serializable {
 
     private static final long serialVersionUID = 40000L;
     /** a convenience reference for an empty annotation set, saves on typing. */
@@ -39,6 +46,10 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
     protected static final Set<OWLAnnotation> NO_ANNOTATIONS = CollectionFactory.emptySet();
     static final OWLObjectTypeIndexProvider OWLOBJECT_TYPEINDEX_PROVIDER = new OWLObjectTypeIndexProvider();
     protected int hashCode = 0;
+    /** not serialized, so that it is always computed by the current algorithm */
+    private transient volatile long fingerprint = 0;
+    @Nullable
+    private transient volatile SignatureIndex signatureIndex;
     @Nonnull
     protected static final OWLClass OWL_THING = new OWLClassImpl(OWLRDFVocabulary.OWL_THING.getIRI());
 
@@ -53,6 +64,28 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
     @Nonnull
     @Override
     public Set<OWLEntity> getSignature() {
+        return signatureIndex().getSignature();
+    }
+
+    /**
+     * @return the signature index for this object, computed on first use
+     */
+    @Nonnull
+    final SignatureIndex signatureIndex() {
+        SignatureIndex index = signatureIndex;
+        if (index == null) {
+            // racing threads compute equal indexes; either can be kept
+            index = new SignatureIndex(computeSignature());
+            signatureIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return a new set with the entities in the signature of this object
+     */
+    @Nonnull
+    Set<OWLEntity> computeSignature() {
         Set<OWLEntity> result = new HashSet<>();
         addSignatureEntitiesToSet(result);
         return result;
@@ -84,73 +117,37 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
 
     @Override
     public boolean containsEntityInSignature(@Nonnull OWLEntity owlEntity) {
-        return getSignature().contains(owlEntity);
+        return signatureIndex().contains(owlEntity);
     }
 
     @Override
     public Set<OWLClass> getClassesInSignature() {
-        Set<OWLClass> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLClass()) {
-                result.add(ent.asOWLClass());
-            }
-        }
-        return result;
+        return signatureIndex().getClasses();
     }
 
     @Override
     public Set<OWLDataProperty> getDataPropertiesInSignature() {
-        Set<OWLDataProperty> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLDataProperty()) {
-                result.add(ent.asOWLDataProperty());
-            }
-        }
-        return result;
+        return signatureIndex().getDataProperties();
     }
 
     @Override
     public Set<OWLObjectProperty> getObjectPropertiesInSignature() {
-        Set<OWLObjectProperty> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLObjectProperty()) {
-                result.add(ent.asOWLObjectProperty());
-            }
-        }
-        return result;
+        return signatureIndex().getObjectProperties();
     }
 
     @Override
     public Set<OWLNamedIndividual> getIndividualsInSignature() {
-        Set<OWLNamedIndividual> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLNamedIndividual()) {
-                result.add(ent.asOWLNamedIndividual());
-            }
-        }
-        return result;
+        return signatureIndex().getIndividuals();
     }
 
     @Override
     public Set<OWLDatatype> getDatatypesInSignature() {
-        Set<OWLDatatype> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLDatatype()) {
-                result.add(ent.asOWLDatatype());
-            }
-        }
-        return result;
+        return signatureIndex().getDatatypes();
     }
 
     @Override
     public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
-        Set<OWLAnnotationProperty> result = new HashSet<>();
-        for (OWLEntity ent : getSignature()) {
-            if (ent.isOWLAnnotationProperty()) {
-                result.add(ent.asOWLAnnotationProperty());
-            }
-        }
-        return result;
+        return signatureIndex().getAnnotationProperties();
     }
 
     @Override
@@ -168,6 +165,43 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
         }
     }
 
+    /**
+     * @param visitor
+     *        visitor for the signature entities
+     * @param canHasSignature
+     *        value whose signature should be visited
+     * @return false if the visitor stopped the traversal
+     */
+    protected static boolean forEachSignatureEntityWhileForValue(Predicate<? super OWLEntity> visitor,
+        HasSignature canHasSignature) {
+        if (canHasSignature instanceof HasIncrementalSignatureGenerationSupport) {
+            return ((HasIncrementalSignatureGenerationSupport) canHasSignature).forEachSignatureEntityWhile(visitor);
+        }
+        for (OWLEntity entity : canHasSignature.getSignature()) {
+            if (!visitor.test(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param annotations
+     *        annotations whose signature should be visited
+     * @param visitor
+     *        visitor for the signature entities
+     * @return false if the visitor stopped the traversal
+     */
+    protected static boolean forEachSignatureEntityWhileInAnnotations(Collection<OWLAnnotation> annotations,
+        Predicate<? super OWLEntity> visitor) {
+        for (OWLAnnotation annotation : annotations) {
+            if (!forEachSignatureEntityWhileForValue(visitor, annotation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void addAnonymousIndividualsToSetForValue(Set<OWLAnonymousIndividual> anons,
         HasAnonymousIndividuals canHasAnons) {
         if (canHasAnons instanceof HasIncrementalSignatureGenerationSupport) {
@@ -180,7 +214,46 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
 
     @Override
     public boolean equals(Object obj) {
-        return obj == this || obj instanceof OWLObject;
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof OWLObject && !differsStructurally(obj);
+    }
+
+    @Override
+    public long getStructuralFingerprint() {
+        long cached = fingerprint;
+        if (cached == 0) {
+            cached = StructuralFingerprint.compute(this);
+            fingerprint = cached;
+        }
+        return cached;
+    }
+
+    @Override
+    public boolean isStructuralFingerprintCached() {
+        return fingerprint != 0;
+    }
+
+    /**
+     * Compares the structural fingerprints of this object and another object
+     * that has one, if both fingerprints have already been computed. No
+     * fingerprint is computed here, so {@code equals} on a freshly built
+     * object, such as a lookup key, costs no more than the structural
+     * comparison.
+     * 
+     * @param obj
+     *        object to compare with
+     * @return true if both objects have cached structural fingerprints that
+     *         differ, in which case the two objects cannot be equal
+     */
+    protected final boolean differsStructurally(Object obj) {
+        long cached = fingerprint;
+        if (cached == 0 || !(obj instanceof HasStructuralFingerprint)) {
+            return false;
+        }
+        HasStructuralFingerprint other = (HasStructuralFingerprint) obj;
+        return other.isStructuralFingerprintCached() && other.getStructuralFingerprint() != cached;
     }
 
     @Override
@@ -191,6 +264,11 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
         return hashCode;
     }
 
+    @Override
+    public boolean isHashCodeCached() {
+        return hashCode != 0;
+    }
+
     protected abstract int index();
 
     @Override
@@ -212,8 +290,7 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
             return diff;
         }
         if (this instanceof OWLAxiom) {
-            diff = compareLists(new ArrayList<>(((OWLAxiom) this).getAnnotations()), new ArrayList<>(((OWLAxiom) o)
-                .getAnnotations()));
+            diff = compareSets(((OWLAxiom) this).getAnnotations(), ((OWLAxiom) o).getAnnotations());
         }
         return diff;
     }
@@ -257,17 +334,11 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
     }
 
     protected static int compareSets(Collection<? extends OWLObject> set1, Collection<? extends OWLObject> set2) {
-        SortedSet<? extends OWLObject> ss1;
-        if (set1 instanceof SortedSet) {
-            ss1 = (SortedSet<? extends OWLObject>) set1;
-        } else {
-            ss1 = new TreeSet<>(set1);
-        }
-        SortedSet<? extends OWLObject> ss2;
-        if (set2 instanceof SortedSet) {
-            ss2 = (SortedSet<? extends OWLObject>) set2;
-        } else {
-            ss2 = new TreeSet<>(set2);
+        SortedSet<? extends OWLObject> ss1 = asSortedSet(set1);
+        SortedSet<? extends OWLObject> ss2 = asSortedSet(set2);
+        if (ss1 instanceof SmallSortedSet && ss2 instanceof SmallSortedSet) {
+            return SmallSortedSet.compare((SmallSortedSet<? extends OWLObject>) ss1,
+                (SmallSortedSet<? extends OWLObject>) ss2);
         }
         int i = 0;
         Iterator<? extends OWLObject> thisIt = ss1.iterator();
@@ -284,6 +355,30 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching implements OWLObj
         return ss1.size() - ss2.size();
     }
 
+    /**
+     * Operands and annotations are usually stored in sorted
+     * {@link SmallSortedSet}s, which are compared without copying even when
+     * they are read through a copy-on-request view; other
+     * collections are sorted into an array first, which is cheaper than
+     * building a {@link TreeSet}.
+     */
+    @Nonnull
+    private static SortedSet<? extends OWLObject> asSortedSet(Collection<? extends OWLObject> set) {
+        // getters return copy-on-request views of the sets stored in objects
+        SmallSortedSet<? extends OWLObject> small = SmallSortedSet.unwrap(set);
+        if (small == null) {
+            if (set instanceof SortedSet) {
+                return (SortedSet<? extends OWLObject>) set;
+            }
+            small = SmallSortedSet.copyOf(set);
+        }
+        // a SmallSortedSet is only a SortedSet if it is sorted in natural order
+        if (small instanceof SortedSet) {
+            return (SortedSet<? extends OWLObject>) small;
+        }
+        return new TreeSet<>(set);
+    }
+
     protected static int compareLists(List<? extends OWLObject> list1, List<? extends OWLObject> list2) {
         int i = 0;
         int size = list1.size() < list2.size() ? list1.size() : list2.size();
@@ -16,6 +16,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -33,6 +34,8 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
  *         Informatics Group
@@ -43,7 +46,7 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    private final Set<OWLIndividual> values;
+    private final SmallSortedSet<OWLIndividual> values;
 
     @Override
     protected int index() {
@@ -55,7 +58,7 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl
      *        values for oneof
      */
     public OWLObjectOneOfImpl(@Nonnull Set<? extends OWLIndividual> values) {
-        this.values = new HashSet<>(checkNotNull(values,
+        this.values = SmallSortedSet.copyOf(checkNotNull(values,
                 "values cannot be null"));
     }
 
@@ -68,6 +71,18 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl
         }
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        for (OWLIndividual individual : values) {
+            if (individual.isNamed()) {
+                if (!visitor.test(individual.asOWLNamedIndividual())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         for (OWLIndividual individual : values) {
@@ -109,9 +124,15 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl
 
     @Override
     public boolean equals(Object obj) {
-        if (!(obj instanceof OWLObjectOneOf)) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof OWLObjectOneOf) || differsStructurally(obj)) {
             return false;
         }
+        if (obj instanceof OWLObjectOneOfImpl) {
+            return values.equals(((OWLObjectOneOfImpl) obj).values);
+        }
         return ((OWLObjectOneOf) obj).getIndividuals().equals(values);
     }
 
@@ -137,6 +158,9 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLObjectOneOfImpl) {
+            return compareSets(values, ((OWLObjectOneOfImpl) object).values);
+        }
         return compareSets(values, ((OWLObjectOneOf) object).getIndividuals());
     }
 }
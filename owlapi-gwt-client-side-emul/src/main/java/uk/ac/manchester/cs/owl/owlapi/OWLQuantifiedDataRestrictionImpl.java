@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -54,6 +55,14 @@ public abstract class OWLQuantifiedDataRestrictionImpl extends
         addSignatureEntitiesToSetForValue(entities, property);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!forEachSignatureEntityWhileForValue(visitor, getFiller())) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, property);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, getFiller());
@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -59,6 +60,14 @@ public abstract class OWLQuantifiedObjectRestrictionImpl extends
         addSignatureEntitiesToSetForValue(entities, getFiller());
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        if (!forEachSignatureEntityWhileForValue(visitor, getProperty())) {
+            return false;
+        }
+        return forEachSignatureEntityWhileForValue(visitor, getFiller());
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, getProperty());
@@ -35,6 +35,6 @@ public abstract class OWLRestrictionImpl extends
         if (obj == this) {
             return true;
         }
-        return obj instanceof OWLRestriction;
+        return obj instanceof OWLRestriction && !differsStructurally(obj);
     }
 }
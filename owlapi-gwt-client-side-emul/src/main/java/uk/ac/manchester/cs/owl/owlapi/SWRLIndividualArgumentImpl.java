@@ -28,6 +28,7 @@ import org.semanticweb.owlapi.model.SWRLObjectVisitorEx;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
@@ -60,6 +61,11 @@ public class SWRLIndividualArgumentImpl extends
         addSignatureEntitiesToSetForValue(entities, individual);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return forEachSignatureEntityWhileForValue(visitor, individual);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, individual);
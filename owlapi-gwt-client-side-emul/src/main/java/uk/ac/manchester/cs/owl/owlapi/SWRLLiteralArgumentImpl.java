@@ -28,6 +28,7 @@ import org.semanticweb.owlapi.model.SWRLObjectVisitorEx;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
@@ -59,6 +60,11 @@ public class SWRLLiteralArgumentImpl extends
         addSignatureEntitiesToSetForValue(entities, literal);
     }
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return forEachSignatureEntityWhileForValue(visitor, literal);
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {
         addAnonymousIndividualsToSetForValue(anons, literal);
@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -46,7 +47,6 @@ import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
 import org.semanticweb.owlapi.util.CollectionFactory;
-import org.semanticweb.owlapi.util.SWRLVariableExtractor;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
@@ -60,8 +60,8 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImplWithEntityAndAnonCaching
     private final LinkedHashSet<SWRLAtom> head;
     private final LinkedHashSet<SWRLAtom> body;
     private final boolean containsAnonymousClassExpressions;
-    private transient Set<SWRLVariable> variables = null;
-    private transient Set<OWLClassExpression> classAtomsPredicates = null;
+    @Nullable
+    private transient volatile SWRLRuleIndex index = null;
 
     /**
      * @param body
@@ -106,21 +106,27 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImplWithEntityAndAnonCaching
         this(body, head, NO_ANNOTATIONS);
     }
 
+    /**
+     * @return the index of the variables and predicates of this rule, computed
+     *         on first use
+     */
+    @Nonnull
+    public SWRLRuleIndex getIndex() {
+        SWRLRuleIndex result = index;
+        if (result == null) {
+            // racing threads compute equal indexes; either can be kept
+            result = new SWRLRuleIndex(body, head);
+            index = result;
+        }
+        return result;
+    }
+
     @Nonnull
     @Override
     public Set<SWRLVariable> getVariables() {
-        Set<SWRLVariable> toReturn = null;
-        if (variables != null) {
-            toReturn = new HashSet<>(variables);
-        }
-        if (toReturn != null) {
-            return toReturn;
-        }
-        SWRLVariableExtractor extractor = new SWRLVariableExtractor();
-        accept(extractor);
-        toReturn = extractor.getVariables();
-        variables = toReturn;
-        return toReturn;
+        return CollectionFactory
+                .getCopyOnRequestSetFromImmutableCollection(getIndex()
+                        .getVariables());
     }
 
     private boolean hasAnon() {
@@ -146,26 +152,9 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImplWithEntityAndAnonCaching
 
     @Override
     public Set<OWLClassExpression> getClassAtomPredicates() {
-        Set<OWLClassExpression> toReturn = null;
-        if (classAtomsPredicates != null) {
-            toReturn = new HashSet<>(classAtomsPredicates);
-        }
-        if (toReturn != null) {
-            return toReturn;
-        }
-        toReturn = new LinkedHashSet<>();
-        for (SWRLAtom atom : head) {
-            if (atom instanceof SWRLClassAtom) {
-                toReturn.add(((SWRLClassAtom) atom).getPredicate());
-            }
-        }
-        for (SWRLAtom atom : body) {
-            if (atom instanceof SWRLClassAtom) {
-                toReturn.add(((SWRLClassAtom) atom).getPredicate());
-            }
-        }
-        classAtomsPredicates = toReturn;
-        return toReturn;
+        return CollectionFactory
+                .getCopyOnRequestSetFromImmutableCollection(getIndex()
+                        .getClassAtomPredicates());
     }
 
     @Override
@@ -212,6 +201,9 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImplWithEntityAndAnonCaching
 
     @Override
     public SWRLRule getSimplified() {
+        if (getIndex().isSimplified()) {
+            return getAxiomWithoutAnnotations();
+        }
         return (SWRLRule) accept(ATOM_SIMPLIFIER);
     }
 
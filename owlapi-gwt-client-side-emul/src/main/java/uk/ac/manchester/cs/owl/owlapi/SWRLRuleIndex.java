@@ -0,0 +1,256 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.SWRLArgument;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLPredicate;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+/**
+ * The variables and predicates of a rule, computed once and indexed for rule
+ * engines that analyse the same rules repeatedly. The index never changes
+ * after construction, and its accessors return unmodifiable collections that
+ * are built with the index, so they do not allocate.
+ * <p>
+ * The body variables are listed in binding order: a variable comes before
+ * another if it occurs in an earlier body atom, or earlier in the arguments
+ * of the same atom.
+ * 
+ * @since 4.3.2.1
+ */
+public class SWRLRuleIndex {
+
+    @Nonnull
+    private final List<SWRLAtom> body;
+    @Nonnull
+    private final List<SWRLAtom> head;
+    @Nonnull
+    private final Set<SWRLVariable> variables;
+    @Nonnull
+    private final List<SWRLVariable> bodyVariables;
+    @Nonnull
+    private final List<SWRLVariable> headVariables;
+    @Nonnull
+    private final List<SWRLVariable> unboundHeadVariables;
+    @Nonnull
+    private final Map<SWRLVariable, Integer> bindingAtoms = new HashMap<>();
+    @Nonnull
+    private final Map<SWRLPredicate, List<SWRLAtom>> bodyAtomsByPredicate;
+    @Nonnull
+    private final Map<SWRLPredicate, List<SWRLAtom>> headAtomsByPredicate;
+    @Nonnull
+    private final Set<OWLClassExpression> classAtomPredicates;
+    private final boolean simplified;
+
+    /**
+     * @param body
+     *        the body atoms of the rule, in rule order
+     * @param head
+     *        the head atoms of the rule, in rule order
+     */
+    SWRLRuleIndex(@Nonnull Collection<SWRLAtom> body,
+            @Nonnull Collection<SWRLAtom> head) {
+        this.body = Collections.unmodifiableList(new ArrayList<>(body));
+        this.head = Collections.unmodifiableList(new ArrayList<>(head));
+        Set<SWRLVariable> inBody = new LinkedHashSet<>();
+        int position = 0;
+        for (SWRLAtom atom : body) {
+            for (SWRLArgument argument : atom.getAllArguments()) {
+                if (argument instanceof SWRLVariable
+                        && inBody.add((SWRLVariable) argument)) {
+                    bindingAtoms.put((SWRLVariable) argument,
+                            Integer.valueOf(position));
+                }
+            }
+            position++;
+        }
+        Set<SWRLVariable> inHead = new LinkedHashSet<>();
+        for (SWRLAtom atom : head) {
+            for (SWRLArgument argument : atom.getAllArguments()) {
+                if (argument instanceof SWRLVariable) {
+                    inHead.add((SWRLVariable) argument);
+                }
+            }
+        }
+        List<SWRLVariable> unbound = new ArrayList<>();
+        for (SWRLVariable variable : inHead) {
+            if (!inBody.contains(variable)) {
+                unbound.add(variable);
+            }
+        }
+        bodyVariables = Collections.unmodifiableList(new ArrayList<>(inBody));
+        headVariables = Collections.unmodifiableList(new ArrayList<>(inHead));
+        unboundHeadVariables = Collections.unmodifiableList(unbound);
+        inBody.addAll(unbound);
+        variables = Collections.unmodifiableSet(inBody);
+        Set<OWLClassExpression> predicates = new LinkedHashSet<>();
+        addClassAtomPredicates(head, predicates);
+        addClassAtomPredicates(body, predicates);
+        classAtomPredicates = Collections.unmodifiableSet(predicates);
+        bodyAtomsByPredicate = byPredicate(body);
+        headAtomsByPredicate = byPredicate(head);
+        simplified = isSimplified(body) && isSimplified(head);
+    }
+
+    private static void addClassAtomPredicates(Collection<SWRLAtom> atoms,
+            Set<OWLClassExpression> predicates) {
+        for (SWRLAtom atom : atoms) {
+            if (atom instanceof SWRLClassAtom) {
+                predicates.add(((SWRLClassAtom) atom).getPredicate());
+            }
+        }
+    }
+
+    @Nonnull
+    private static Map<SWRLPredicate, List<SWRLAtom>> byPredicate(
+            Collection<SWRLAtom> atoms) {
+        Map<SWRLPredicate, List<SWRLAtom>> map = new HashMap<>();
+        for (SWRLAtom atom : atoms) {
+            List<SWRLAtom> list = map.get(atom.getPredicate());
+            if (list == null) {
+                list = new ArrayList<>(1);
+                map.put(atom.getPredicate(), list);
+            }
+            list.add(atom);
+        }
+        for (Map.Entry<SWRLPredicate, List<SWRLAtom>> e : map.entrySet()) {
+            e.setValue(Collections.unmodifiableList(e.getValue()));
+        }
+        return map;
+    }
+
+    private static boolean isSimplified(Collection<SWRLAtom> atoms) {
+        for (SWRLAtom atom : atoms) {
+            if (atom instanceof SWRLObjectPropertyAtom
+                    && ((SWRLObjectPropertyAtom) atom).getSimplified() != atom) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return the body atoms, in rule order */
+    @Nonnull
+    public List<SWRLAtom> getBody() {
+        return body;
+    }
+
+    /** @return the head atoms, in rule order */
+    @Nonnull
+    public List<SWRLAtom> getHead() {
+        return head;
+    }
+
+    /**
+     * @return the variables of the rule: the body variables in binding order,
+     *         followed by the head variables that do not occur in the body
+     */
+    @Nonnull
+    public Set<SWRLVariable> getVariables() {
+        return variables;
+    }
+
+    /** @return the variables that occur in the body, in binding order */
+    @Nonnull
+    public List<SWRLVariable> getBodyVariables() {
+        return bodyVariables;
+    }
+
+    /** @return the variables that occur in the head, in order of occurrence */
+    @Nonnull
+    public List<SWRLVariable> getHeadVariables() {
+        return headVariables;
+    }
+
+    /**
+     * @return the variables that occur in the head but not in the body, in
+     *         order of occurrence; a rule is DL safe only if this is empty
+     */
+    @Nonnull
+    public List<SWRLVariable> getUnboundHeadVariables() {
+        return unboundHeadVariables;
+    }
+
+    /**
+     * @param variable
+     *        variable to look up
+     * @return the position in {@link #getBody()} of the first atom that
+     *         mentions the variable, or -1 if the variable does not occur in
+     *         the body
+     */
+    public int getBindingAtomIndex(@Nonnull SWRLVariable variable) {
+        Integer index = bindingAtoms.get(variable);
+        return index == null ? -1 : index.intValue();
+    }
+
+    /**
+     * @param predicate
+     *        predicate to look up
+     * @return the body atoms with the predicate, in rule order
+     */
+    @Nonnull
+    public List<SWRLAtom> getBodyAtoms(@Nonnull SWRLPredicate predicate) {
+        return atoms(bodyAtomsByPredicate, predicate);
+    }
+
+    /**
+     * @param predicate
+     *        predicate to look up
+     * @return the head atoms with the predicate, in rule order
+     */
+    @Nonnull
+    public List<SWRLAtom> getHeadAtoms(@Nonnull SWRLPredicate predicate) {
+        return atoms(headAtomsByPredicate, predicate);
+    }
+
+    @Nonnull
+    private static List<SWRLAtom> atoms(
+            Map<SWRLPredicate, List<SWRLAtom>> atomsByPredicate,
+            SWRLPredicate predicate) {
+        List<SWRLAtom> atoms = atomsByPredicate.get(predicate);
+        if (atoms == null) {
+            return Collections.emptyList();
+        }
+        return atoms;
+    }
+
+    /** @return the predicates of the class atoms, head atoms first */
+    @Nonnull
+    public Set<OWLClassExpression> getClassAtomPredicates() {
+        return classAtomPredicates;
+    }
+
+    /**
+     * @return true if no object property atom of the rule has an inverse
+     *         property that {@link SWRLObjectPropertyAtom#getSimplified()}
+     *         would replace
+     */
+    public boolean isSimplified() {
+        return simplified;
+    }
+}
@@ -28,6 +28,7 @@ import org.semanticweb.owlapi.model.SWRLVariable;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health
@@ -53,6 +54,11 @@ public class SWRLVariableImpl extends OWLObjectImplWithoutEntityAndAnonCaching
     @Override
     public void addSignatureEntitiesToSet(Set<OWLEntity> entities) {}
 
+    @Override
+    public boolean forEachSignatureEntityWhile(Predicate<? super OWLEntity> visitor) {
+        return true;
+    }
+
     @Override
     public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
 
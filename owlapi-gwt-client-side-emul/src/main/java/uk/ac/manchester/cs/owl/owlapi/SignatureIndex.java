@@ -0,0 +1,172 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+/**
+ * The signature of an object, computed once and partitioned by entity type.
+ * The index never changes after construction; all sets returned are views
+ * that copy the underlying set only if they are modified.
+ * 
+ * @since 4.3.2.1
+ */
+class SignatureIndex {
+
+    @Nonnull
+    private final Set<OWLEntity> entities;
+    @Nonnull
+    private final Set<OWLClass> classes;
+    @Nonnull
+    private final Set<OWLObjectProperty> objectProperties;
+    @Nonnull
+    private final Set<OWLDataProperty> dataProperties;
+    @Nonnull
+    private final Set<OWLNamedIndividual> individuals;
+    @Nonnull
+    private final Set<OWLDatatype> datatypes;
+    @Nonnull
+    private final Set<OWLAnnotationProperty> annotationProperties;
+
+    /**
+     * @param signature
+     *        the signature to index; the index takes ownership of the set
+     */
+    SignatureIndex(@Nonnull Set<OWLEntity> signature) {
+        entities = signature;
+        Set<OWLClass> cls = null;
+        Set<OWLObjectProperty> ops = null;
+        Set<OWLDataProperty> dps = null;
+        Set<OWLNamedIndividual> inds = null;
+        Set<OWLDatatype> dts = null;
+        Set<OWLAnnotationProperty> aps = null;
+        for (OWLEntity entity : signature) {
+            if (entity.isOWLClass()) {
+                cls = add(cls, entity.asOWLClass());
+            } else if (entity.isOWLObjectProperty()) {
+                ops = add(ops, entity.asOWLObjectProperty());
+            } else if (entity.isOWLDataProperty()) {
+                dps = add(dps, entity.asOWLDataProperty());
+            } else if (entity.isOWLNamedIndividual()) {
+                inds = add(inds, entity.asOWLNamedIndividual());
+            } else if (entity.isOWLDatatype()) {
+                dts = add(dts, entity.asOWLDatatype());
+            } else if (entity.isOWLAnnotationProperty()) {
+                aps = add(aps, entity.asOWLAnnotationProperty());
+            }
+        }
+        classes = orEmpty(cls);
+        objectProperties = orEmpty(ops);
+        dataProperties = orEmpty(dps);
+        individuals = orEmpty(inds);
+        datatypes = orEmpty(dts);
+        annotationProperties = orEmpty(aps);
+    }
+
+    @Nonnull
+    private static <T> Set<T> add(Set<T> set, T element) {
+        Set<T> result = set;
+        if (result == null) {
+            result = new HashSet<>();
+        }
+        result.add(element);
+        return result;
+    }
+
+    @Nonnull
+    private static <T> Set<T> orEmpty(Set<T> set) {
+        if (set == null) {
+            return CollectionFactory.emptySet();
+        }
+        return set;
+    }
+
+    @Nonnull
+    private static <T> Set<T> view(@Nonnull Collection<T> set) {
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(set);
+    }
+
+    /**
+     * @param entity
+     *        entity to look up
+     * @return true if the entity is in the signature
+     */
+    boolean contains(@Nonnull OWLEntity entity) {
+        return entities.contains(entity);
+    }
+
+    /**
+     * @param entitySet
+     *        set to add the signature to
+     */
+    void addTo(@Nonnull Set<OWLEntity> entitySet) {
+        entitySet.addAll(entities);
+    }
+
+    /**
+     * @param visitor
+     *        visitor to call for each entity until it returns false
+     * @return false if the visitor stopped the traversal
+     */
+    boolean forEachWhile(@Nonnull Predicate<? super OWLEntity> visitor) {
+        for (OWLEntity entity : entities) {
+            if (!visitor.test(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nonnull
+    Set<OWLEntity> getSignature() {
+        return view(entities);
+    }
+
+    @Nonnull
+    Set<OWLClass> getClasses() {
+        return view(classes);
+    }
+
+    @Nonnull
+    Set<OWLObjectProperty> getObjectProperties() {
+        return view(objectProperties);
+    }
+
+    @Nonnull
+    Set<OWLDataProperty> getDataProperties() {
+        return view(dataProperties);
+    }
+
+    @Nonnull
+    Set<OWLNamedIndividual> getIndividuals() {
+        return view(individuals);
+    }
+
+    @Nonnull
+    Set<OWLDatatype> getDatatypes() {
+        return view(datatypes);
+    }
+
+    @Nonnull
+    Set<OWLAnnotationProperty> getAnnotationProperties() {
+        return view(annotationProperties);
+    }
+}
@@ -0,0 +1,425 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.util.CollectionFactory.ConditionalCopySet;
+
+/**
+ * A compact immutable set backed by an array sorted in natural order, meant
+ * for the small sets of operands and annotations held by most axioms and class
+ * expressions. {@code contains} is a binary search. Elements that cannot be
+ * sorted are kept in iteration order and searched linearly; only sets whose
+ * elements are sorted implement {@link SortedSet}.
+ *
+ * @param <T>
+ *        set element type
+ */
+public class SmallSortedSet<T> extends AbstractSet<T> implements Serializable {
+
+    private static final long serialVersionUID = 40000L;
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final SmallSortedSet<Object> EMPTY = new Sorted<>(NO_ELEMENTS);
+    private final Object[] elements;
+    private final boolean sorted;
+
+    private SmallSortedSet(Object[] elements, boolean sorted) {
+        this.elements = elements;
+        this.sorted = sorted;
+    }
+
+    /**
+     * @return the empty set
+     * @param <T>
+     *        set element type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SmallSortedSet<T> empty() {
+        return (SmallSortedSet<T>) EMPTY;
+    }
+
+    /**
+     * Getters return these sets wrapped in copy-on-request views; this finds
+     * the set behind such a view, so that it can be shared or compared in
+     * place.
+     *
+     * @param collection
+     *        a collection
+     * @return the collection if it is a SmallSortedSet, the set that a
+     *         copy-on-request view of a SmallSortedSet reads from, or null
+     * @param <T>
+     *        set element type
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> SmallSortedSet<T> unwrap(@Nullable Object collection) {
+        Object set = collection;
+        if (set instanceof ConditionalCopySet) {
+            set = ((ConditionalCopySet<?>) set).getDelegate();
+        }
+        if (set instanceof SmallSortedSet) {
+            return (SmallSortedSet<T>) set;
+        }
+        return null;
+    }
+
+    /**
+     * @param collection
+     *        collection to copy; duplicates are removed. A SmallSortedSet, or
+     *        a copy-on-request view of one, is returned as it is.
+     * @return a sorted set with the elements of the collection
+     * @param <T>
+     *        set element type
+     */
+    public static <T> SmallSortedSet<T> copyOf(Collection<? extends T> collection) {
+        SmallSortedSet<T> set = unwrap(collection);
+        if (set != null) {
+            return set;
+        }
+        if (collection.isEmpty()) {
+            return empty();
+        }
+        Object[] array;
+        if (collection instanceof Set) {
+            array = collection.toArray();
+        } else {
+            array = new LinkedHashSet<>(collection).toArray();
+        }
+        for (Object o : array) {
+            if (o == null) {
+                throw new NullPointerException("SmallSortedSet cannot store null values");
+            }
+        }
+        return create(array, sort(array));
+    }
+
+    /**
+     * Creates a set that uses the given array as its storage, without copying
+     * it. This is meant for deserializers that read the elements of a set into
+     * a freshly allocated array; the array is sorted in place and must not be
+     * modified afterwards. The elements are expected to be distinct, but this
+     * is checked on the sorted array: if two adjacent elements are equal, or
+     * the elements cannot be sorted, they are copied and deduplicated as in
+     * {@link #copyOf(Collection)}.
+     *
+     * @param elements
+     *        elements, normally distinct
+     * @return a sorted set with the elements of the array
+     * @param <T>
+     *        set element type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SmallSortedSet<T> ofDistinct(Object[] elements) {
+        if (elements.length == 0) {
+            return empty();
+        }
+        for (Object o : elements) {
+            if (o == null) {
+                throw new NullPointerException("SmallSortedSet cannot store null values");
+            }
+        }
+        if (!sort(elements) || hasAdjacentDuplicates(elements)) {
+            return (SmallSortedSet<T>) copyOf(Arrays.asList(elements));
+        }
+        return new Sorted<>(elements);
+    }
+
+    private static boolean hasAdjacentDuplicates(Object[] sortedArray) {
+        for (int i = 1; i < sortedArray.length; i++) {
+            if (sortedArray[i].equals(sortedArray[i - 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> SmallSortedSet<T> create(Object[] array, boolean sorted) {
+        if (sorted) {
+            return new Sorted<>(array);
+        }
+        return new SmallSortedSet<>(array, false);
+    }
+
+    private static boolean sort(Object[] array) {
+        if (array.length < 2) {
+            return true;
+        }
+        try {
+            Arrays.sort(array);
+            return true;
+        } catch (ClassCastException e) {
+            // elements not mutually comparable: keep iteration order
+            return false;
+        } catch (IllegalArgumentException e) {
+            // catch possible sorting misbehaviour, as in
+            // CollectionFactory.sortOptionally
+            if (e.getMessage() == null || !e.getMessage().contains("Comparison method violates its general contract!")) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @param index
+     *        position of the element, in iteration order
+     * @return the element at the index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) elements[index];
+    }
+
+    /**
+     * @return true if the iteration order of this set is the natural order of
+     *         its elements, in which case the set is a {@link SortedSet}
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Compares two sets element by element in iteration order, without
+     * allocating iterators; if one set is a prefix of the other, the smaller
+     * set comes first.
+     *
+     * @param set1
+     *        first set
+     * @param set2
+     *        second set
+     * @return negative, zero or positive as the first set is less than, equal
+     *         to or greater than the second
+     * @param <T>
+     *        set element type
+     */
+    public static <T extends Comparable<? super T>> int compare(SmallSortedSet<? extends T> set1,
+            SmallSortedSet<? extends T> set2) {
+        Object[] e1 = set1.elements;
+        Object[] e2 = set2.elements;
+        if (e1 == e2) {
+            return 0;
+        }
+        int size = Math.min(e1.length, e2.length);
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            T o1 = (T) e1[i];
+            @SuppressWarnings("unchecked")
+            T o2 = (T) e2[i];
+            if (o1 != o2) {
+                int diff = o1.compareTo(o2);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+        }
+        return e1.length - e2.length;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        if (sorted && elements.length > 2) {
+            try {
+                return binarySearch(o);
+            } catch (ClassCastException e) {
+                // o is not comparable with the elements: fall through
+            }
+        }
+        return linearSearch(o);
+    }
+
+    private boolean linearSearch(Object o) {
+        for (Object element : elements) {
+            if (o.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean binarySearch(Object o) {
+        int low = 0;
+        int high = elements.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int diff = ((Comparable<Object>) elements[mid]).compareTo(o);
+            if (diff < 0) {
+                low = mid + 1;
+            } else if (diff > 0) {
+                high = mid - 1;
+            } else {
+                return equalInRun(mid, o);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * compareTo might not be consistent with equals; check all elements that
+     * compare equal to {@code o}.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean equalInRun(int found, Object o) {
+        for (int i = found; i >= 0 && ((Comparable<Object>) elements[i]).compareTo(o) == 0; i--) {
+            if (o.equals(elements[i])) {
+                return true;
+            }
+        }
+        for (int i = found + 1; i < elements.length && ((Comparable<Object>) elements[i]).compareTo(o) == 0; i++) {
+            if (o.equals(elements[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int cp = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cp < elements.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No Next Element");
+                }
+                return get(cp++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        SmallSortedSet<?> other = unwrap(obj);
+        if (other != null) {
+            if (sorted && other.sorted) {
+                // two sorted sets are equal only if they have equal elements
+                // in the same order, unless compareTo is not consistent with
+                // equals; only trust a positive answer
+                if (Arrays.equals(elements, other.elements)) {
+                    return true;
+                }
+            }
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Object element : elements) {
+            hash += element.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * A set whose elements are sorted in natural order.
+     *
+     * @param <T>
+     *        set element type
+     */
+    private static final class Sorted<T> extends SmallSortedSet<T> implements SortedSet<T> {
+
+        private static final long serialVersionUID = 40000L;
+
+        Sorted(Object[] elements) {
+            super(elements, true);
+        }
+
+        @Override
+        public Comparator<? super T> comparator() {
+            return null;
+        }
+
+        @Override
+        public T first() {
+            if (isEmpty()) {
+                throw new NoSuchElementException("Empty set");
+            }
+            return get(0);
+        }
+
+        @Override
+        public T last() {
+            if (isEmpty()) {
+                throw new NoSuchElementException("Empty set");
+            }
+            return get(size() - 1);
+        }
+
+        @Override
+        public SortedSet<T> subSet(T fromElement, T toElement) {
+            return range(fromElement, toElement);
+        }
+
+        @Override
+        public SortedSet<T> headSet(T toElement) {
+            return range(null, toElement);
+        }
+
+        @Override
+        public SortedSet<T> tailSet(T fromElement) {
+            return range(fromElement, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        private SortedSet<T> range(T fromElement, T toElement) {
+            Object[] result = new Object[size()];
+            int size = 0;
+            for (int i = 0; i < size(); i++) {
+                Comparable<Object> c = (Comparable<Object>) get(i);
+                if ((fromElement == null || c.compareTo(fromElement) >= 0)
+                        && (toElement == null || c.compareTo(toElement) < 0)) {
+                    result[size++] = c;
+                }
+            }
+            if (size == 0) {
+                return (SortedSet<T>) EMPTY;
+            }
+            return new Sorted<>(Arrays.copyOf(result, size));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.semanticweb.owlapi.gwt.client;
 import com.google.gwt.user.client.rpc.RemoteService;
 import com.google.gwt.user.client.rpc.RemoteServiceRelativePath;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.AxiomChunk;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import uk.ac.manchester.cs.owl.owlapi.*;
@@ -32,6 +33,8 @@ public interface OWLObjectSerializationTestsService extends RemoteService {
 
     OWLOntologyID testOWLOntologyId(OWLOntologyID id);
 
+    AxiomChunk testAxiomChunk(AxiomChunk chunk);
+
     OWLClassImpl testOWLClassImpl(OWLClassImpl cls);
 
     OWLObjectPropertyImpl testOWLObjectPropertyImpl(OWLObjectPropertyImpl property);
@@ -3,6 +3,7 @@ package org.semanticweb.owlapi.gwt.server;
 import com.google.gwt.user.server.rpc.RemoteServiceServlet;
 import org.semanticweb.owlapi.gwt.client.OWLObjectSerializationTestsService;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.AxiomChunk;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import uk.ac.manchester.cs.owl.owlapi.*;
@@ -40,6 +41,11 @@ public class OWLObjectSerializationTestsServiceImpl extends RemoteServiceServlet
         return id;
     }
 
+    @Override
+    public AxiomChunk testAxiomChunk(AxiomChunk chunk) {
+        return chunk;
+    }
+
     @Override
     public OWLClassImpl testOWLClassImpl(OWLClassImpl cls) {
         return cls;
@@ -5,6 +5,7 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.junit.client.GWTTestCase;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.AxiomChunk;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
@@ -14,6 +15,7 @@ import uk.ac.manchester.cs.owl.owlapi.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -121,6 +123,7 @@ public class GwtTest_OWLObject_Serialization extends GWTTestCase implements OWLO
             @Override
             public void onSuccess(IRI out) {
                 assertEquals(in, out);
+                assertSame(IRI.create("http://stuff.com/A"), out);
                 finishTest();
             }
         });
@@ -144,6 +147,31 @@ public class GwtTest_OWLObject_Serialization extends GWTTestCase implements OWLO
         });
     }
     
+    public void testShouldSerializeAxiomChunk() {
+        delayTestFinish(TEST_DELAY_MS);
+        OWLDataFactory df = new OWLDataFactoryImpl();
+        OWLClass clsA = df.getOWLClass(IRI.create("http://stuff.com/A"));
+        OWLClass clsB = df.getOWLClass(IRI.create("http://stuff.com/B"));
+        List<OWLAxiom> axioms = Arrays.<OWLAxiom>asList(df.getOWLDeclarationAxiom(clsA),
+                df.getOWLSubClassOfAxiom(clsA, clsB), df.getOWLDeclarationAxiom(clsB));
+        final AxiomChunk in = AxiomChunk.of(axioms, 1, 1);
+        OWLObjectSerializationTestsServiceAsync service = GWT.create(OWLObjectSerializationTestsService.class);
+        service.testAxiomChunk(in, new AsyncCallback<AxiomChunk>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onSuccess(AxiomChunk out) {
+                assertEquals(in, out);
+                assertEquals(2, out.getNextOffset());
+                assertFalse(out.isLast());
+                finishTest();
+            }
+        });
+    }
+
     public void testShouldSerializeOWLClassImpl() {
         delayTestFinish(TEST_DELAY_MS);
         final OWLClassImpl in = new OWLClassImpl(IRI.create("http://org.semanticweb.owlapi.gwt#A"));
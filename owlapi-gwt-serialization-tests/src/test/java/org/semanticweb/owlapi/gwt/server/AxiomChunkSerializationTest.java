@@ -0,0 +1,96 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.AxiomChunk;
+import org.semanticweb.owlapi.util.AxiomChunk_CustomFieldSerializer;
+import uk.ac.manchester.cs.owl.owlapi.CompactOWLObjectSerializer;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that axiom chunks are written with the compact serializer and read back unchanged, and that chunks that do
+ * not fit in their list are rejected.
+ */
+public class AxiomChunkSerializationTest {
+
+    private final List<OWLAxiom> axioms = new SyntheticOntology(new OWLDataFactoryImpl(), 500, 42L).getAxioms();
+
+    private static AxiomChunk roundTrip(AxiomChunk chunk) throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        stream.createWriter().writeObject(chunk);
+        return (AxiomChunk) stream.createReader().readObject();
+    }
+
+    @Test
+    public void shouldRoundTripChunks() throws SerializationException {
+        int offset = 0;
+        AxiomChunk chunk;
+        do {
+            chunk = AxiomChunk.of(axioms, offset, 100);
+            AxiomChunk read = roundTrip(chunk);
+            assertEquals(chunk, read);
+            assertEquals(chunk.isLast(), read.isLast());
+            offset = chunk.getNextOffset();
+        } while (!chunk.isLast());
+        assertEquals(axioms.size(), offset);
+    }
+
+    @Test
+    public void shouldRoundTripEmptyChunk() throws SerializationException {
+        AxiomChunk chunk = AxiomChunk.of(axioms, axioms.size());
+        assertEquals(chunk, roundTrip(chunk));
+    }
+
+    @Test
+    public void shouldWriteFewerTokensThanWriteObject() throws SerializationException {
+        AxiomChunk chunk = AxiomChunk.of(axioms, 0, axioms.size());
+        StubSerializationStream compact = new StubSerializationStream();
+        compact.createWriter().writeObject(chunk);
+        StubSerializationStream plain = new StubSerializationStream();
+        StubSerializationStream.Writer writer = plain.createWriter();
+        for (OWLAxiom axiom : axioms) {
+            writer.writeObject(axiom);
+        }
+        assertTrue(compact.size() < plain.size());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectNegativeOffset() throws SerializationException {
+        instantiate(-1, 10, axioms.subList(0, 2));
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectNegativeTotalSize() throws SerializationException {
+        instantiate(0, -1, Collections.<OWLAxiom>emptyList());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectChunkBeyondTotalSize() throws SerializationException {
+        instantiate(9, 10, axioms.subList(0, 2));
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectOverflowingOffset() throws SerializationException {
+        instantiate(Integer.MAX_VALUE, Integer.MAX_VALUE, axioms.subList(0, 2));
+    }
+
+    /**
+     * Reads a chunk from a stream that holds the given header and axioms, as a malformed or hostile stream could.
+     */
+    private static AxiomChunk instantiate(int offset, int totalSize, List<OWLAxiom> chunkAxioms)
+            throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        writer.writeInt(offset);
+        writer.writeInt(totalSize);
+        CompactOWLObjectSerializer.serializeAxioms(chunkAxioms, writer);
+        return AxiomChunk_CustomFieldSerializer.instantiate(stream.createReader());
+    }
+}
@@ -0,0 +1,72 @@
+package org.semanticweb.owlapi.gwt.server;
+
+/**
+ * The NCName scanner of XMLUtils before character classes were looked up in tables, kept as the reference for
+ * {@link XMLUtilsTest} and as the baseline of XMLUtilsBenchmark in owlapi-gwt-benchmarks.
+ */
+public final class BaselineXMLUtils {
+
+    private BaselineXMLUtils() {
+    }
+
+    public static boolean isXMLNameStartCharacter(int codePoint) {
+        return codePoint == ':' || codePoint >= 'A' && codePoint <= 'Z' || codePoint == '_' || codePoint >= 'a'
+            && codePoint <= 'z' || codePoint >= 0xC0 && codePoint <= 0xD6 || codePoint >= 0xD8 && codePoint <= 0xF6
+            || codePoint >= 0xF8 && codePoint <= 0x2FF || codePoint >= 0x370 && codePoint <= 0x37D || codePoint >= 0x37F
+                && codePoint <= 0x1FFF || codePoint >= 0x200C && codePoint <= 0x200D || codePoint >= 0x2070
+                    && codePoint <= 0x218F || codePoint >= 0x2C00 && codePoint <= 0x2FEF || codePoint >= 0x3001
+                        && codePoint <= 0xD7FF || codePoint >= 0xF900 && codePoint <= 0xFDCF || codePoint >= 0xFDF0
+                            && codePoint <= 0xFFFD || codePoint >= 0x10000 && codePoint <= 0xEFFFF;
+    }
+
+    public static boolean isXMLNameChar(int codePoint) {
+        return isXMLNameStartCharacter(codePoint) || codePoint == '-' || codePoint == '.' || codePoint >= '0'
+            && codePoint <= '9' || codePoint == 0xB7 || codePoint >= 0x0300 && codePoint <= 0x036F
+            || codePoint >= 0x203F && codePoint <= 0x2040;
+    }
+
+    public static boolean isNCNameStartChar(int codePoint) {
+        return codePoint != ':' && isXMLNameStartCharacter(codePoint);
+    }
+
+    public static boolean isNCNameChar(int codePoint) {
+        return codePoint != ':' && isXMLNameChar(codePoint);
+    }
+
+    public static boolean isNCName(CharSequence s) {
+        if (s == null || s.length() == 0) {
+            return false;
+        }
+        int firstCodePoint = Character.codePointAt(s, 0);
+        if (!isNCNameStartChar(firstCodePoint)) {
+            return false;
+        }
+        for (int i = Character.charCount(firstCodePoint); i < s.length();) {
+            int codePoint = Character.codePointAt(s, i);
+            if (!isNCNameChar(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    public static int getNCNameSuffixIndex(CharSequence s) {
+        if (s.length() > 1 && s.charAt(0) == '_' && s.charAt(1) == ':') {
+            return -1;
+        }
+        int index = -1;
+        for (int i = s.length() - 1; i > -1; i--) {
+            if (!Character.isLowSurrogate(s.charAt(i))) {
+                int codePoint = Character.codePointAt(s, i);
+                if (isNCNameStartChar(codePoint)) {
+                    index = i;
+                }
+                if (!isNCNameChar(codePoint)) {
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,433 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+import uk.ac.manchester.cs.owl.owlapi.CompactOWLObjectSerializer;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Round trips OWL objects through the compact form of {@link CompactOWLObjectSerializer}, and checks that malformed
+ * input is rejected with a {@link SerializationException}.
+ */
+public class CompactOWLObjectSerializerTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/compact#";
+
+    // The tag layout of the compact form, which the malformed streams below are written by hand against
+    private static final int CLASS_TAG = 1;
+
+    private static final int DATA_PROPERTY_TAG = 4;
+
+    private static final int ANONYMOUS_INDIVIDUAL_TAG = 7;
+
+    private static final int AXIOM_TAG_BASE = 64;
+
+    private static final int ANNOTATED = 128;
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLClass a = dataFactory.getOWLClass(iri("A"));
+
+    private final OWLClass b = dataFactory.getOWLClass(iri("B"));
+
+    private final OWLClass c = dataFactory.getOWLClass(iri("C"));
+
+    private final OWLObjectProperty p = dataFactory.getOWLObjectProperty(iri("p"));
+
+    private final OWLObjectProperty q = dataFactory.getOWLObjectProperty(iri("q"));
+
+    private final OWLDataProperty d = dataFactory.getOWLDataProperty(iri("d"));
+
+    private final OWLDataProperty e = dataFactory.getOWLDataProperty(iri("e"));
+
+    private final OWLNamedIndividual i = dataFactory.getOWLNamedIndividual(iri("i"));
+
+    private final OWLNamedIndividual j = dataFactory.getOWLNamedIndividual(iri("j"));
+
+    private final OWLAnonymousIndividual anonymous = dataFactory.getOWLAnonymousIndividual("_:genid1");
+
+    private final OWLAnnotationProperty label = dataFactory.getRDFSLabel();
+
+    private final OWLAnnotationProperty comment = dataFactory.getRDFSComment();
+
+    private final OWLDatatype integer = dataFactory.getIntegerOWLDatatype();
+
+    private static IRI iri(String name) {
+        return IRI.create(NAMESPACE + name);
+    }
+
+    @Test
+    public void shouldRoundTripNull() throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        CompactOWLObjectSerializer.serialize(null, stream.createWriter());
+        assertNull(CompactOWLObjectSerializer.deserialize(stream.createReader()));
+    }
+
+    @Test
+    public void shouldRoundTripEntities() throws SerializationException {
+        assertRoundTrip(a);
+        assertRoundTrip(p);
+        assertRoundTrip(dataFactory.getOWLObjectInverseOf(p));
+        assertRoundTrip(d);
+        assertRoundTrip(i);
+        assertRoundTrip(label);
+        // Written with writeObject
+        assertRoundTrip(anonymous);
+        assertRoundTrip(integer);
+        assertRoundTrip(dataFactory.getOWLDatatype(iri("dt")));
+    }
+
+    @Test
+    public void shouldRoundTripObjectClassExpressions() throws SerializationException {
+        OWLObjectPropertyExpression inverse = dataFactory.getOWLObjectInverseOf(q);
+        assertRoundTrip(dataFactory.getOWLObjectIntersectionOf(a, b, c));
+        assertRoundTrip(dataFactory.getOWLObjectUnionOf(a, b));
+        assertRoundTrip(dataFactory.getOWLObjectComplementOf(a));
+        assertRoundTrip(dataFactory.getOWLObjectOneOf(i, j, anonymous));
+        assertRoundTrip(dataFactory.getOWLObjectSomeValuesFrom(p, a));
+        assertRoundTrip(dataFactory.getOWLObjectAllValuesFrom(inverse, b));
+        assertRoundTrip(dataFactory.getOWLObjectHasValue(p, i));
+        assertRoundTrip(dataFactory.getOWLObjectHasValue(p, anonymous));
+        assertRoundTrip(dataFactory.getOWLObjectMinCardinality(0, p, a));
+        assertRoundTrip(dataFactory.getOWLObjectExactCardinality(2, inverse, b));
+        assertRoundTrip(dataFactory.getOWLObjectMaxCardinality(Integer.MAX_VALUE, p, c));
+        assertRoundTrip(dataFactory.getOWLObjectHasSelf(inverse));
+    }
+
+    @Test
+    public void shouldRoundTripDataClassExpressions() throws SerializationException {
+        OWLDataRange range = dataFactory.getOWLDataIntersectionOf(integer,
+                dataFactory.getOWLDatatypeRestriction(integer, OWLFacet.MIN_INCLUSIVE, dataFactory.getOWLLiteral(1)));
+        assertRoundTrip(dataFactory.getOWLDataSomeValuesFrom(d, integer));
+        assertRoundTrip(dataFactory.getOWLDataAllValuesFrom(d, range));
+        assertRoundTrip(dataFactory.getOWLDataHasValue(d, dataFactory.getOWLLiteral(3)));
+        assertRoundTrip(dataFactory.getOWLDataMinCardinality(1, d, integer));
+        assertRoundTrip(dataFactory.getOWLDataExactCardinality(2, e, range));
+        assertRoundTrip(dataFactory.getOWLDataMaxCardinality(3, d, dataFactory.getTopDatatype()));
+    }
+
+    @Test
+    public void shouldRoundTripNestedClassExpressions() throws SerializationException {
+        OWLClassExpression inner = dataFactory.getOWLObjectUnionOf(
+                dataFactory.getOWLObjectComplementOf(a),
+                dataFactory.getOWLObjectOneOf(i),
+                dataFactory.getOWLDataSomeValuesFrom(d, integer));
+        OWLClassExpression nested = dataFactory.getOWLObjectIntersectionOf(
+                b,
+                dataFactory.getOWLObjectSomeValuesFrom(p,
+                        dataFactory.getOWLObjectAllValuesFrom(dataFactory.getOWLObjectInverseOf(q),
+                                dataFactory.getOWLObjectExactCardinality(2, p, inner))),
+                dataFactory.getOWLObjectMinCardinality(1, q, inner),
+                dataFactory.getOWLObjectHasSelf(p));
+        assertRoundTrip(nested);
+        assertRoundTrip(dataFactory.getOWLSubClassOfAxiom(nested, dataFactory.getOWLObjectComplementOf(nested)));
+    }
+
+    @Test
+    public void shouldRoundTripLiteralsOfEachDatatype() throws SerializationException {
+        List<OWLLiteral> literals = Arrays.asList(
+                dataFactory.getOWLLiteral("abc"),
+                dataFactory.getOWLLiteral(""),
+                dataFactory.getOWLLiteral("abc", "en"),
+                dataFactory.getOWLLiteral("abc", ""),
+                dataFactory.getOWLLiteral("abc", OWL2Datatype.RDF_PLAIN_LITERAL),
+                dataFactory.getOWLLiteral("abc", OWL2Datatype.XSD_STRING),
+                dataFactory.getOWLLiteral(42),
+                dataFactory.getOWLLiteral(-1),
+                dataFactory.getOWLLiteral("0042", OWL2Datatype.XSD_INTEGER),
+                dataFactory.getOWLLiteral(1.5),
+                dataFactory.getOWLLiteral(-0.0),
+                dataFactory.getOWLLiteral(Double.POSITIVE_INFINITY),
+                dataFactory.getOWLLiteral(2.5f),
+                dataFactory.getOWLLiteral(Float.NEGATIVE_INFINITY),
+                dataFactory.getOWLLiteral(true),
+                dataFactory.getOWLLiteral(false),
+                dataFactory.getOWLLiteral("2016-01-01T00:00:00Z", OWL2Datatype.XSD_DATE_TIME),
+                dataFactory.getOWLLiteral("x", dataFactory.getOWLDatatype(iri("dt"))));
+        for (OWLLiteral literal : literals) {
+            assertRoundTrip(literal);
+            assertRoundTrip(dataFactory.getOWLDataHasValue(d, literal));
+            assertRoundTrip(dataFactory.getOWLDataPropertyAssertionAxiom(d, i, literal));
+            assertRoundTrip(dataFactory.getOWLAnnotation(label, literal));
+        }
+    }
+
+    @Test
+    public void shouldRoundTripAnnotations() throws SerializationException {
+        OWLAnnotation onIRI = dataFactory.getOWLAnnotation(comment, iri("A"));
+        OWLAnnotation onAnonymous = dataFactory.getOWLAnnotation(comment, anonymous);
+        OWLAnnotation onLiteral = dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("A", "en"));
+        OWLAnnotation nested = dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("B"),
+                new HashSet<>(Arrays.asList(onIRI, onLiteral)));
+        OWLAnnotation doublyNested = dataFactory.getOWLAnnotation(comment, dataFactory.getOWLLiteral("C"),
+                Collections.singleton(nested));
+        assertRoundTrip(onIRI);
+        assertRoundTrip(onAnonymous);
+        assertRoundTrip(onLiteral);
+        assertRoundTrip(nested);
+        assertRoundTrip(doublyNested);
+        // The annotations of the annotation become the annotations of the axiom
+        OWLAnnotationAssertionAxiom assertion = (OWLAnnotationAssertionAxiom) assertRoundTrip(
+                dataFactory.getOWLAnnotationAssertionAxiom(iri("A"), doublyNested));
+        assertEquals(doublyNested.getAnnotations(), assertion.getAnnotations());
+        assertRoundTrip(dataFactory.getOWLAnnotationAssertionAxiom(label, anonymous, dataFactory.getOWLLiteral("x"),
+                Collections.singleton(onIRI)));
+    }
+
+    @Test
+    public void shouldRoundTripAxiomsWithAndWithoutAnnotations() throws SerializationException {
+        Set<OWLAnnotation> one = Collections.singleton(dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("x")));
+        Set<OWLAnnotation> two = new HashSet<>(Arrays.asList(
+                dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("x")),
+                dataFactory.getOWLAnnotation(comment, dataFactory.getOWLLiteral("y"))));
+        for (Set<OWLAnnotation> annotations : Arrays.asList(Collections.<OWLAnnotation>emptySet(), one, two)) {
+            for (OWLAxiom axiom : getAxioms(annotations)) {
+                OWLAxiom read = (OWLAxiom) assertRoundTrip(axiom);
+                assertEquals(annotations, read.getAnnotations());
+                assertEquals(!annotations.isEmpty(), read.isAnnotated());
+            }
+        }
+    }
+
+    @Test
+    public void shouldRoundTripSWRLRules() throws SerializationException {
+        SWRLVariable x = dataFactory.getSWRLVariable(iri("x"));
+        SWRLVariable y = dataFactory.getSWRLVariable(iri("y"));
+        SWRLVariable z = dataFactory.getSWRLVariable(iri("z"));
+        Set<SWRLAtom> body = new HashSet<>(Arrays.<SWRLAtom>asList(
+                dataFactory.getSWRLClassAtom(a, x),
+                dataFactory.getSWRLObjectPropertyAtom(p, x, y),
+                dataFactory.getSWRLDataPropertyAtom(d, y, z),
+                dataFactory.getSWRLDataRangeAtom(integer, z),
+                dataFactory.getSWRLBuiltInAtom(iri("greaterThan"),
+                        Arrays.<SWRLDArgument>asList(z, dataFactory.getSWRLLiteralArgument(dataFactory.getOWLLiteral(3)))),
+                dataFactory.getSWRLDifferentIndividualsAtom(x, dataFactory.getSWRLIndividualArgument(i))));
+        Set<SWRLAtom> head = new HashSet<>(Arrays.<SWRLAtom>asList(
+                dataFactory.getSWRLClassAtom(dataFactory.getOWLObjectSomeValuesFrom(q, b), y),
+                dataFactory.getSWRLSameIndividualAtom(y, dataFactory.getSWRLIndividualArgument(j))));
+        SWRLRule rule = dataFactory.getSWRLRule(body, head);
+        assertRoundTrip(rule);
+        assertRoundTrip(dataFactory.getSWRLRule(body, head,
+                Collections.singleton(dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("rule")))));
+        assertRoundTrip(dataFactory.getSWRLRule(Collections.<SWRLAtom>emptySet(), head));
+        List<OWLAxiom> axioms = Arrays.<OWLAxiom>asList(dataFactory.getOWLSubClassOfAxiom(a, b), rule,
+                dataFactory.getOWLSubClassOfAxiom(a, b));
+        assertArrayEquals(axioms.toArray(), roundTripAxioms(axioms));
+    }
+
+    @Test
+    public void shouldRoundTripEmptyAndSingletonSets() throws SerializationException {
+        OWLObjectIntersectionOf empty = dataFactory.getOWLObjectIntersectionOf(Collections.<OWLClassExpression>emptySet());
+        OWLObjectIntersectionOf singleton = dataFactory.getOWLObjectIntersectionOf(Collections.singleton(a));
+        assertTrue(((OWLObjectIntersectionOf) assertRoundTrip(empty)).getOperands().isEmpty());
+        assertEquals(Collections.singleton(a), ((OWLObjectIntersectionOf) assertRoundTrip(singleton)).getOperands());
+        assertRoundTrip(dataFactory.getOWLObjectUnionOf(Collections.<OWLClassExpression>emptySet()));
+        assertRoundTrip(dataFactory.getOWLObjectOneOf(Collections.<OWLIndividual>singleton(i)));
+        assertRoundTrip(dataFactory.getOWLEquivalentClassesAxiom(Collections.singleton(a)));
+        assertRoundTrip(dataFactory.getOWLDisjointClassesAxiom(Collections.singleton(empty)));
+        OWLAnnotation unannotated = dataFactory.getOWLAnnotation(label, dataFactory.getOWLLiteral("x"));
+        assertTrue(((OWLAnnotation) assertRoundTrip(unannotated)).getAnnotations().isEmpty());
+        assertRoundTrip(dataFactory.getOWLAnnotation(comment, iri("A"), Collections.singleton(unannotated)));
+        assertRoundTrip(dataFactory.getOWLDeclarationAxiom(a, Collections.singleton(unannotated)));
+        assertArrayEquals(new OWLAxiom[0], roundTripAxioms(Collections.<OWLAxiom>emptyList()));
+        List<OWLAxiom> one = Collections.<OWLAxiom>singletonList(dataFactory.getOWLDeclarationAxiom(a));
+        assertArrayEquals(one.toArray(), roundTripAxioms(one));
+    }
+
+    @Test
+    public void shouldShareObjectsThatAreWrittenMoreThanOnce() throws SerializationException {
+        OWLClassExpression filler = dataFactory.getOWLObjectSomeValuesFrom(p,
+                dataFactory.getOWLObjectIntersectionOf(b, c));
+        List<OWLAxiom> axioms = Arrays.<OWLAxiom>asList(
+                dataFactory.getOWLSubClassOfAxiom(a, filler),
+                dataFactory.getOWLSubClassOfAxiom(b, filler),
+                dataFactory.getOWLEquivalentClassesAxiom(a, filler));
+        OWLAxiom[] read = roundTripAxioms(axioms);
+        assertArrayEquals(axioms.toArray(), read);
+        OWLClassExpression first = ((OWLSubClassOfAxiom) read[0]).getSuperClass();
+        assertSame(first, ((OWLSubClassOfAxiom) read[1]).getSuperClass());
+        for (OWLClassExpression ce : ((OWLEquivalentClassesAxiom) read[2]).getClassExpressions()) {
+            if (ce.equals(a)) {
+                assertSame(((OWLSubClassOfAxiom) read[0]).getSubClass(), ce);
+            }
+            else {
+                assertSame(first, ce);
+            }
+        }
+    }
+
+    @Test
+    public void shouldRoundTripOntology() throws SerializationException {
+        SyntheticOntology ontology = new SyntheticOntology(dataFactory, 2000, 42L);
+        List<OWLAxiom> axioms = ontology.getAxioms();
+        assertArrayEquals(axioms.toArray(), roundTripAxioms(axioms));
+    }
+
+    @Test
+    public void shouldRoundTripAxiomsOneByOneInOneStream() throws SerializationException {
+        List<OWLAxiom> axioms = getAxioms(Collections.<OWLAnnotation>emptySet());
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        for (OWLAxiom axiom : axioms) {
+            CompactOWLObjectSerializer.serialize(axiom, writer);
+        }
+        StubSerializationStream.Reader reader = stream.createReader();
+        for (OWLAxiom axiom : axioms) {
+            assertEquals(axiom, CompactOWLObjectSerializer.deserialize(reader));
+        }
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectUnusedTag() throws SerializationException {
+        deserializeInts(8);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectTagWithoutCodec() throws SerializationException {
+        // Anonymous individuals have a tag but are written with writeObject
+        deserializeInts(ANONYMOUS_INDIVIDUAL_TAG);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectTagOutOfRange() throws SerializationException {
+        deserializeInts(256);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectLargestTag() throws SerializationException {
+        deserializeInts(255);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectAnnotatedTagOfAxiomTypeWithoutCodec() throws SerializationException {
+        deserializeInts(AXIOM_TAG_BASE + AxiomType.SWRL_RULE.getIndex() | ANNOTATED);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectUnknownBackReference() throws SerializationException {
+        deserializeInts(-1);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectBackReferenceToObjectNotYetRead() throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        writer.writeInt(AXIOM_TAG_BASE + AxiomType.SUBCLASS_OF.getIndex());
+        writer.writeInt(CLASS_TAG);
+        writer.writeObject(iri("A"));
+        writer.writeInt(-2);
+        CompactOWLObjectSerializer.deserialize(stream.createReader());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectNegativeSetSize() throws SerializationException {
+        deserializeInts(AXIOM_TAG_BASE + AxiomType.EQUIVALENT_CLASSES.getIndex(), -1);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectNegativeAxiomCount() throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        stream.createWriter().writeInt(-1);
+        CompactOWLObjectSerializer.deserializeAxioms(stream.createReader());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectFieldOfWrongType() throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        writer.writeInt(AXIOM_TAG_BASE + AxiomType.SUBCLASS_OF.getIndex());
+        writer.writeInt(DATA_PROPERTY_TAG);
+        writer.writeObject(iri("d"));
+        writer.writeInt(CLASS_TAG);
+        writer.writeObject(iri("A"));
+        CompactOWLObjectSerializer.deserialize(stream.createReader());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectObjectOtherThanAxiomInAxiomList() throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        writer.writeInt(1);
+        CompactOWLObjectSerializer.serialize(a, writer);
+        CompactOWLObjectSerializer.deserializeAxioms(stream.createReader());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void shouldRejectTruncatedStream() throws SerializationException {
+        deserializeInts(AXIOM_TAG_BASE + AxiomType.SUBCLASS_OF.getIndex(), CLASS_TAG);
+    }
+
+    private List<OWLAxiom> getAxioms(Set<OWLAnnotation> annotations) {
+        OWLClassExpression some = dataFactory.getOWLObjectSomeValuesFrom(p, b);
+        List<OWLAxiom> axioms = new ArrayList<>();
+        axioms.add(dataFactory.getOWLDeclarationAxiom(a, annotations));
+        axioms.add(dataFactory.getOWLDeclarationAxiom(p, annotations));
+        axioms.add(dataFactory.getOWLDeclarationAxiom(d, annotations));
+        axioms.add(dataFactory.getOWLDeclarationAxiom(i, annotations));
+        axioms.add(dataFactory.getOWLDeclarationAxiom(label, annotations));
+        axioms.add(dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLDatatype(iri("dt")), annotations));
+        axioms.add(dataFactory.getOWLSubClassOfAxiom(a, some, annotations));
+        axioms.add(dataFactory.getOWLEquivalentClassesAxiom(new HashSet<>(Arrays.asList(a, b, some)), annotations));
+        axioms.add(dataFactory.getOWLDisjointClassesAxiom(new HashSet<>(Arrays.asList(b, c)), annotations));
+        axioms.add(dataFactory.getOWLClassAssertionAxiom(some, i, annotations));
+        axioms.add(dataFactory.getOWLClassAssertionAxiom(a, anonymous, annotations));
+        axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(p, i, j, annotations));
+        axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(dataFactory.getOWLObjectInverseOf(p), anonymous, i,
+                annotations));
+        axioms.add(dataFactory.getOWLDataPropertyAssertionAxiom(d, i, dataFactory.getOWLLiteral(1.5), annotations));
+        axioms.add(dataFactory.getOWLAnnotationAssertionAxiom(label, iri("A"), dataFactory.getOWLLiteral("A", "en"),
+                annotations));
+        axioms.add(dataFactory.getOWLSubObjectPropertyOfAxiom(p, dataFactory.getOWLObjectInverseOf(q), annotations));
+        axioms.add(dataFactory.getOWLObjectPropertyDomainAxiom(p, a, annotations));
+        axioms.add(dataFactory.getOWLObjectPropertyRangeAxiom(q, some, annotations));
+        axioms.add(dataFactory.getOWLSubDataPropertyOfAxiom(d, e, annotations));
+        axioms.add(dataFactory.getOWLDataPropertyDomainAxiom(d, some, annotations));
+        axioms.add(dataFactory.getOWLDataPropertyRangeAxiom(e, integer, annotations));
+        // Written with writeObject
+        axioms.add(dataFactory.getOWLTransitiveObjectPropertyAxiom(p, annotations));
+        axioms.add(dataFactory.getOWLSubPropertyChainOfAxiom(Arrays.<OWLObjectPropertyExpression>asList(p, q), p,
+                annotations));
+        return axioms;
+    }
+
+    private OWLObject assertRoundTrip(OWLObject object) throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        CompactOWLObjectSerializer.serialize(object, stream.createWriter());
+        OWLObject read = CompactOWLObjectSerializer.deserialize(stream.createReader());
+        assertEquals(object, read);
+        assertEquals(object.hashCode(), read.hashCode());
+        assertEquals(object.getClass(), read.getClass());
+        return read;
+    }
+
+    private static OWLAxiom[] roundTripAxioms(List<? extends OWLAxiom> axioms) throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        CompactOWLObjectSerializer.serializeAxioms(axioms, stream.createWriter());
+        return CompactOWLObjectSerializer.deserializeAxioms(stream.createReader());
+    }
+
+    private static void deserializeInts(int... ints) throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        for (int value : ints) {
+            writer.writeInt(value);
+        }
+        CompactOWLObjectSerializer.deserialize(stream.createReader());
+    }
+}
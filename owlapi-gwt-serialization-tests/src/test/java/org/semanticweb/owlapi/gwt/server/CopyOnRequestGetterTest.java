@@ -0,0 +1,97 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that getters of sets stored in {@link SmallSortedSet}s return copies that can be modified without changing
+ * the object, and that the stored set can still be found behind the copy.
+ */
+public class CopyOnRequestGetterTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/getters#";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLClass a = dataFactory.getOWLClass(IRI.create(NAMESPACE + "A"));
+
+    private final OWLClass b = dataFactory.getOWLClass(IRI.create(NAMESPACE + "B"));
+
+    private final OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+
+    private final OWLAnnotation annotation = dataFactory.getOWLAnnotation(dataFactory.getRDFSLabel(),
+            dataFactory.getOWLLiteral("x"));
+
+    private final OWLAnnotation otherAnnotation = dataFactory.getOWLAnnotation(dataFactory.getRDFSComment(),
+            dataFactory.getOWLLiteral("y"));
+
+    private final Set<OWLAnnotation> annotations = new HashSet<>(Arrays.asList(annotation, otherAnnotation));
+
+    @Test
+    public void shouldCopyAxiomAnnotationsOnRequest() {
+        OWLAxiom axiom = dataFactory.getOWLSubClassOfAxiom(a, b, annotations);
+        assertModifiableCopy(axiom.getAnnotations(), dataFactory.getOWLAnnotation(dataFactory.getRDFSLabel(),
+                dataFactory.getOWLLiteral("z")));
+        assertEquals(annotations, axiom.getAnnotations());
+    }
+
+    @Test
+    public void shouldCopyAnnotationAnnotationsOnRequest() {
+        OWLAnnotation annotated = dataFactory.getOWLAnnotation(dataFactory.getRDFSLabel(),
+                dataFactory.getOWLLiteral("a"), annotations);
+        assertModifiableCopy(annotated.getAnnotations(), dataFactory.getOWLAnnotation(dataFactory.getRDFSLabel(),
+                dataFactory.getOWLLiteral("z")));
+        assertEquals(annotations, annotated.getAnnotations());
+    }
+
+    @Test
+    public void shouldCopyOperandsOnRequest() {
+        OWLObjectIntersectionOf intersection = dataFactory.getOWLObjectIntersectionOf(a, b);
+        assertModifiableCopy(intersection.getOperands(), c);
+        assertEquals(new HashSet<>(Arrays.asList(a, b)), intersection.getOperands());
+    }
+
+    @Test
+    public void shouldCopyClassExpressionsOnRequest() {
+        OWLEquivalentClassesAxiom axiom = dataFactory.getOWLEquivalentClassesAxiom(a, b);
+        assertModifiableCopy(axiom.getClassExpressions(), c);
+        assertEquals(new HashSet<>(Arrays.asList(a, b)), axiom.getClassExpressions());
+    }
+
+    @Test
+    public void shouldShareStoredSetWhenCopyingAxioms() {
+        OWLAxiom axiom = dataFactory.getOWLSubClassOfAxiom(a, b, annotations);
+        OWLAxiom copy = dataFactory.getOWLSubClassOfAxiom(b, c, axiom.getAnnotations());
+        assertSame(SmallSortedSet.unwrap(axiom.getAnnotations()), SmallSortedSet.unwrap(copy.getAnnotations()));
+    }
+
+    @Test
+    public void shouldCompareAxiomsWithAnnotations() {
+        OWLAxiom first = dataFactory.getOWLSubClassOfAxiom(a, b, annotations);
+        OWLAxiom second = dataFactory.getOWLSubClassOfAxiom(a, b, new HashSet<>(Arrays.asList(otherAnnotation,
+                annotation)));
+        OWLAxiom fewer = dataFactory.getOWLSubClassOfAxiom(a, b, new HashSet<>(Arrays.asList(annotation)));
+        assertEquals(first, second);
+        assertEquals(0, first.compareTo(second));
+        assertEquals(-Integer.signum(fewer.compareTo(first)), Integer.signum(first.compareTo(fewer)));
+        assertTrue(first.compareTo(fewer) != 0);
+    }
+
+    private static <T> void assertModifiableCopy(Set<T> set, T element) {
+        assertNotNull(SmallSortedSet.unwrap(set));
+        int size = set.size();
+        set.add(element);
+        assertEquals(size + 1, set.size());
+    }
+}
@@ -0,0 +1,61 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLEntityCollectionContainerCollector;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the entity collector, which visits data ranges through their signature, finds the entities of nested
+ * data ranges.
+ */
+public class DataRangeSignatureTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/datarange#";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLDataProperty property = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "p"));
+
+    private final OWLDatatype datatype = dataFactory.getOWLDatatype(IRI.create(NAMESPACE + "D"));
+
+    private final OWLDatatype valueDatatype = dataFactory.getOWLDatatype(IRI.create(NAMESPACE + "V"));
+
+    private final OWLDatatype facetDatatype = dataFactory.getOWLDatatype(IRI.create(NAMESPACE + "F"));
+
+    private OWLDataRange createDataRange() {
+        OWLDataRange oneOf = dataFactory.getOWLDataOneOf(dataFactory.getOWLLiteral("v", valueDatatype));
+        OWLDataRange restriction = dataFactory.getOWLDatatypeRestriction(datatype,
+                dataFactory.getOWLFacetRestriction(OWLFacet.MIN_LENGTH, dataFactory.getOWLLiteral("1", facetDatatype)));
+        return dataFactory.getOWLDataComplementOf(dataFactory.getOWLDataUnionOf(oneOf,
+                dataFactory.getOWLDataIntersectionOf(restriction, dataFactory.getIntegerOWLDatatype())));
+    }
+
+    @Test
+    public void shouldCollectEntitiesOfNestedDataRanges() {
+        OWLAxiom axiom = dataFactory.getOWLDataPropertyRangeAxiom(property, createDataRange());
+        Set<OWLEntity> expected = new HashSet<>(Arrays.<OWLEntity>asList(property, datatype, valueDatatype,
+                facetDatatype, dataFactory.getIntegerOWLDatatype()));
+        assertEquals(expected, axiom.getSignature());
+        for (OWLEntity entity : expected) {
+            assertTrue(axiom.containsEntityInSignature(entity));
+        }
+    }
+
+    @Test
+    public void shouldCollectOnlyRequestedEntityTypes() {
+        Set<OWLEntity> entities = new HashSet<>();
+        OWLEntityCollectionContainerCollector collector = new OWLEntityCollectionContainerCollector(entities);
+        collector.setCollectDatatypes(false);
+        dataFactory.getOWLDataAllValuesFrom(property, createDataRange()).accept(collector);
+        assertEquals(new HashSet<OWLEntity>(Arrays.asList(property)), entities);
+    }
+}
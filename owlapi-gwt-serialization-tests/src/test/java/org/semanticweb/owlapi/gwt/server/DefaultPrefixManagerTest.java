@@ -0,0 +1,56 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.util.DefaultPrefixManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks that IRIs are abbreviated with the longest registered namespace that ends at a segment boundary.
+ */
+public class DefaultPrefixManagerTest {
+
+    private DefaultPrefixManager prefixManager;
+
+    @Before
+    public void setUp() {
+        prefixManager = new DefaultPrefixManager();
+        prefixManager.setPrefix("ex:", "http://ex.org/");
+        prefixManager.setPrefix("a:", "http://ex.org/a/");
+        prefixManager.setPrefix("ont:", "http://ex.org/ont");
+        prefixManager.setPrefix("urn:", "urn:x:");
+    }
+
+    @Test
+    public void shouldAbbreviateWithExactNamespace() {
+        assertEquals("ex:C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/C")));
+        assertEquals("a:C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/a/C")));
+        assertEquals("urn:C", prefixManager.getPrefixIRI(IRI.create("urn:x:C")));
+    }
+
+    @Test
+    public void shouldAbbreviateWithLongestAncestorNamespace() {
+        assertEquals("ex:b/c#C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/b/c#C")));
+        assertEquals("a:b/C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/a/b/C")));
+        assertEquals("ont:#C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/ont#C")));
+        assertEquals("ont:/b/C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/ont/b/C")));
+    }
+
+    @Test
+    public void shouldNotAbbreviateWithinPathSegment() {
+        assertEquals("ex:ontology/C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/ontology/C")));
+        assertEquals("ex:ab/C", prefixManager.getPrefixIRI(IRI.create("http://ex.org/ab/C")));
+        assertNull(prefixManager.getPrefixIRI(IRI.create("http://ex.organisation/C")));
+    }
+
+    @Test
+    public void shouldReadAbbreviationsBack() {
+        String[] iris = {"http://ex.org/b/c#C", "http://ex.org/a/b/C", "http://ex.org/ontology/C"};
+        for (String iri : iris) {
+            assertEquals(IRI.create(iri), prefixManager.getIRI(prefixManager.getPrefixIRI(IRI.create(iri))));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import uk.ac.manchester.cs.owl.owlapi.CustomFieldSerializerUtil;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that sets read by the custom field serializers behave like sets when the wire data repeats an element.
+ */
+public class DeserializedSetTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/sets#";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    @Test
+    public void shouldRemoveDuplicatesFromWireData() throws SerializationException {
+        OWLClass a = dataFactory.getOWLClass(IRI.create(NAMESPACE + "A"));
+        OWLClass b = dataFactory.getOWLClass(IRI.create(NAMESPACE + "B"));
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        writer.writeInt(3);
+        writer.writeObject(b);
+        writer.writeObject(a);
+        writer.writeObject(b);
+        Set<OWLClass> read = CustomFieldSerializerUtil.deserializeSet(stream.createReader());
+        Set<OWLClass> expected = new HashSet<>(Arrays.asList(a, b));
+        assertEquals(2, read.size());
+        assertEquals(expected, read);
+        assertEquals(read, expected);
+        assertEquals(expected.hashCode(), read.hashCode());
+    }
+
+    @Test
+    public void shouldKeepDistinctWireData() throws SerializationException {
+        OWLClass a = dataFactory.getOWLClass(IRI.create(NAMESPACE + "A"));
+        OWLClass b = dataFactory.getOWLClass(IRI.create(NAMESPACE + "B"));
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        CustomFieldSerializerUtil.serializeSet(new HashSet<>(Arrays.asList(a, b)), writer);
+        Set<OWLClass> read = CustomFieldSerializerUtil.deserializeSet(stream.createReader());
+        assertEquals(new HashSet<>(Arrays.asList(a, b)), read);
+        assertEquals(2, read.size());
+    }
+
+    @Test
+    public void shouldRemoveDuplicatesThatCannotBeSorted() {
+        Object first = new Object();
+        Object second = new Object();
+        SmallSortedSet<Object> set = SmallSortedSet.ofDistinct(new Object[]{first, second, first});
+        Set<Object> expected = new HashSet<>(Arrays.asList(first, second));
+        assertEquals(2, set.size());
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertTrue(set.contains(first));
+    }
+}
@@ -0,0 +1,124 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectComplementOfImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectIntersectionOfImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectUnionOfImpl;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that hashing a nested expression for the first time gives the same hash code as hashing it bottom up, that
+ * deeply nested expressions can be hashed, and that children whose hash code is 0 are hashed only once.
+ */
+public class HashCodeTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/hashcode#";
+
+    private static final int DEPTH = 100000;
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLClass a = new OWLClassImpl(IRI.create(NAMESPACE + "A"));
+
+    private final OWLClass b = new OWLClassImpl(IRI.create(NAMESPACE + "B"));
+
+    /**
+     * Builds complements of intersections and unions of the previous level. If hashEachLevel is true, each level is
+     * hashed as it is built, so that no level has uncached children when it is hashed.
+     */
+    private OWLClassExpression createNested(OWLClassExpression innermost, int depth, boolean hashEachLevel) {
+        OWLClassExpression ce = innermost;
+        for (int i = 0; i < depth; i++) {
+            if (i % 3 == 0) {
+                ce = new OWLObjectComplementOfImpl(ce);
+            } else if (i % 3 == 1) {
+                ce = new OWLObjectIntersectionOfImpl(new HashSet<>(Arrays.asList(ce, a)));
+            } else {
+                ce = new OWLObjectUnionOfImpl(new HashSet<>(Arrays.asList(ce, b)));
+            }
+            if (hashEachLevel) {
+                ce.hashCode();
+            }
+        }
+        return ce;
+    }
+
+    @Test
+    public void shouldHashLikeBottomUp() {
+        for (int depth = 1; depth < 10; depth++) {
+            assertEquals(createNested(a, depth, true).hashCode(), createNested(a, depth, false).hashCode());
+        }
+    }
+
+    @Test
+    public void shouldHashDeeplyNestedExpressions() {
+        OWLClassExpression expected = createNested(a, DEPTH, true);
+        OWLClassExpression nested = createNested(a, DEPTH, false);
+        assertEquals(expected.hashCode(), nested.hashCode());
+        assertEquals(expected.hashCode(), nested.hashCode());
+    }
+
+    @Test
+    public void shouldHashDeeplyNestedAxioms() {
+        OWLAxiom expected = dataFactory.getOWLSubClassOfAxiom(a, createNested(b, DEPTH, true));
+        OWLAxiom nested = dataFactory.getOWLSubClassOfAxiom(a, createNested(b, DEPTH, false));
+        assertEquals(expected.hashCode(), nested.hashCode());
+    }
+
+    @Test
+    public void shouldHashChildrenWithZeroHashCode() {
+        OWLClassExpression zero = createZeroHashComplement();
+        assertEquals(0, zero.hashCode());
+        OWLClassExpression expected = createNested(createZeroHashComplement(), DEPTH, true);
+        OWLClassExpression nested = createNested(createZeroHashComplement(), DEPTH, false);
+        assertEquals(expected.hashCode(), nested.hashCode());
+        OWLClassExpression shared = createZeroHashComplement();
+        OWLClassExpression sharing = new OWLObjectIntersectionOfImpl(new HashSet<>(Arrays.asList(
+                new OWLObjectComplementOfImpl(shared), new OWLObjectUnionOfImpl(new HashSet<>(Arrays.asList(shared,
+                        a))))));
+        OWLClassExpression sharingExpected = new OWLObjectIntersectionOfImpl(new HashSet<>(Arrays.asList(
+                new OWLObjectComplementOfImpl(zero), new OWLObjectUnionOfImpl(new HashSet<>(Arrays.asList(zero, a))))));
+        for (OWLObject operand : ((OWLObjectIntersectionOf) sharingExpected).getOperands()) {
+            operand.hashCode();
+        }
+        assertEquals(sharingExpected.hashCode(), sharing.hashCode());
+    }
+
+    /**
+     * Creates the complement of a class whose IRI is chosen so that the hash code of the complement is 0. Hash codes
+     * are sums and products of the hash codes of parts, so the IRI hash code that gives 0 is the one of any IRI, less
+     * the hash code of its complement.
+     */
+    private static OWLClassExpression createZeroHashComplement() {
+        IRI iri = IRI.create(NAMESPACE + "Z");
+        int target = iri.hashCode() - new OWLObjectComplementOfImpl(new OWLClassImpl(iri)).hashCode();
+        String remainder = createString(target - NAMESPACE.hashCode());
+        IRI zeroIRI = IRI.create(NAMESPACE, remainder);
+        assertEquals(remainder, zeroIRI.getRemainder().get());
+        return new OWLObjectComplementOfImpl(new OWLClassImpl(zeroIRI));
+    }
+
+    /**
+     * Creates a string of seven CJK ideographs with the given hash code: the hash code of a string is a number in base
+     * 31, and seven digits cover every int.
+     */
+    private static String createString(int hashCode) {
+        char[] chars = new char[7];
+        Arrays.fill(chars, '\u4e00');
+        long value = (hashCode - new String(chars).hashCode()) & 0xFFFFFFFFL;
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('\u4e00' + value % 31);
+            value /= 31;
+        }
+        String string = new String(chars);
+        assertEquals(hashCode, string.hashCode());
+        return string;
+    }
+}
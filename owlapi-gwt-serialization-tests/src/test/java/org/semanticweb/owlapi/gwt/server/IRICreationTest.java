@@ -0,0 +1,31 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that IRIs created from a prefix and a suffix are interned with IRIs created from their full string.
+ */
+public class IRICreationTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/creation#";
+
+    @Test
+    public void shouldInternIRIWithCorrectSplit() {
+        IRI split = IRI.create(NAMESPACE, "A");
+        assertSame(split, IRI.create(NAMESPACE + "A"));
+        assertSame(split, IRI.create(NAMESPACE, "A"));
+        assertEquals(NAMESPACE, split.getNamespace());
+        assertEquals("A", split.getRemainder().get());
+    }
+
+    @Test
+    public void shouldInternIRIWithWrongSplit() {
+        IRI full = IRI.create(NAMESPACE + "AB");
+        assertSame(full, IRI.create(NAMESPACE + "A", "B"));
+        assertEquals(NAMESPACE, full.getNamespace());
+    }
+}
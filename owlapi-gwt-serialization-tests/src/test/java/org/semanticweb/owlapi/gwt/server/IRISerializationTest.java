@@ -0,0 +1,87 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that IRIs read by the custom field serializer are interned, like IRIs created from strings.
+ */
+public class IRISerializationTest {
+
+    @Test
+    public void shouldInternDeserializedIRI() throws SerializationException {
+        IRI in = IRI.create("http://owlapi.sourceforge.net/tests/iri#A");
+        IRI out = roundTrip(in);
+        assertSame(IRI.create("http://owlapi.sourceforge.net/tests/iri#A"), out);
+    }
+
+    @Test
+    public void shouldInternIRIWithoutRemainder() throws SerializationException {
+        IRI in = IRI.create("http://owlapi.sourceforge.net/tests/iri/");
+        IRI out = roundTrip(in);
+        assertSame(IRI.create("http://owlapi.sourceforge.net/tests/iri/"), out);
+    }
+
+    @Test
+    public void shouldInternIRIReadBeforeItIsCreated() throws SerializationException {
+        IRI in = IRI.create("http://owlapi.sourceforge.net/tests/iri#", "C");
+        IRI first = roundTrip(in);
+        IRI second = roundTrip(in);
+        assertSame(first, second);
+        assertSame(first, IRI.create("http://owlapi.sourceforge.net/tests/iri#C"));
+    }
+
+    @Test
+    public void shouldInternIRIsOfOntology() throws SerializationException {
+        SyntheticOntology ontology = new SyntheticOntology(new OWLDataFactoryImpl(), 2000, 42L);
+        StubSerializationStream stream = new StubSerializationStream();
+        StubSerializationStream.Writer writer = stream.createWriter();
+        List<OWLEntity> entities = ontology.getEntities();
+        for (OWLEntity entity : entities) {
+            writer.writeObject(entity.getIRI());
+        }
+        StubSerializationStream.Reader reader = stream.createReader();
+        List<IRI> read = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            read.add((IRI) reader.readObject());
+        }
+        List<String> iriStrings = ontology.getIRIStrings();
+        assertEquals(iriStrings.size(), read.size());
+        for (int i = 0; i < read.size(); i++) {
+            assertSame(IRI.create(iriStrings.get(i)), read.get(i));
+        }
+    }
+
+    @Test
+    public void shouldRestoreInternedIRIFromJavaSerialization() throws Exception {
+        IRI in = IRI.create("http://owlapi.sourceforge.net/tests/iri#B");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(in);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            IRI out = (IRI) input.readObject();
+            assertSame(in, out);
+            assertEquals(out.getNamespace().hashCode() + out.getRemainder().get().hashCode(), out.hashCode());
+        }
+    }
+
+    private static IRI roundTrip(IRI iri) throws SerializationException {
+        StubSerializationStream stream = new StubSerializationStream();
+        stream.createWriter().writeObject(iri);
+        return (IRI) stream.createReader().readObject();
+    }
+}
@@ -0,0 +1,75 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl_CustomFieldSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that long lexical forms are compressed only when compression is requested, and that literals read by the
+ * custom field serializer are not compressed.
+ */
+public class OWLLiteralCompressionTest {
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLDataFactory compressingDataFactory = new OWLDataFactoryImpl(false, true);
+
+    private static String createLexicalForm() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() <= 10 * OWLLiteralImpl.COMPRESSION_LIMIT) {
+            sb.append("A long definition that repeats itself. ");
+        }
+        return sb.toString();
+    }
+
+    private static int serializedSize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.size();
+    }
+
+    @Test
+    public void shouldCompressOnlyWhenRequested() throws IOException {
+        String lexicalForm = createLexicalForm();
+        OWLDatatype datatype = dataFactory.getOWLDatatype(IRI.create("http://owlapi.sourceforge.net/tests#d"));
+        OWLLiteralImpl compressed = new OWLLiteralImpl(lexicalForm, "", datatype, true);
+        OWLLiteralImpl uncompressed = new OWLLiteralImpl(lexicalForm, "", datatype);
+        assertEquals(lexicalForm, compressed.getLiteral());
+        assertEquals(uncompressed, compressed);
+        assertEquals(uncompressed.hashCode(), compressed.hashCode());
+        assertTrue(serializedSize(compressed) < lexicalForm.length() / 2);
+        assertTrue(serializedSize(uncompressed) > lexicalForm.length());
+    }
+
+    @Test
+    public void shouldCompressLiteralsFromCompressingDataFactory() throws IOException {
+        String lexicalForm = createLexicalForm();
+        OWLLiteral literal = compressingDataFactory.getOWLLiteral(lexicalForm, "en");
+        assertEquals(dataFactory.getOWLLiteral(lexicalForm, "en"), literal);
+        assertTrue(serializedSize(literal) < lexicalForm.length() / 2);
+    }
+
+    @Test
+    public void shouldNotCompressDeserializedLiterals() throws IOException, SerializationException {
+        String lexicalForm = createLexicalForm();
+        OWLLiteralImpl literal = (OWLLiteralImpl) compressingDataFactory.getOWLLiteral(lexicalForm,
+                dataFactory.getOWLDatatype(IRI.create("http://owlapi.sourceforge.net/tests#d")));
+        StubSerializationStream stream = new StubSerializationStream();
+        OWLLiteralImpl_CustomFieldSerializer.serialize(stream.createWriter(), literal);
+        OWLLiteralImpl read = OWLLiteralImpl_CustomFieldSerializer.instantiate(stream.createReader());
+        assertEquals(literal, read);
+        assertTrue(serializedSize(read) > lexicalForm.length());
+    }
+}
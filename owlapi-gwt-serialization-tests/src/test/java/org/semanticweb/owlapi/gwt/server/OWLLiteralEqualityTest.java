@@ -0,0 +1,71 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Checks that structural fingerprints, which equals uses to reject unequal objects early, agree with the value based
+ * equality of typed literals.
+ */
+public class OWLLiteralEqualityTest {
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLDataProperty property = dataFactory.getOWLDataProperty(
+            IRI.create("http://owlapi.sourceforge.net/tests/literals#p"));
+
+    private final OWLNamedIndividual individual = dataFactory.getOWLNamedIndividual(
+            IRI.create("http://owlapi.sourceforge.net/tests/literals#i"));
+
+    @Test
+    public void shouldEqualNegativeZeroDouble() {
+        assertEqualLiterals(dataFactory.getOWLLiteral(-0.0), dataFactory.getOWLLiteral(0.0));
+    }
+
+    @Test
+    public void shouldEqualNegativeZeroDoubleFromLexicalForms() {
+        OWLDatatype xsdDouble = OWL2Datatype.XSD_DOUBLE.getDatatype(dataFactory);
+        assertEqualLiterals(dataFactory.getOWLLiteral("-0.0", xsdDouble), dataFactory.getOWLLiteral("0.0", xsdDouble));
+    }
+
+    @Test
+    public void shouldEqualNegativeZeroFloat() {
+        assertEqualLiterals(dataFactory.getOWLLiteral(-0.0f), dataFactory.getOWLLiteral(0.0f));
+    }
+
+    @Test
+    public void shouldNotEqualDifferentValues() {
+        assertNotEquals(dataFactory.getOWLLiteral(1.0), dataFactory.getOWLLiteral(2.0));
+        assertNotEquals(dataFactory.getOWLLiteral(1), dataFactory.getOWLLiteral(2));
+        assertNotEquals(dataFactory.getOWLLiteral(true), dataFactory.getOWLLiteral(false));
+        assertNotEquals(dataFactory.getOWLLiteral("1.0"), dataFactory.getOWLLiteral(1.0));
+    }
+
+    @Test
+    public void shouldFingerprintEqualIntegersAndBooleansEqually() {
+        assertEqualLiterals(dataFactory.getOWLLiteral(5), dataFactory.getOWLLiteral(5));
+        assertEqualLiterals(dataFactory.getOWLLiteral(true), dataFactory.getOWLLiteral(true));
+    }
+
+    private void assertEqualLiterals(OWLLiteral first, OWLLiteral second) {
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(StructuralFingerprint.fingerprint(first), StructuralFingerprint.fingerprint(second));
+        OWLAxiom firstAxiom = dataFactory.getOWLDataPropertyAssertionAxiom(property, individual, first);
+        OWLAxiom secondAxiom = dataFactory.getOWLDataPropertyAssertionAxiom(property, individual, second);
+        assertEquals(firstAxiom, secondAxiom);
+        OWLAnnotation firstAnnotation = dataFactory.getOWLAnnotation(dataFactory.getRDFSComment(), first);
+        OWLAnnotation secondAnnotation = dataFactory.getOWLAnnotation(dataFactory.getRDFSComment(), second);
+        assertEquals(firstAnnotation, secondAnnotation);
+        assertEquals(dataFactory.getOWLDeclarationAxiom(property, Collections.singleton(firstAnnotation)),
+                dataFactory.getOWLDeclarationAxiom(property, Collections.singleton(secondAnnotation)));
+    }
+}
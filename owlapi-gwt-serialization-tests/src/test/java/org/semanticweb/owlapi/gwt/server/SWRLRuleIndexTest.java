@@ -0,0 +1,116 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.SWRLRuleImpl;
+import uk.ac.manchester.cs.owl.owlapi.SWRLRuleIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the index of a SWRL rule lists its variables in binding order, finds its atoms by predicate, and is
+ * exposed through copies that can be modified without changing the rule.
+ */
+public class SWRLRuleIndexTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/swrl#";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLClass person = dataFactory.getOWLClass(IRI.create(NAMESPACE + "Person"));
+
+    private final OWLClass ancestor = dataFactory.getOWLClass(IRI.create(NAMESPACE + "Ancestor"));
+
+    private final OWLObjectProperty hasParent = dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + "hasParent"));
+
+    private final OWLObjectProperty hasChild = dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + "hasChild"));
+
+    private final SWRLVariable x = dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "x"));
+
+    private final SWRLVariable y = dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "y"));
+
+    private final SWRLVariable z = dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "z"));
+
+    private final SWRLAtom personX = dataFactory.getSWRLClassAtom(person, x);
+
+    private final SWRLAtom parentYX = dataFactory.getSWRLObjectPropertyAtom(hasParent, y, x);
+
+    private final SWRLAtom personY = dataFactory.getSWRLClassAtom(person, y);
+
+    private final SWRLAtom ancestorY = dataFactory.getSWRLClassAtom(ancestor, y);
+
+    private final SWRLAtom childYZ = dataFactory.getSWRLObjectPropertyAtom(hasChild, y, z);
+
+    private SWRLRuleImpl createRule(Set<SWRLAtom> head) {
+        return (SWRLRuleImpl) dataFactory.getSWRLRule(new LinkedHashSet<>(Arrays.asList(personX, parentYX, personY)),
+                head);
+    }
+
+    private SWRLRuleImpl createRule() {
+        return createRule(new LinkedHashSet<>(Arrays.asList(ancestorY, childYZ)));
+    }
+
+    @Test
+    public void shouldListVariablesInBindingOrder() {
+        SWRLRuleIndex index = createRule().getIndex();
+        assertEquals(Arrays.asList(x, y), index.getBodyVariables());
+        assertEquals(Arrays.asList(y, z), index.getHeadVariables());
+        assertEquals(Arrays.asList(z), index.getUnboundHeadVariables());
+        assertEquals(Arrays.asList(x, y, z), new ArrayList<>(index.getVariables()));
+        assertEquals(0, index.getBindingAtomIndex(x));
+        assertEquals(1, index.getBindingAtomIndex(y));
+        assertEquals(-1, index.getBindingAtomIndex(z));
+    }
+
+    @Test
+    public void shouldFindAtomsByPredicate() {
+        SWRLRuleIndex index = createRule().getIndex();
+        assertEquals(Arrays.asList(personX, personY), index.getBodyAtoms(person));
+        assertEquals(Arrays.asList(parentYX), index.getBodyAtoms(hasParent));
+        assertEquals(Collections.emptyList(), index.getBodyAtoms(ancestor));
+        assertEquals(Arrays.asList(ancestorY), index.getHeadAtoms(ancestor));
+        assertEquals(Arrays.asList(ancestor, person), new ArrayList<>(index.getClassAtomPredicates()));
+        assertEquals(Arrays.asList(personX, parentYX, personY), index.getBody());
+        assertEquals(Arrays.asList(ancestorY, childYZ), index.getHead());
+    }
+
+    @Test
+    public void shouldComputeIndexOnce() {
+        SWRLRuleImpl rule = createRule();
+        assertSame(rule.getIndex(), rule.getIndex());
+        assertEquals(new LinkedHashSet<>(Arrays.asList(x, y, z)), rule.getVariables());
+        assertEquals(new LinkedHashSet<>(Arrays.asList(ancestor, person)), rule.getClassAtomPredicates());
+    }
+
+    @Test
+    public void shouldCopyVariablesAndPredicatesOnRequest() {
+        SWRLRuleImpl rule = createRule();
+        Set<SWRLVariable> variables = rule.getVariables();
+        variables.remove(x);
+        Set<OWLClassExpression> predicates = rule.getClassAtomPredicates();
+        predicates.add(dataFactory.getOWLThing());
+        assertEquals(Arrays.asList(x, y, z), new ArrayList<>(rule.getIndex().getVariables()));
+        assertEquals(Arrays.asList(ancestor, person), new ArrayList<>(rule.getIndex().getClassAtomPredicates()));
+        assertEquals(3, rule.getVariables().size());
+    }
+
+    @Test
+    public void shouldKeepSimplifiedRules() {
+        SWRLRuleImpl rule = createRule();
+        assertTrue(rule.getIndex().isSimplified());
+        assertEquals(rule, rule.getSimplified());
+        SWRLAtom inverse = dataFactory.getSWRLObjectPropertyAtom(dataFactory.getOWLObjectInverseOf(hasParent), x, z);
+        SWRLRuleImpl inverseRule = createRule(new LinkedHashSet<>(Arrays.asList(ancestorY, inverse)));
+        assertTrue(inverseRule.getIndex().isSimplified());
+        assertEquals(inverseRule, inverseRule.getSimplified());
+    }
+}
@@ -0,0 +1,143 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link SmallSortedSet} behaves like an immutable set, and like a {@link SortedSet} exactly when its
+ * elements are sorted.
+ */
+public class SmallSortedSetTest {
+
+    @Test
+    public void shouldSortAndDeduplicate() {
+        SmallSortedSet<String> set = SmallSortedSet.copyOf(Arrays.asList("c", "a", "b", "a"));
+        assertEquals(3, set.size());
+        assertTrue(set.isSorted());
+        assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(set.toArray()));
+        assertEquals("a", set.get(0));
+    }
+
+    @Test
+    public void shouldEqualOtherSets() {
+        List<Integer> values = Arrays.asList(5, 3, 9, 1, 7, 2, 8);
+        SmallSortedSet<Integer> set = SmallSortedSet.copyOf(values);
+        Set<Integer> expected = new HashSet<>(values);
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(set, SmallSortedSet.copyOf(new TreeSet<>(values)));
+    }
+
+    @Test
+    public void shouldFindElementsWithBinarySearch() {
+        SmallSortedSet<Integer> set = SmallSortedSet.copyOf(Arrays.asList(10, 20, 30, 40, 50, 60));
+        for (int i = 0; i <= 70; i++) {
+            assertEquals(i % 10 == 0 && i >= 10 && i <= 60, set.contains(i));
+        }
+        assertFalse(set.contains(null));
+        assertFalse(set.contains("10"));
+    }
+
+    @Test
+    public void shouldReturnSameInstanceForCopyOfSmallSortedSet() {
+        SmallSortedSet<String> set = SmallSortedSet.copyOf(Arrays.asList("a", "b"));
+        assertSame(set, SmallSortedSet.copyOf(set));
+    }
+
+    @Test
+    public void shouldShareEmptySet() {
+        assertSame(SmallSortedSet.empty(), SmallSortedSet.copyOf(Collections.<String>emptySet()));
+        assertTrue(SmallSortedSet.empty().isEmpty());
+        assertTrue(SmallSortedSet.empty() instanceof SortedSet);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldRejectNull() {
+        SmallSortedSet.copyOf(Arrays.asList("a", null));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        SmallSortedSet.copyOf(Arrays.asList("a", "b")).add("c");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotRemoveThroughIterator() {
+        Iterator<String> iterator = SmallSortedSet.copyOf(Arrays.asList("a", "b")).iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    @Test
+    public void shouldBeSortedSetWhenSorted() {
+        SmallSortedSet<Integer> set = SmallSortedSet.copyOf(Arrays.asList(4, 2, 8, 6));
+        assertTrue(set instanceof SortedSet);
+        SortedSet<Integer> sorted = (SortedSet<Integer>) set;
+        assertNull(sorted.comparator());
+        assertEquals(Integer.valueOf(2), sorted.first());
+        assertEquals(Integer.valueOf(8), sorted.last());
+        assertEquals(new TreeSet<>(Arrays.asList(4, 6)), sorted.subSet(3, 8));
+        assertEquals(new TreeSet<>(Arrays.asList(2, 4)), sorted.headSet(6));
+        assertEquals(new TreeSet<>(Arrays.asList(6, 8)), sorted.tailSet(5));
+        assertTrue(sorted.subSet(9, 10).isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldHaveNoFirstElementWhenEmpty() {
+        ((SortedSet<?>) SmallSortedSet.empty()).first();
+    }
+
+    @Test
+    public void shouldNotBeSortedSetWhenElementsCannotBeSorted() {
+        Object first = new Object();
+        Object second = new Object();
+        Object third = new Object();
+        SmallSortedSet<Object> set = SmallSortedSet.copyOf(new LinkedHashSet<>(Arrays.asList(first, second, third)));
+        assertFalse(set.isSorted());
+        assertFalse(set instanceof SortedSet);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(second));
+        assertFalse(set.contains(new Object()));
+        assertEquals(new HashSet<>(Arrays.asList(first, second, third)), set);
+    }
+
+    @Test
+    public void shouldNotBeSortedSetWhenElementsAreNotMutuallyComparable() {
+        SmallSortedSet<Object> set = SmallSortedSet.copyOf(Arrays.<Object>asList("a", 1, "b"));
+        assertFalse(set.isSorted());
+        assertFalse(set instanceof SortedSet);
+        assertTrue(set.contains("a"));
+        assertTrue(set.contains(1));
+        assertTrue(set.contains("b"));
+    }
+
+    @Test
+    public void shouldCompareSetsElementByElement() {
+        SmallSortedSet<String> ab = SmallSortedSet.copyOf(Arrays.asList("a", "b"));
+        SmallSortedSet<String> abc = SmallSortedSet.copyOf(Arrays.asList("a", "b", "c"));
+        SmallSortedSet<String> b = SmallSortedSet.copyOf(Collections.singleton("b"));
+        assertEquals(0, SmallSortedSet.compare(ab, SmallSortedSet.copyOf(Arrays.asList("b", "a"))));
+        assertTrue(SmallSortedSet.compare(ab, abc) < 0);
+        assertTrue(SmallSortedSet.compare(abc, ab) > 0);
+        assertTrue(SmallSortedSet.compare(ab, b) < 0);
+        assertTrue(SmallSortedSet.compare(b, ab) > 0);
+    }
+}
@@ -0,0 +1,90 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.HasStructuralFingerprint;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that equals uses structural fingerprints only when they are already cached, and that cached fingerprints
+ * are not serialized.
+ */
+public class StructuralFingerprintTest {
+
+    private static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/fingerprint#";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private OWLSubClassOfAxiom createAxiom(String superClass) {
+        OWLClassExpression filler = dataFactory.getOWLObjectSomeValuesFrom(
+                dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + "p")),
+                dataFactory.getOWLClass(IRI.create(NAMESPACE + superClass)));
+        return dataFactory.getOWLSubClassOfAxiom(dataFactory.getOWLClass(IRI.create(NAMESPACE + "A")), filler);
+    }
+
+    @Test
+    public void shouldNotComputeFingerprintsInEquals() {
+        OWLSubClassOfAxiom first = createAxiom("B");
+        OWLSubClassOfAxiom second = createAxiom("B");
+        OWLSubClassOfAxiom third = createAxiom("C");
+        assertEquals(first, second);
+        assertNotEquals(first, third);
+        assertFalse(((HasStructuralFingerprint) first).isStructuralFingerprintCached());
+        assertFalse(((HasStructuralFingerprint) second).isStructuralFingerprintCached());
+        assertFalse(((HasStructuralFingerprint) third).isStructuralFingerprintCached());
+    }
+
+    @Test
+    public void shouldCompareWhenOnlyOneFingerprintIsCached() {
+        OWLSubClassOfAxiom first = createAxiom("B");
+        OWLSubClassOfAxiom second = createAxiom("B");
+        ((HasStructuralFingerprint) first).getStructuralFingerprint();
+        assertEquals(first, second);
+        assertEquals(second, first);
+        assertFalse(((HasStructuralFingerprint) second).isStructuralFingerprintCached());
+    }
+
+    @Test
+    public void shouldCompareCachedFingerprints() {
+        OWLSubClassOfAxiom first = createAxiom("B");
+        OWLSubClassOfAxiom second = createAxiom("B");
+        OWLSubClassOfAxiom third = createAxiom("C");
+        HasStructuralFingerprint[] all = {(HasStructuralFingerprint) first, (HasStructuralFingerprint) second,
+                (HasStructuralFingerprint) third};
+        for (HasStructuralFingerprint object : all) {
+            object.getStructuralFingerprint();
+            assertTrue(object.isStructuralFingerprintCached());
+        }
+        assertEquals(all[0].getStructuralFingerprint(), all[1].getStructuralFingerprint());
+        assertNotEquals(all[0].getStructuralFingerprint(), all[2].getStructuralFingerprint());
+        assertEquals(first, second);
+        assertNotEquals(first, third);
+    }
+
+    @Test
+    public void shouldNotSerializeCachedFingerprint() throws Exception {
+        OWLSubClassOfAxiom axiom = createAxiom("B");
+        long fingerprint = ((HasStructuralFingerprint) axiom).getStructuralFingerprint();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(axiom);
+        }
+        Object read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = in.readObject();
+        }
+        assertFalse(((HasStructuralFingerprint) read).isStructuralFingerprintCached());
+        assertEquals(axiom, read);
+        assertEquals(fingerprint, ((HasStructuralFingerprint) read).getStructuralFingerprint());
+    }
+}
@@ -0,0 +1,306 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import com.google.gwt.user.client.rpc.CustomFieldSerializer;
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory stand in for the GWT RPC streams.  Values are recorded as a list of tokens rather than encoded as a
+ * payload, so that tests can run the custom field serializers on the JVM without an RPC servlet, and benchmarks
+ * measure the serializers rather than the RPC encoding.  Like the real streams, objects are written through their
+ * custom field serializers, and an object that has already been written to the stream is written as a
+ * back-reference.  Objects of types that have no custom field serializer, such as SWRL
+ * rules, are written with Java serialization, which stands in for the field serializers that GWT generates for them.
+ */
+public class StubSerializationStream {
+
+    private static final Map<Class<?>, CustomFieldSerializer<Object>> serializers = new ConcurrentHashMap<>();
+
+    private final List<Object> tokens = new ArrayList<>();
+
+    /**
+     * @return A writer that appends to this stream.  Each writer has its own table of written objects.
+     */
+    public Writer createWriter() {
+        return new Writer();
+    }
+
+    /**
+     * @return A reader that reads this stream from the beginning.
+     */
+    public Reader createReader() {
+        return new Reader();
+    }
+
+    /**
+     * @return The number of tokens that have been written to this stream.
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * Clears the tokens in this stream.
+     */
+    public void clear() {
+        tokens.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CustomFieldSerializer<Object> getSerializer(Class<?> type) throws SerializationException {
+        CustomFieldSerializer<Object> serializer = serializers.get(type);
+        if (serializer == null) {
+            try {
+                Class<?> serializerClass = Class.forName(type.getName() + "_CustomFieldSerializer");
+                serializer = (CustomFieldSerializer<Object>) serializerClass.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new SerializationException("No custom field serializer for " + type.getName());
+            }
+            serializers.put(type, serializer);
+        }
+        return serializer;
+    }
+
+    private static boolean hasSerializer(Class<?> type) {
+        if (serializers.containsKey(type)) {
+            return true;
+        }
+        try {
+            Class.forName(type.getName() + "_CustomFieldSerializer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * An object that was written with Java serialization.
+     */
+    private static final class SerializedForm {
+
+        private final byte[] bytes;
+
+        private SerializedForm(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * A reference to an object that has already been written.
+     */
+    private static final class BackReference {
+
+        private final int index;
+
+        private BackReference(int index) {
+            this.index = index;
+        }
+    }
+
+    public class Writer implements SerializationStreamWriter {
+
+        private final Map<Object, Integer> objectTable = new IdentityHashMap<>();
+
+        @Override
+        public void writeBoolean(boolean b) {
+            tokens.add(b);
+        }
+
+        @Override
+        public void writeByte(byte b) {
+            tokens.add(b);
+        }
+
+        @Override
+        public void writeChar(char c) {
+            tokens.add(c);
+        }
+
+        @Override
+        public void writeDouble(double v) {
+            tokens.add(v);
+        }
+
+        @Override
+        public void writeFloat(float v) {
+            tokens.add(v);
+        }
+
+        @Override
+        public void writeInt(int i) {
+            tokens.add(i);
+        }
+
+        @Override
+        public void writeLong(long l) {
+            tokens.add(l);
+        }
+
+        @Override
+        public void writeShort(short i) {
+            tokens.add(i);
+        }
+
+        @Override
+        public void writeString(String s) {
+            tokens.add(s);
+        }
+
+        @Override
+        public void writeObject(Object o) throws SerializationException {
+            if (o == null) {
+                tokens.add(null);
+                return;
+            }
+            Integer index = objectTable.get(o);
+            if (index != null) {
+                tokens.add(new BackReference(index));
+                return;
+            }
+            if (o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Enum) {
+                objectTable.put(o, objectTable.size());
+                tokens.add(o.getClass());
+                tokens.add(o);
+                return;
+            }
+            if (o instanceof Serializable && !hasSerializer(o.getClass())) {
+                objectTable.put(o, objectTable.size());
+                tokens.add(toSerializedForm(o));
+                return;
+            }
+            CustomFieldSerializer<Object> serializer = getSerializer(o.getClass());
+            objectTable.put(o, objectTable.size());
+            tokens.add(o.getClass());
+            serializer.serializeInstance(this, o);
+        }
+
+        @Override
+        public String toString() {
+            return "StubSerializationStream.Writer(" + tokens.size() + " tokens)";
+        }
+
+        private SerializedForm toSerializedForm(Object o) throws SerializationException {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(o);
+                }
+                return new SerializedForm(bytes.toByteArray());
+            } catch (IOException e) {
+                throw new SerializationException("Could not serialize " + o.getClass().getName(), e);
+            }
+        }
+    }
+
+    public class Reader implements SerializationStreamReader {
+
+        private final List<Object> objectTable = new ArrayList<>();
+
+        private int position = 0;
+
+        private Object next() throws SerializationException {
+            if (position >= tokens.size()) {
+                throw new SerializationException("Read past the end of the stream");
+            }
+            return tokens.get(position++);
+        }
+
+        @Override
+        public boolean readBoolean() throws SerializationException {
+            return (Boolean) next();
+        }
+
+        @Override
+        public byte readByte() throws SerializationException {
+            return (Byte) next();
+        }
+
+        @Override
+        public char readChar() throws SerializationException {
+            return (Character) next();
+        }
+
+        @Override
+        public double readDouble() throws SerializationException {
+            return (Double) next();
+        }
+
+        @Override
+        public float readFloat() throws SerializationException {
+            return (Float) next();
+        }
+
+        @Override
+        public int readInt() throws SerializationException {
+            return (Integer) next();
+        }
+
+        @Override
+        public long readLong() throws SerializationException {
+            return (Long) next();
+        }
+
+        @Override
+        public short readShort() throws SerializationException {
+            return (Short) next();
+        }
+
+        @Override
+        public String readString() throws SerializationException {
+            return (String) next();
+        }
+
+        @Override
+        public Object readObject() throws SerializationException {
+            Object token = next();
+            if (token == null) {
+                return null;
+            }
+            if (token instanceof BackReference) {
+                return objectTable.get(((BackReference) token).index);
+            }
+            if (token instanceof SerializedForm) {
+                Object instance = fromSerializedForm((SerializedForm) token);
+                objectTable.add(instance);
+                return instance;
+            }
+            Class<?> type = (Class<?>) token;
+            // Reserve the index before instantiating, as the instantiation may read other objects
+            int index = objectTable.size();
+            objectTable.add(null);
+            Object instance;
+            if (type == String.class || Number.class.isAssignableFrom(type) || type == Boolean.class
+                    || Enum.class.isAssignableFrom(type)) {
+                instance = next();
+            }
+            else {
+                CustomFieldSerializer<Object> serializer = getSerializer(type);
+                instance = serializer.instantiateInstance(this);
+                serializer.deserializeInstance(this, instance);
+            }
+            objectTable.set(index, instance);
+            return instance;
+        }
+
+        private Object fromSerializedForm(SerializedForm form) throws SerializationException {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(form.bytes))) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new SerializationException("Could not deserialize an object", e);
+            }
+        }
+    }
+}
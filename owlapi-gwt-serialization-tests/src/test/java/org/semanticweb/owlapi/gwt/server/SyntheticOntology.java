@@ -0,0 +1,163 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+import java.util.*;
+
+/**
+ * Generates a reproducible set of axioms with the mix of axiom types and the sharing of entities and fillers seen in
+ * typical ontologies: most axioms are subclass axioms with named or existential superclasses, and a smaller number
+ * are equivalences, disjointness axioms, property axioms, assertions and annotations.
+ */
+public class SyntheticOntology {
+
+    public static final String NAMESPACE = "http://owlapi.sourceforge.net/tests/synthetic#";
+
+    private final OWLDataFactory dataFactory;
+
+    private final Random random;
+
+    private final List<OWLClass> classes = new ArrayList<>();
+
+    private final List<OWLObjectProperty> objectProperties = new ArrayList<>();
+
+    private final List<OWLDataProperty> dataProperties = new ArrayList<>();
+
+    private final List<OWLNamedIndividual> individuals = new ArrayList<>();
+
+    private final List<OWLAxiom> axioms = new ArrayList<>();
+
+    /**
+     * @param dataFactory The data factory used to build the axioms.
+     * @param size The number of axioms to generate.
+     * @param seed The seed for the random choices, so that runs are comparable.
+     */
+    public SyntheticOntology(OWLDataFactory dataFactory, int size, long seed) {
+        this.dataFactory = dataFactory;
+        this.random = new Random(seed);
+        int classCount = Math.max(10, size / 4);
+        for (int i = 0; i < classCount; i++) {
+            classes.add(dataFactory.getOWLClass(IRI.create(NAMESPACE, "Class" + i)));
+        }
+        int propertyCount = Math.max(5, size / 100);
+        for (int i = 0; i < propertyCount; i++) {
+            objectProperties.add(dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE, "objectProperty" + i)));
+            dataProperties.add(dataFactory.getOWLDataProperty(IRI.create(NAMESPACE, "dataProperty" + i)));
+        }
+        int individualCount = Math.max(10, size / 10);
+        for (int i = 0; i < individualCount; i++) {
+            individuals.add(dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE, "individual" + i)));
+        }
+        while (axioms.size() < size) {
+            axioms.add(nextAxiom());
+        }
+    }
+
+    /**
+     * @return The generated axioms, in generation order.
+     */
+    public List<OWLAxiom> getAxioms() {
+        return axioms;
+    }
+
+    /**
+     * @return The full IRI strings of the entities in the ontology, in a fixed order.
+     */
+    public List<String> getIRIStrings() {
+        List<String> result = new ArrayList<>();
+        for (OWLEntity entity : getEntities()) {
+            result.add(entity.getIRI().toString());
+        }
+        return result;
+    }
+
+    /**
+     * @return The entities of the ontology, in a fixed order.
+     */
+    public List<OWLEntity> getEntities() {
+        List<OWLEntity> result = new ArrayList<>();
+        result.addAll(classes);
+        result.addAll(objectProperties);
+        result.addAll(dataProperties);
+        result.addAll(individuals);
+        return result;
+    }
+
+    private OWLAxiom nextAxiom() {
+        int choice = random.nextInt(100);
+        if (choice < 40) {
+            return dataFactory.getOWLSubClassOfAxiom(anyClass(), anyClass());
+        }
+        if (choice < 65) {
+            return dataFactory.getOWLSubClassOfAxiom(anyClass(), anyClassExpression(2));
+        }
+        if (choice < 72) {
+            return dataFactory.getOWLEquivalentClassesAxiom(anyClass(),
+                    dataFactory.getOWLObjectIntersectionOf(anyClass(), anyClassExpression(2)));
+        }
+        if (choice < 76) {
+            return dataFactory.getOWLDisjointClassesAxiom(anyClass(), anyClass(), anyClass());
+        }
+        if (choice < 80) {
+            return dataFactory.getOWLObjectPropertyDomainAxiom(anyObjectProperty(), anyClass());
+        }
+        if (choice < 83) {
+            return dataFactory.getOWLSubObjectPropertyOfAxiom(anyObjectProperty(), anyObjectProperty());
+        }
+        if (choice < 88) {
+            return dataFactory.getOWLClassAssertionAxiom(anyClass(), anyIndividual());
+        }
+        if (choice < 92) {
+            return dataFactory.getOWLObjectPropertyAssertionAxiom(anyObjectProperty(), anyIndividual(), anyIndividual());
+        }
+        if (choice < 95) {
+            return dataFactory.getOWLDataPropertyAssertionAxiom(anyDataProperty(), anyIndividual(),
+                    dataFactory.getOWLLiteral(random.nextInt(1000)));
+        }
+        OWLClass annotated = anyClass();
+        Set<OWLAnnotation> annotations = Collections.singleton(
+                dataFactory.getOWLAnnotation(dataFactory.getRDFSComment(), dataFactory.getOWLLiteral("generated")));
+        return dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(), annotated.getIRI(),
+                dataFactory.getOWLLiteral(annotated.getIRI().getShortForm(), "en"), annotations);
+    }
+
+    private OWLClassExpression anyClassExpression(int depth) {
+        if (depth == 0) {
+            return anyClass();
+        }
+        int choice = random.nextInt(10);
+        if (choice < 5) {
+            return dataFactory.getOWLObjectSomeValuesFrom(anyObjectProperty(), anyClassExpression(depth - 1));
+        }
+        if (choice < 6) {
+            return dataFactory.getOWLObjectAllValuesFrom(anyObjectProperty(), anyClassExpression(depth - 1));
+        }
+        if (choice < 7) {
+            return dataFactory.getOWLObjectComplementOf(anyClassExpression(depth - 1));
+        }
+        if (choice < 8) {
+            return dataFactory.getOWLObjectUnionOf(anyClass(), anyClassExpression(depth - 1));
+        }
+        if (choice < 9) {
+            return dataFactory.getOWLObjectMinCardinality(1 + random.nextInt(3), anyObjectProperty(), anyClass());
+        }
+        return dataFactory.getOWLDataSomeValuesFrom(anyDataProperty(), OWL2Datatype.XSD_INTEGER.getDatatype(dataFactory));
+    }
+
+    private OWLClass anyClass() {
+        return classes.get(random.nextInt(classes.size()));
+    }
+
+    private OWLObjectProperty anyObjectProperty() {
+        return objectProperties.get(random.nextInt(objectProperties.size()));
+    }
+
+    private OWLDataProperty anyDataProperty() {
+        return dataProperties.get(random.nextInt(dataProperties.size()));
+    }
+
+    private OWLNamedIndividual anyIndividual() {
+        return individuals.get(random.nextInt(individuals.size()));
+    }
+}
@@ -0,0 +1,49 @@
+package org.semanticweb.owlapi.gwt.server;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.io.XMLUtils;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the character class tables of XMLUtils agree with the range checks of {@link BaselineXMLUtils} on every
+ * code point, and that NCNames are scanned the same way.
+ */
+public class XMLUtilsTest {
+
+    @Test
+    public void shouldClassifyEveryCodePointLikeBaseline() {
+        for (int codePoint = -1; codePoint <= Character.MAX_CODE_POINT + 1; codePoint++) {
+            String message = Integer.toHexString(codePoint);
+            assertEquals(message, BaselineXMLUtils.isXMLNameStartCharacter(codePoint),
+                    XMLUtils.isXMLNameStartCharacter(codePoint));
+            assertEquals(message, BaselineXMLUtils.isXMLNameChar(codePoint), XMLUtils.isXMLNameChar(codePoint));
+            assertEquals(message, BaselineXMLUtils.isNCNameStartChar(codePoint), XMLUtils.isNCNameStartChar(codePoint));
+            assertEquals(message, BaselineXMLUtils.isNCNameChar(codePoint), XMLUtils.isNCNameChar(codePoint));
+        }
+    }
+
+    @Test
+    public void shouldScanNCNamesLikeBaseline() {
+        List<String> strings = new ArrayList<>(Arrays.asList("", "a", "_", "_:", "_:b", ":", "1", "-a", "a-1.b",
+                "http://ex.org/ont#C", "http://ex.org/ont#", "http://ex.org/ont/C1", "http://ex.org/1C",
+                "urn:x:a:b", "http://ex.org/\u03b1\u03b2\u03b3", "http://ex.org/\u00b7a", "http://ex.org/a\u00b7",
+                "http://ex.org/\ud800\udc00", "http://ex.org/a\ud800\udc00b", "http://ex.org/\udb80\udc00",
+                "http://ex.org/a\ud800", "http://ex.org/\udc00a", "http://ex.org/\u2070\u218f\u203f"));
+        strings.addAll(new SyntheticOntology(new OWLDataFactoryImpl(), 200, 42L).getIRIStrings());
+        for (String s : strings) {
+            assertEquals(s, BaselineXMLUtils.getNCNameSuffixIndex(s), XMLUtils.getNCNameSuffixIndex(s));
+            int index = XMLUtils.getNCNameSuffixIndex(s);
+            if (index >= 0) {
+                String suffix = s.substring(index);
+                assertEquals(s, BaselineXMLUtils.isNCName(suffix), XMLUtils.isNCName(suffix));
+            }
+            assertEquals(s, BaselineXMLUtils.isNCName(s), XMLUtils.isNCName(s));
+        }
+    }
+}
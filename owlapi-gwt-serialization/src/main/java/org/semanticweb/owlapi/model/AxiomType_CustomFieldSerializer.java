@@ -4,12 +4,32 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+import org.semanticweb.owlapi.util.VocabularyTokens;
 
 /**
  * An implementation of CustomFieldSerilizer for serializing {@link AxiomType} objects.
  */
 public class AxiomType_CustomFieldSerializer extends CustomFieldSerializer<AxiomType> {
 
+    /**
+     * Axiom types are written as tokens whose codes are their indexes.
+     */
+    private static final VocabularyTokens<AxiomType<?>> TOKENS = createTokens();
+
+    private static VocabularyTokens<AxiomType<?>> createTokens() {
+        int size = 0;
+        for(AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            size = Math.max(size, type.getIndex() + 1);
+        }
+        AxiomType<?>[] types = new AxiomType<?>[size];
+        String[] names = new String[size];
+        for(AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            types[type.getIndex()] = type;
+            names[type.getIndex()] = type.getName();
+        }
+        return new VocabularyTokens<>("AxiomType", types, names);
+    }
+
     /**
      * @return <code>true</code> if a specialist {@link #instantiateInstance} is
      *         implemented; <code>false</code> otherwise
@@ -44,8 +64,7 @@ public class AxiomType_CustomFieldSerializer extends CustomFieldSerializer<Axiom
     }
 
     public static AxiomType instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        String name = streamReader.readString();
-        return AxiomType.getAxiomType(name);
+        return TOKENS.read(streamReader);
     }
 
 
@@ -65,7 +84,7 @@ public class AxiomType_CustomFieldSerializer extends CustomFieldSerializer<Axiom
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, AxiomType instance) throws SerializationException {
-        streamWriter.writeString(instance.getName());
+        TOKENS.write(streamWriter, instance.getIndex());
     }
 
 
@@ -45,7 +45,10 @@ public class IRI_CustomFieldSerializer extends CustomFieldSerializer<IRI> {
     }
 
     public static IRI instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return IRI.create(streamReader.readString());
+        // The namespace and remainder were split by the sender, so there is no need to rescan the IRI
+        String namespace = streamReader.readString();
+        String remainder = streamReader.readString();
+        return IRI.createFromSplit(namespace, remainder);
     }
 
 
@@ -65,7 +68,9 @@ public class IRI_CustomFieldSerializer extends CustomFieldSerializer<IRI> {
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, IRI instance) throws SerializationException {
-        streamWriter.writeString(instance.toString());
+        // Namespaces are shared by many IRIs and are deduplicated by the string table of the stream
+        streamWriter.writeString(instance.getNamespace());
+        streamWriter.writeString(instance.getRemainder().or(""));
     }
 
 
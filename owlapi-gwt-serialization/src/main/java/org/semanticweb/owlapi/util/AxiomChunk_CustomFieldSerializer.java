@@ -0,0 +1,105 @@
+package org.semanticweb.owlapi.util;
+
+import com.google.gwt.user.client.rpc.CustomFieldSerializer;
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import uk.ac.manchester.cs.owl.owlapi.CompactOWLObjectSerializer;
+
+import java.util.Arrays;
+
+/**
+ * A server side implementation of CustomFieldSerilizer for serializing {@link AxiomChunk}
+ * objects.
+ */
+public class AxiomChunk_CustomFieldSerializer extends CustomFieldSerializer<AxiomChunk> {
+
+    /**
+     * @return <code>true</code> if a specialist {@link #instantiateInstance} is
+     *         implemented; <code>false</code> otherwise
+     */
+    @Override
+    public boolean hasCustomInstantiateInstance() {
+        return true;
+    }
+
+    /**
+     * Instantiates an object from the {@link com.google.gwt.user.client.rpc.SerializationStreamReader}.
+     * <p>
+     * Most of the time, this can be left unimplemented and the framework
+     * will instantiate the instance itself.  This is typically used when the
+     * object being deserialized is immutable, hence it has to be created with
+     * its state already set.
+     * <p>
+     * If this is overridden, the {@link #hasCustomInstantiateInstance} method
+     * must return <code>true</code> in order for the framework to know to call
+     * it.
+     * @param streamReader the {@link com.google.gwt.user.client.rpc.SerializationStreamReader} to read the
+     * object's content from
+     * @return an object that has been loaded from the
+     *         {@link com.google.gwt.user.client.rpc.SerializationStreamReader}
+     * @throws com.google.gwt.user.client.rpc.SerializationException
+     *          if the instantiation operation is not
+     *          successful
+     */
+    @Override
+    public AxiomChunk instantiateInstance(SerializationStreamReader streamReader) throws SerializationException {
+        return instantiate(streamReader);
+    }
+
+    public static AxiomChunk instantiate(SerializationStreamReader streamReader) throws SerializationException {
+        int offset = streamReader.readInt();
+        int totalSize = streamReader.readInt();
+        OWLAxiom[] axioms = CompactOWLObjectSerializer.deserializeAxioms(streamReader);
+        // A malformed stream must fail as a serialization error, not with the IllegalArgumentException of the constructor
+        if (offset < 0 || totalSize < 0 || offset > totalSize - axioms.length) {
+            throw new SerializationException("Chunk of " + axioms.length + " axioms at offset " + offset
+                    + " does not fit in a list of " + totalSize);
+        }
+        return new AxiomChunk(offset, totalSize, Arrays.asList(axioms));
+    }
+
+
+    /**
+     * Serializes the content of the object into the
+     * {@link com.google.gwt.user.client.rpc.SerializationStreamWriter}.
+     * @param streamWriter the {@link com.google.gwt.user.client.rpc.SerializationStreamWriter} to write the
+     * object's content to
+     * @param instance the object instance to serialize
+     * @throws com.google.gwt.user.client.rpc.SerializationException
+     *          if the serialization operation is not
+     *          successful
+     */
+    @Override
+    public void serializeInstance(SerializationStreamWriter streamWriter, AxiomChunk instance) throws SerializationException {
+        serialize(streamWriter, instance);
+    }
+
+    public static void serialize(SerializationStreamWriter streamWriter, AxiomChunk instance) throws SerializationException {
+        streamWriter.writeInt(instance.getOffset());
+        streamWriter.writeInt(instance.getTotalSize());
+        // A chunk carries many axioms, so they are written in the compact form, with one small tag per object
+        CompactOWLObjectSerializer.serializeAxioms(instance.getAxioms(), streamWriter);
+    }
+
+
+    /**
+     * Deserializes the content of the object from the
+     * {@link com.google.gwt.user.client.rpc.SerializationStreamReader}.
+     * @param streamReader the {@link com.google.gwt.user.client.rpc.SerializationStreamReader} to read the
+     * object's content from
+     * @param instance the object instance to deserialize
+     * @throws com.google.gwt.user.client.rpc.SerializationException
+     *          if the deserialization operation is not
+     *          successful
+     */
+    @Override
+    public void deserializeInstance(SerializationStreamReader streamReader, AxiomChunk instance) throws SerializationException {
+        deserialize(streamReader, instance);
+    }
+
+    public static void deserialize(SerializationStreamReader streamReader, AxiomChunk instance) throws SerializationException {
+
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package org.semanticweb.owlapi.util;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+
+/**
+ * Writes the constants of a fixed vocabulary, such as the values of an enum, as a single int token rather than as
+ * their names.  The low eight bits of a token are the code of the constant, which is an index into a table, so reading
+ * a constant back does not need a lookup by name.  The remaining bits are a version that is computed from the names of
+ * the constants in code order.  If the client and the server were built against vocabularies whose constants are
+ * ordered differently then the versions differ and reading fails with a {@link SerializationException} instead of
+ * silently returning the wrong constant.
+ * <p>
+ * The version is kept to 16 bits so that a token is at most eight decimal digits in the stream.
+ *
+ * @param <T> The type of the constants.
+ */
+public class VocabularyTokens<T> {
+
+    private static final int CODE_BITS = 8;
+
+    private static final int MAX_CODES = 1 << CODE_BITS;
+
+    private static final int CODE_MASK = MAX_CODES - 1;
+
+    private static final int VERSION_MASK = 0xFFFF;
+
+    private final String typeName;
+
+    private final Object[] constants;
+
+    private final int version;
+
+    /**
+     * @param typeName The name of the vocabulary, for error messages.
+     * @param constants The constants, indexed by their codes.  Codes that are not used may be {@code null}.
+     * @param names The names of the constants, indexed by their codes, from which the version is computed.
+     */
+    public VocabularyTokens(String typeName, T[] constants, String[] names) {
+        if(constants.length > MAX_CODES || names.length != constants.length) {
+            throw new IllegalArgumentException("Cannot encode " + constants.length + " constants of " + typeName);
+        }
+        this.typeName = typeName;
+        this.constants = new Object[constants.length];
+        System.arraycopy(constants, 0, this.constants, 0, constants.length);
+        int hash = 0;
+        for(String name : names) {
+            hash = 31 * hash + (name == null ? 0 : name.hashCode());
+        }
+        this.version = (hash ^ (hash >>> 16)) & VERSION_MASK;
+    }
+
+    /**
+     * Creates the tokens for an enum, using the ordinals as codes.
+     * @param typeName The name of the enum, for error messages.
+     * @param values The values of the enum, as returned by {@code values()}.
+     * @param <E> The enum type.
+     * @return The tokens.
+     */
+    public static <E extends Enum<E>> VocabularyTokens<E> forEnum(String typeName, E[] values) {
+        String[] names = new String[values.length];
+        for(E value : values) {
+            names[value.ordinal()] = value.name();
+        }
+        return new VocabularyTokens<>(typeName, values, names);
+    }
+
+    /**
+     * Writes the token for a constant.
+     * @param writer The writer to write to.
+     * @param code The code of the constant.
+     * @throws SerializationException if the token could not be written.
+     */
+    public void write(SerializationStreamWriter writer, int code) throws SerializationException {
+        writer.writeInt(version << CODE_BITS | code);
+    }
+
+    /**
+     * Reads a token that was written by {@link #write(SerializationStreamWriter, int)}.
+     * @param reader The reader to read from.
+     * @return The constant.
+     * @throws SerializationException if the token could not be read, if it was written with a different version of
+     * the vocabulary or if it does not denote a constant.
+     */
+    @SuppressWarnings("unchecked")
+    public T read(SerializationStreamReader reader) throws SerializationException {
+        int token = reader.readInt();
+        if(token >>> CODE_BITS != version) {
+            throw new SerializationException("The constants of " + typeName
+                    + " differ between the client and the server (version " + (token >>> CODE_BITS)
+                    + " read, " + version + " expected)");
+        }
+        int code = token & CODE_MASK;
+        Object constant = code < constants.length ? constants[code] : null;
+        if(constant == null) {
+            throw new SerializationException("Unknown " + typeName + " code: " + code);
+        }
+        return (T) constant;
+    }
+}
@@ -9,6 +9,7 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+import org.semanticweb.owlapi.util.VocabularyTokens;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 
 /**
@@ -17,6 +18,11 @@ import org.semanticweb.owlapi.vocab.OWLFacet;
  */
 public class OWLFacet_CustomFieldSerializer extends CustomFieldSerializer<OWLFacet> {
 
+    /**
+     * Facets are written as tokens whose codes are their ordinals.
+     */
+    private static final VocabularyTokens<OWLFacet> TOKENS = VocabularyTokens.forEnum("OWLFacet", OWLFacet.values());
+
     /**
      * @return <code>true</code> if a specialist {@link #instantiateInstance} is
      *         implemented; <code>false</code> otherwise
@@ -52,7 +58,7 @@ public class OWLFacet_CustomFieldSerializer extends CustomFieldSerializer<OWLFac
     }
 
     public static OWLFacet instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return OWLFacet.valueOf(streamReader.readString());
+        return TOKENS.read(streamReader);
     }
 
     /**
@@ -72,7 +78,7 @@ public class OWLFacet_CustomFieldSerializer extends CustomFieldSerializer<OWLFac
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLFacet instance) throws SerializationException {
-        streamWriter.writeString(instance.name());
+        TOKENS.write(streamWriter, instance.ordinal());
     }
 
     /**
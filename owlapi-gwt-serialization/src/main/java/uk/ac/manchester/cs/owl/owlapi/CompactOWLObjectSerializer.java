@@ -0,0 +1,849 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import com.google.gwt.user.client.rpc.SerializationException;
+import com.google.gwt.user.client.rpc.SerializationStreamReader;
+import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
+
+import java.util.*;
+
+import static org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider.*;
+
+/**
+ * Writes and reads OWL objects in a compact form in which each object is preceded by a small type tag rather than
+ * written with {@link SerializationStreamWriter#writeObject(Object)}.  The tags fit in an unsigned byte and are
+ * derived from the indices of {@link OWLObjectTypeIndexProvider}.  Entities, class expressions, annotations and the
+ * common axiom types are written inline, field by field, so the stream writes no type signature for them and the
+ * reader finds the decoder for an object with one array lookup rather than a lookup by type signature.  An object that
+ * has already been written inline is written as a single back-reference, as the stream itself does for objects.  Any
+ * other object, such as an IRI, a literal, a data range or a less common axiom, is written after a fallback tag with
+ * {@code writeObject} as before, and is left to the stream to share.
+ * <p>
+ * The form is only understood by {@link #deserialize(SerializationStreamReader)} and
+ * {@link #deserializeAxioms(SerializationStreamReader)}.  It is meant for custom field serializers of types that
+ * carry many axioms, where both sides use this class, such as the serializer of
+ * {@link org.semanticweb.owlapi.util.AxiomChunk}.
+ */
+public class CompactOWLObjectSerializer {
+
+    /**
+     * The header of an object written with {@code writeObject}.  Positive headers are type tags and negative headers
+     * are back-references.
+     */
+    private static final int FALLBACK = 0;
+
+    // Entities take the tags 1 to 7, which are their type indices less ENTITY_TYPE_INDEX_BASE.  The other kinds of
+    // object are offset from these bases in the same way.
+    private static final int CLASS_EXPRESSION_TAG_BASE = 16;
+
+    private static final int ANNOTATION_TAG_BASE = 48;
+
+    private static final int AXIOM_TAG_BASE = 64;
+
+    /**
+     * Set in the tag of an axiom that has annotations.  An axiom without this flag is written without an annotation
+     * set.
+     */
+    private static final int ANNOTATED = 128;
+
+    private static final Codec<?>[] codecs = new Codec<?>[256];
+
+    /**
+     * Writes an object in the compact form.
+     * @param object The object to write.  May be {@code null}.
+     * @param writer The writer to write to.
+     * @throws SerializationException if the object could not be written.
+     */
+    public static void serialize(OWLObject object, SerializationStreamWriter writer) throws SerializationException {
+        new Output(writer, 0).write(object);
+    }
+
+    /**
+     * Reads an object that was written by {@link #serialize(OWLObject, SerializationStreamWriter)}.
+     * @param reader The reader to read from.
+     * @return The object.
+     * @throws SerializationException if the object could not be read.
+     */
+    public static OWLObject deserialize(SerializationStreamReader reader) throws SerializationException {
+        return new Input(reader).read();
+    }
+
+    /**
+     * Writes the size of a list of axioms followed by the axioms in the compact form.  Back-references may refer to
+     * objects in earlier axioms of the list.
+     * @param axioms The axioms to write.
+     * @param writer The writer to write to.
+     * @throws SerializationException if the axioms could not be written.
+     */
+    public static void serializeAxioms(List<? extends OWLAxiom> axioms, SerializationStreamWriter writer) throws SerializationException {
+        Output out = new Output(writer, axioms.size());
+        writer.writeInt(axioms.size());
+        for (OWLAxiom axiom : axioms) {
+            out.write(axiom);
+        }
+    }
+
+    /**
+     * Reads a list of axioms that was written by {@link #serializeAxioms(List, SerializationStreamWriter)}.
+     * @param reader The reader to read from.
+     * @return The axioms, in the order in which they were written.
+     * @throws SerializationException if the axioms could not be read, or if the stream holds something other than a
+     * list of axioms.
+     */
+    public static OWLAxiom[] deserializeAxioms(SerializationStreamReader reader) throws SerializationException {
+        Input in = new Input(reader);
+        OWLAxiom[] axioms = new OWLAxiom[in.readSize()];
+        for (int i = 0; i < axioms.length; i++) {
+            Object axiom = in.read();
+            if (!(axiom instanceof OWLAxiom)) {
+                throw new SerializationException("Expected an axiom but read " + axiom);
+            }
+            axioms[i] = (OWLAxiom) axiom;
+        }
+        return axioms;
+    }
+
+    private static int getTag(OWLObject object, OWLObjectTypeIndexProvider types) {
+        int typeIndex;
+        // The implementations in this package know their own type index, which saves a visit
+        if (object instanceof OWLObjectImplWithEntityAndAnonCaching) {
+            typeIndex = ((OWLObjectImplWithEntityAndAnonCaching) object).index();
+        }
+        else if (object instanceof OWLObjectImplWithoutEntityAndAnonCaching) {
+            typeIndex = ((OWLObjectImplWithoutEntityAndAnonCaching) object).index();
+        }
+        else {
+            typeIndex = types.getTypeIndex(object);
+        }
+        int tag;
+        if (object instanceof OWLAxiom) {
+            tag = AXIOM_TAG_BASE + typeIndex - AXIOM_TYPE_INDEX_BASE;
+            if (tag >= ANNOTATED) {
+                return FALLBACK;
+            }
+            if (((OWLAxiom) object).isAnnotated()) {
+                tag |= ANNOTATED;
+            }
+        }
+        else if (typeIndex > ENTITY_TYPE_INDEX_BASE && typeIndex < AXIOM_TYPE_INDEX_BASE) {
+            tag = typeIndex - ENTITY_TYPE_INDEX_BASE;
+        }
+        else if (typeIndex > CLASS_EXPRESSION_TYPE_INDEX_BASE && typeIndex < DATA_TYPE_INDEX_BASE) {
+            tag = CLASS_EXPRESSION_TAG_BASE + typeIndex - CLASS_EXPRESSION_TYPE_INDEX_BASE;
+        }
+        else if (typeIndex > ANNOTATION_TYPE_INDEX_BASE && typeIndex < RULE_OBJECT_TYPE_INDEX_BASE) {
+            tag = ANNOTATION_TAG_BASE + typeIndex - ANNOTATION_TYPE_INDEX_BASE;
+        }
+        else {
+            return FALLBACK;
+        }
+        if (tag <= FALLBACK || tag >= codecs.length || codecs[tag] == null) {
+            return FALLBACK;
+        }
+        return tag;
+    }
+
+    private static void register(int tag, Codec<?> codec) {
+        codecs[tag] = codec;
+    }
+
+    private static int classExpressionTag(int typeIndex) {
+        return CLASS_EXPRESSION_TAG_BASE + typeIndex - CLASS_EXPRESSION_TYPE_INDEX_BASE;
+    }
+
+    private static void register(AxiomType<?> axiomType, AxiomCodec<?> codec) {
+        int tag = AXIOM_TAG_BASE + axiomType.getIndex();
+        register(tag, codec);
+        register(tag | ANNOTATED, new AnnotatedAxiomCodec<>(codec));
+    }
+
+    /**
+     * The state of one write: the stream, and the objects that have been written inline, numbered in the order in which
+     * they were completed.
+     */
+    private static final class Output {
+
+        private final SerializationStreamWriter writer;
+
+        private final OWLObjectTypeIndexProvider types = new OWLObjectTypeIndexProvider();
+
+        private final Map<Object, Integer> completed;
+
+        private Output(SerializationStreamWriter writer, int expectedSize) {
+            this.writer = writer;
+            this.completed = new IdentityHashMap<>(expectedSize);
+        }
+
+        @SuppressWarnings("unchecked")
+        void write(Object object) throws SerializationException {
+            // Only objects written inline are kept, and axioms are not kept as they do not nest
+            if (!(object instanceof OWLAxiom)) {
+                Integer index = completed.get(object);
+                if (index != null) {
+                    writer.writeInt(-1 - index);
+                    return;
+                }
+            }
+            int tag = object instanceof OWLObject ? getTag((OWLObject) object, types) : FALLBACK;
+            writer.writeInt(tag);
+            if (tag == FALLBACK) {
+                writer.writeObject(object);
+                return;
+            }
+            ((Codec<Object>) codecs[tag]).write(object, this);
+            if (tag < AXIOM_TAG_BASE) {
+                completed.put(object, completed.size());
+            }
+        }
+
+        void writeSet(Collection<?> set) throws SerializationException {
+            writer.writeInt(set.size());
+            for (Object element : set) {
+                write(element);
+            }
+        }
+    }
+
+    /**
+     * The state of one read: the stream, and the objects that have been read inline, in the order in which they were
+     * completed.
+     */
+    private static final class Input {
+
+        private final SerializationStreamReader reader;
+
+        private final List<Object> completed = new ArrayList<>();
+
+        private Input(SerializationStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T read() throws SerializationException {
+            int header = reader.readInt();
+            if (header < 0) {
+                int index = -1 - header;
+                if (index >= completed.size()) {
+                    throw new SerializationException("Unknown back-reference " + header);
+                }
+                return (T) completed.get(index);
+            }
+            if (header == FALLBACK) {
+                return (T) reader.readObject();
+            }
+            Codec<?> codec = header < codecs.length ? codecs[header] : null;
+            if (codec == null) {
+                throw new SerializationException("Unknown type tag " + header);
+            }
+            Object object;
+            try {
+                object = codec.read(this);
+            } catch (ClassCastException e) {
+                // A field of the object was read as an object of the wrong type
+                throw new SerializationException("Malformed object with type tag " + header, e);
+            }
+            if (header < AXIOM_TAG_BASE) {
+                completed.add(object);
+            }
+            return (T) object;
+        }
+
+        int readSize() throws SerializationException {
+            int size = reader.readInt();
+            if (size < 0) {
+                throw new SerializationException("Negative size " + size);
+            }
+            return size;
+        }
+
+        <T> Set<T> readSet() throws SerializationException {
+            int size = readSize();
+            if (size == 0) {
+                return SmallSortedSet.empty();
+            }
+            Object[] elements = new Object[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = read();
+            }
+            return SmallSortedSet.ofDistinct(elements);
+        }
+    }
+
+    /**
+     * Writes and reads the fields of objects of one type.
+     * @param <T> The type of object.
+     */
+    private abstract static class Codec<T> {
+
+        abstract void write(T object, Output out) throws SerializationException;
+
+        abstract T read(Input in) throws SerializationException;
+    }
+
+    private abstract static class EntityCodec<E extends OWLEntity> extends Codec<E> {
+
+        @Override
+        void write(E entity, Output out) throws SerializationException {
+            CustomFieldSerializerUtil.serializeIRI(entity.getIRI(), out.writer);
+        }
+
+        @Override
+        E read(Input in) throws SerializationException {
+            return create(CustomFieldSerializerUtil.deserializeIRI(in.reader));
+        }
+
+        abstract E create(IRI iri);
+    }
+
+    /**
+     * Writes and reads axioms without annotations.
+     * @param <A> The type of axiom.
+     */
+    private abstract static class AxiomCodec<A extends OWLAxiom> extends Codec<A> {
+
+        @Override
+        void write(A axiom, Output out) throws SerializationException {
+            writeFields(axiom, out);
+        }
+
+        @Override
+        A read(Input in) throws SerializationException {
+            return readFields(in, SmallSortedSet.<OWLAnnotation>empty());
+        }
+
+        abstract void writeFields(A axiom, Output out) throws SerializationException;
+
+        abstract A readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException;
+    }
+
+    /**
+     * Writes and reads axioms with annotations, which are written before the other fields.
+     * @param <A> The type of axiom.
+     */
+    private static final class AnnotatedAxiomCodec<A extends OWLAxiom> extends Codec<A> {
+
+        private final AxiomCodec<A> fields;
+
+        private AnnotatedAxiomCodec(AxiomCodec<A> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        void write(A axiom, Output out) throws SerializationException {
+            out.writeSet(axiom.getAnnotations());
+            fields.writeFields(axiom, out);
+        }
+
+        @Override
+        A read(Input in) throws SerializationException {
+            Set<OWLAnnotation> annotations = in.readSet();
+            return fields.readFields(in, annotations);
+        }
+    }
+
+    static {
+        // Entities
+        register(OWL_CLASS - ENTITY_TYPE_INDEX_BASE, new EntityCodec<OWLClass>() {
+            @Override
+            OWLClass create(IRI iri) {
+                return new OWLClassImpl(iri);
+            }
+        });
+        register(OBJECT_PROPERTY - ENTITY_TYPE_INDEX_BASE, new EntityCodec<OWLObjectProperty>() {
+            @Override
+            OWLObjectProperty create(IRI iri) {
+                return new OWLObjectPropertyImpl(iri);
+            }
+        });
+        register(DATA_PROPERTY - ENTITY_TYPE_INDEX_BASE, new EntityCodec<OWLDataProperty>() {
+            @Override
+            OWLDataProperty create(IRI iri) {
+                return new OWLDataPropertyImpl(iri);
+            }
+        });
+        register(INDIVIDUAL - ENTITY_TYPE_INDEX_BASE, new EntityCodec<OWLNamedIndividual>() {
+            @Override
+            OWLNamedIndividual create(IRI iri) {
+                return new OWLNamedIndividualImpl(iri);
+            }
+        });
+        register(ANNOTATION_PROPERTY - ENTITY_TYPE_INDEX_BASE, new EntityCodec<OWLAnnotationProperty>() {
+            @Override
+            OWLAnnotationProperty create(IRI iri) {
+                return new OWLAnnotationPropertyImpl(iri);
+            }
+        });
+        register(OBJECT_PROPERTY_INVERSE - ENTITY_TYPE_INDEX_BASE, new Codec<OWLObjectInverseOf>() {
+            @Override
+            void write(OWLObjectInverseOf property, Output out) throws SerializationException {
+                out.write(property.getInverse());
+            }
+
+            @Override
+            OWLObjectInverseOf read(Input in) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                return new OWLObjectInverseOfImpl(property);
+            }
+        });
+
+        // Class expressions
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 1), new Codec<OWLObjectIntersectionOf>() {
+            @Override
+            void write(OWLObjectIntersectionOf ce, Output out) throws SerializationException {
+                out.writeSet(ce.getOperands());
+            }
+
+            @Override
+            OWLObjectIntersectionOf read(Input in) throws SerializationException {
+                Set<OWLClassExpression> operands = in.readSet();
+                return new OWLObjectIntersectionOfImpl(operands);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 2), new Codec<OWLObjectUnionOf>() {
+            @Override
+            void write(OWLObjectUnionOf ce, Output out) throws SerializationException {
+                out.writeSet(ce.getOperands());
+            }
+
+            @Override
+            OWLObjectUnionOf read(Input in) throws SerializationException {
+                Set<OWLClassExpression> operands = in.readSet();
+                return new OWLObjectUnionOfImpl(operands);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 3), new Codec<OWLObjectComplementOf>() {
+            @Override
+            void write(OWLObjectComplementOf ce, Output out) throws SerializationException {
+                out.write(ce.getOperand());
+            }
+
+            @Override
+            OWLObjectComplementOf read(Input in) throws SerializationException {
+                OWLClassExpression operand = in.read();
+                return new OWLObjectComplementOfImpl(operand);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 4), new Codec<OWLObjectOneOf>() {
+            @Override
+            void write(OWLObjectOneOf ce, Output out) throws SerializationException {
+                out.writeSet(ce.getIndividuals());
+            }
+
+            @Override
+            OWLObjectOneOf read(Input in) throws SerializationException {
+                Set<OWLIndividual> individuals = in.readSet();
+                return new OWLObjectOneOfImpl(individuals);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 5), new Codec<OWLObjectSomeValuesFrom>() {
+            @Override
+            void write(OWLObjectSomeValuesFrom ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectSomeValuesFrom read(Input in) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression filler = in.read();
+                return new OWLObjectSomeValuesFromImpl(property, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 6), new Codec<OWLObjectAllValuesFrom>() {
+            @Override
+            void write(OWLObjectAllValuesFrom ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectAllValuesFrom read(Input in) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression filler = in.read();
+                return new OWLObjectAllValuesFromImpl(property, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 7), new Codec<OWLObjectHasValue>() {
+            @Override
+            void write(OWLObjectHasValue ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectHasValue read(Input in) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                OWLIndividual value = in.read();
+                return new OWLObjectHasValueImpl(property, value);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 8), new Codec<OWLObjectMinCardinality>() {
+            @Override
+            void write(OWLObjectMinCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectMinCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression filler = in.read();
+                return new OWLObjectMinCardinalityImpl(property, cardinality, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 9), new Codec<OWLObjectExactCardinality>() {
+            @Override
+            void write(OWLObjectExactCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectExactCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression filler = in.read();
+                return new OWLObjectExactCardinalityImpl(property, cardinality, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 10), new Codec<OWLObjectMaxCardinality>() {
+            @Override
+            void write(OWLObjectMaxCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLObjectMaxCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression filler = in.read();
+                return new OWLObjectMaxCardinalityImpl(property, cardinality, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 11), new Codec<OWLObjectHasSelf>() {
+            @Override
+            void write(OWLObjectHasSelf ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+            }
+
+            @Override
+            OWLObjectHasSelf read(Input in) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                return new OWLObjectHasSelfImpl(property);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 12), new Codec<OWLDataSomeValuesFrom>() {
+            @Override
+            void write(OWLDataSomeValuesFrom ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataSomeValuesFrom read(Input in) throws SerializationException {
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange filler = in.read();
+                return new OWLDataSomeValuesFromImpl(property, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 13), new Codec<OWLDataAllValuesFrom>() {
+            @Override
+            void write(OWLDataAllValuesFrom ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataAllValuesFrom read(Input in) throws SerializationException {
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange filler = in.read();
+                return new OWLDataAllValuesFromImpl(property, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 14), new Codec<OWLDataHasValue>() {
+            @Override
+            void write(OWLDataHasValue ce, Output out) throws SerializationException {
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataHasValue read(Input in) throws SerializationException {
+                OWLDataPropertyExpression property = in.read();
+                OWLLiteral value = in.read();
+                return new OWLDataHasValueImpl(property, value);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 15), new Codec<OWLDataMinCardinality>() {
+            @Override
+            void write(OWLDataMinCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataMinCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange filler = in.read();
+                return new OWLDataMinCardinalityImpl(property, cardinality, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 16), new Codec<OWLDataExactCardinality>() {
+            @Override
+            void write(OWLDataExactCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataExactCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange filler = in.read();
+                return new OWLDataExactCardinalityImpl(property, cardinality, filler);
+            }
+        });
+        register(classExpressionTag(CLASS_EXPRESSION_TYPE_INDEX_BASE + 17), new Codec<OWLDataMaxCardinality>() {
+            @Override
+            void write(OWLDataMaxCardinality ce, Output out) throws SerializationException {
+                out.writer.writeInt(ce.getCardinality());
+                out.write(ce.getProperty());
+                out.write(ce.getFiller());
+            }
+
+            @Override
+            OWLDataMaxCardinality read(Input in) throws SerializationException {
+                int cardinality = in.reader.readInt();
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange filler = in.read();
+                return new OWLDataMaxCardinalityImpl(property, cardinality, filler);
+            }
+        });
+
+        // Annotations
+        register(ANNOTATION_TAG_BASE + 1, new Codec<OWLAnnotation>() {
+            @Override
+            void write(OWLAnnotation annotation, Output out) throws SerializationException {
+                out.write(annotation.getProperty());
+                out.write(annotation.getValue());
+                out.writeSet(annotation.getAnnotations());
+            }
+
+            @Override
+            OWLAnnotation read(Input in) throws SerializationException {
+                OWLAnnotationProperty property = in.read();
+                OWLAnnotationValue value = in.read();
+                Set<OWLAnnotation> annotations = in.readSet();
+                return new OWLAnnotationImpl(property, value, annotations);
+            }
+        });
+
+        // Axioms
+        register(AxiomType.DECLARATION, new AxiomCodec<OWLDeclarationAxiom>() {
+            @Override
+            void writeFields(OWLDeclarationAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getEntity());
+            }
+
+            @Override
+            OWLDeclarationAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLEntity entity = in.read();
+                return new OWLDeclarationAxiomImpl(entity, annotations);
+            }
+        });
+        register(AxiomType.SUBCLASS_OF, new AxiomCodec<OWLSubClassOfAxiom>() {
+            @Override
+            void writeFields(OWLSubClassOfAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubClass());
+                out.write(axiom.getSuperClass());
+            }
+
+            @Override
+            OWLSubClassOfAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLClassExpression subClass = in.read();
+                OWLClassExpression superClass = in.read();
+                return new OWLSubClassOfAxiomImpl(subClass, superClass, annotations);
+            }
+        });
+        register(AxiomType.EQUIVALENT_CLASSES, new AxiomCodec<OWLEquivalentClassesAxiom>() {
+            @Override
+            void writeFields(OWLEquivalentClassesAxiom axiom, Output out) throws SerializationException {
+                out.writeSet(axiom.getClassExpressions());
+            }
+
+            @Override
+            OWLEquivalentClassesAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                Set<OWLClassExpression> classExpressions = in.readSet();
+                return new OWLEquivalentClassesAxiomImpl(classExpressions, annotations);
+            }
+        });
+        register(AxiomType.DISJOINT_CLASSES, new AxiomCodec<OWLDisjointClassesAxiom>() {
+            @Override
+            void writeFields(OWLDisjointClassesAxiom axiom, Output out) throws SerializationException {
+                out.writeSet(axiom.getClassExpressions());
+            }
+
+            @Override
+            OWLDisjointClassesAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                Set<OWLClassExpression> classExpressions = in.readSet();
+                return new OWLDisjointClassesAxiomImpl(classExpressions, annotations);
+            }
+        });
+        register(AxiomType.CLASS_ASSERTION, new AxiomCodec<OWLClassAssertionAxiom>() {
+            @Override
+            void writeFields(OWLClassAssertionAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getIndividual());
+                out.write(axiom.getClassExpression());
+            }
+
+            @Override
+            OWLClassAssertionAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLIndividual individual = in.read();
+                OWLClassExpression classExpression = in.read();
+                return new OWLClassAssertionAxiomImpl(individual, classExpression, annotations);
+            }
+        });
+        register(AxiomType.OBJECT_PROPERTY_ASSERTION, new AxiomCodec<OWLObjectPropertyAssertionAxiom>() {
+            @Override
+            void writeFields(OWLObjectPropertyAssertionAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubject());
+                out.write(axiom.getProperty());
+                out.write(axiom.getObject());
+            }
+
+            @Override
+            OWLObjectPropertyAssertionAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLIndividual subject = in.read();
+                OWLObjectPropertyExpression property = in.read();
+                OWLIndividual object = in.read();
+                return new OWLObjectPropertyAssertionAxiomImpl(subject, property, object, annotations);
+            }
+        });
+        register(AxiomType.DATA_PROPERTY_ASSERTION, new AxiomCodec<OWLDataPropertyAssertionAxiom>() {
+            @Override
+            void writeFields(OWLDataPropertyAssertionAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubject());
+                out.write(axiom.getProperty());
+                out.write(axiom.getObject());
+            }
+
+            @Override
+            OWLDataPropertyAssertionAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLIndividual subject = in.read();
+                OWLDataPropertyExpression property = in.read();
+                OWLLiteral value = in.read();
+                return new OWLDataPropertyAssertionAxiomImpl(subject, property, value, annotations);
+            }
+        });
+        register(AxiomType.ANNOTATION_ASSERTION, new AxiomCodec<OWLAnnotationAssertionAxiom>() {
+            @Override
+            void writeFields(OWLAnnotationAssertionAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubject());
+                out.write(axiom.getProperty());
+                out.write(axiom.getValue());
+            }
+
+            @Override
+            OWLAnnotationAssertionAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLAnnotationSubject subject = in.read();
+                OWLAnnotationProperty property = in.read();
+                OWLAnnotationValue value = in.read();
+                return new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations);
+            }
+        });
+        register(AxiomType.SUB_OBJECT_PROPERTY, new AxiomCodec<OWLSubObjectPropertyOfAxiom>() {
+            @Override
+            void writeFields(OWLSubObjectPropertyOfAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubProperty());
+                out.write(axiom.getSuperProperty());
+            }
+
+            @Override
+            OWLSubObjectPropertyOfAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLObjectPropertyExpression subProperty = in.read();
+                OWLObjectPropertyExpression superProperty = in.read();
+                return new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+            }
+        });
+        register(AxiomType.OBJECT_PROPERTY_DOMAIN, new AxiomCodec<OWLObjectPropertyDomainAxiom>() {
+            @Override
+            void writeFields(OWLObjectPropertyDomainAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getProperty());
+                out.write(axiom.getDomain());
+            }
+
+            @Override
+            OWLObjectPropertyDomainAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression domain = in.read();
+                return new OWLObjectPropertyDomainAxiomImpl(property, domain, annotations);
+            }
+        });
+        register(AxiomType.OBJECT_PROPERTY_RANGE, new AxiomCodec<OWLObjectPropertyRangeAxiom>() {
+            @Override
+            void writeFields(OWLObjectPropertyRangeAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getProperty());
+                out.write(axiom.getRange());
+            }
+
+            @Override
+            OWLObjectPropertyRangeAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLObjectPropertyExpression property = in.read();
+                OWLClassExpression range = in.read();
+                return new OWLObjectPropertyRangeAxiomImpl(property, range, annotations);
+            }
+        });
+        register(AxiomType.SUB_DATA_PROPERTY, new AxiomCodec<OWLSubDataPropertyOfAxiom>() {
+            @Override
+            void writeFields(OWLSubDataPropertyOfAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getSubProperty());
+                out.write(axiom.getSuperProperty());
+            }
+
+            @Override
+            OWLSubDataPropertyOfAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLDataPropertyExpression subProperty = in.read();
+                OWLDataPropertyExpression superProperty = in.read();
+                return new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+            }
+        });
+        register(AxiomType.DATA_PROPERTY_DOMAIN, new AxiomCodec<OWLDataPropertyDomainAxiom>() {
+            @Override
+            void writeFields(OWLDataPropertyDomainAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getProperty());
+                out.write(axiom.getDomain());
+            }
+
+            @Override
+            OWLDataPropertyDomainAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLDataPropertyExpression property = in.read();
+                OWLClassExpression domain = in.read();
+                return new OWLDataPropertyDomainAxiomImpl(property, domain, annotations);
+            }
+        });
+        register(AxiomType.DATA_PROPERTY_RANGE, new AxiomCodec<OWLDataPropertyRangeAxiom>() {
+            @Override
+            void writeFields(OWLDataPropertyRangeAxiom axiom, Output out) throws SerializationException {
+                out.write(axiom.getProperty());
+                out.write(axiom.getRange());
+            }
+
+            @Override
+            OWLDataPropertyRangeAxiom readFields(Input in, Set<OWLAnnotation> annotations) throws SerializationException {
+                OWLDataPropertyExpression property = in.read();
+                OWLDataRange range = in.read();
+                return new OWLDataPropertyRangeAxiomImpl(property, range, annotations);
+            }
+        });
+    }
+}
@@ -3,10 +3,11 @@ package uk.ac.manchester.cs.owl.owlapi;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLObject;
-import org.semanticweb.owlapi.util.CollectionFactory;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSortedSet;
 
 import java.util.*;
 
@@ -30,26 +31,49 @@ public class CustomFieldSerializerUtil {
     }
 
 
+    /**
+     * Reads a set that was written by {@link #serializeSet(Set, SerializationStreamWriter)}.  The elements are read
+     * into an array of the written size, which becomes the storage of the returned set, so there is no intermediate
+     * list and no rehashing.  The returned set is immutable.  The axiom and class expression constructors keep a
+     * {@link SmallSortedSet} as it is, so the set that is read here is the set that ends up in the object.
+     * @param reader The reader to read from.
+     * @return The set.
+     * @throws SerializationException if the set could not be read.
+     */
     public static <T> Set<T> deserializeSet(SerializationStreamReader reader) throws SerializationException {
-        List<T> elements = derserializeCollection(reader);
-        if(elements.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return CollectionFactory.createSet(elements);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T> List<T> derserializeCollection(SerializationStreamReader reader) throws SerializationException {
         int size = reader.readInt();
         if(size == 0) {
-            return Collections.emptyList();
+            return SmallSortedSet.empty();
         }
-        List<T> elements = new ArrayList<T>();
+        Object[] elements = new Object[size];
         for(int i = 0; i < size; i++) {
-            T object = (T) reader.readObject();
-            elements.add(object);
+            elements[i] = reader.readObject();
         }
-        return elements;
+        return SmallSortedSet.ofDistinct(elements);
+    }
+
+    /**
+     * Writes an IRI as an object rather than as a string.  The stream keeps a table of the objects that it has
+     * already written, so the second and later occurrences of the same IRI instance in a stream are written as a
+     * small back-reference instead of the full IRI string.  IRIs created from strings are interned, so equal IRIs
+     * are usually the same instance.
+     * @param iri The IRI to write.
+     * @param writer The writer to write to.
+     * @throws SerializationException if the IRI could not be written.
+     */
+    public static void serializeIRI(IRI iri, SerializationStreamWriter writer) throws SerializationException {
+        writer.writeObject(iri);
+    }
+
+    /**
+     * Reads an IRI that was written by {@link #serializeIRI(IRI, SerializationStreamWriter)}.  Back-references are
+     * resolved by the stream to the IRI that was read at the first occurrence.
+     * @param reader The reader to read from.
+     * @return The IRI.
+     * @throws SerializationException if the IRI could not be read.
+     */
+    public static IRI deserializeIRI(SerializationStreamReader reader) throws SerializationException {
+        return (IRI) reader.readObject();
     }
 
     public static <A extends OWLAxiom> void serializeAnnotations(A axiom, SerializationStreamWriter writer) throws SerializationException {
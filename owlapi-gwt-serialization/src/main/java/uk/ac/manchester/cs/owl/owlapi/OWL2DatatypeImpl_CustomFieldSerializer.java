@@ -5,6 +5,7 @@ import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.util.VocabularyTokens;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
 /**
@@ -13,6 +14,11 @@ import org.semanticweb.owlapi.vocab.OWL2Datatype;
  */
 public class OWL2DatatypeImpl_CustomFieldSerializer extends CustomFieldSerializer<OWL2DatatypeImpl> {
 
+    /**
+     * Built in datatypes are written as tokens whose codes are their ordinals.
+     */
+    private static final VocabularyTokens<OWL2Datatype> TOKENS =
+            VocabularyTokens.forEnum("OWL2Datatype", OWL2Datatype.values());
 
     /**
      * @return <code>true</code> if a specialist {@link #instantiateInstance} is
@@ -48,8 +54,7 @@ public class OWL2DatatypeImpl_CustomFieldSerializer extends CustomFieldSerialize
     }
 
     public static OWL2DatatypeImpl instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        String name = streamReader.readString();
-        OWL2Datatype datatype = OWL2Datatype.valueOf(name);
+        OWL2Datatype datatype = TOKENS.read(streamReader);
         return new OWL2DatatypeImpl(datatype);
     }
 
@@ -70,7 +75,7 @@ public class OWL2DatatypeImpl_CustomFieldSerializer extends CustomFieldSerialize
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWL2DatatypeImpl instance) throws SerializationException {
-        streamWriter.writeString(instance.getBuiltInDatatype().name());
+        TOKENS.write(streamWriter, instance.getBuiltInDatatype().ordinal());
     }
 
 
@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 
 /**
  * An implementation of CustomFieldSerilizer for serializing {@link OWLAnnotationPropertyImpl}
@@ -46,7 +45,7 @@ public class OWLAnnotationPropertyImpl_CustomFieldSerializer extends CustomField
     }
 
     public static OWLAnnotationPropertyImpl instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLAnnotationPropertyImpl(IRI.create(streamReader.readString()));
+        return new OWLAnnotationPropertyImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -66,7 +65,7 @@ public class OWLAnnotationPropertyImpl_CustomFieldSerializer extends CustomField
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLAnnotationPropertyImpl instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 
@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLClass;
 import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
 
@@ -48,7 +47,7 @@ public class OWLClassImpl_CustomFieldSerializer extends CustomFieldSerializer<OW
     }
 
     public static OWLClass instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLClassImpl(IRI.create(streamReader.readString()));
+        return new OWLClassImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -68,7 +67,7 @@ public class OWLClassImpl_CustomFieldSerializer extends CustomFieldSerializer<OW
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLClass instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 
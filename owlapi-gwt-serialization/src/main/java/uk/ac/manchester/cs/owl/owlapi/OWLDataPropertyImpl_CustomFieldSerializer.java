@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 
 /**
  * An implementation of CustomFieldSerilizer for serializing {@link OWLDataPropertyImpl}
@@ -46,7 +45,7 @@ public class OWLDataPropertyImpl_CustomFieldSerializer extends CustomFieldSerial
     }
 
     public static OWLDataPropertyImpl instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLDataPropertyImpl(IRI.create(streamReader.readString()));
+        return new OWLDataPropertyImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -66,7 +65,7 @@ public class OWLDataPropertyImpl_CustomFieldSerializer extends CustomFieldSerial
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLDataPropertyImpl instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 
@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 
 /**
  * An implementation of CustomFieldSerilizer for serializing {@link OWLDatatypeImpl}
@@ -46,7 +45,7 @@ public class OWLDatatypeImpl_CustomFieldSerializer extends CustomFieldSerializer
     }
 
     public static OWLDatatypeImpl instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLDatatypeImpl(IRI.create(streamReader.readString()));
+        return new OWLDatatypeImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -66,7 +65,7 @@ public class OWLDatatypeImpl_CustomFieldSerializer extends CustomFieldSerializer
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLDatatypeImpl instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 
@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 
 /**
  * An implementation of CustomFieldSerilizer for serializing {@link OWLImportsDeclarationImpl}
@@ -46,7 +45,7 @@ public class OWLImportsDeclarationImpl_CustomFieldSerializer extends CustomField
     }
 
     public static OWLImportsDeclarationImpl instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLImportsDeclarationImpl(IRI.create(streamReader.readString()));
+        return new OWLImportsDeclarationImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -66,7 +65,7 @@ public class OWLImportsDeclarationImpl_CustomFieldSerializer extends CustomField
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLImportsDeclarationImpl instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 
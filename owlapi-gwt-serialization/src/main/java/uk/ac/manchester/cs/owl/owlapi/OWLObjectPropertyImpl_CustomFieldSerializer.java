@@ -4,7 +4,6 @@ import com.google.gwt.user.client.rpc.CustomFieldSerializer;
 import com.google.gwt.user.client.rpc.SerializationException;
 import com.google.gwt.user.client.rpc.SerializationStreamReader;
 import com.google.gwt.user.client.rpc.SerializationStreamWriter;
-import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
 /**
@@ -47,7 +46,7 @@ public class OWLObjectPropertyImpl_CustomFieldSerializer extends CustomFieldSeri
     }
 
     public static OWLObjectProperty instantiate(SerializationStreamReader streamReader) throws SerializationException {
-        return new OWLObjectPropertyImpl(IRI.create(streamReader.readString()));
+        return new OWLObjectPropertyImpl(CustomFieldSerializerUtil.deserializeIRI(streamReader));
     }
 
 
@@ -67,7 +66,7 @@ public class OWLObjectPropertyImpl_CustomFieldSerializer extends CustomFieldSeri
     }
 
     public static void serialize(SerializationStreamWriter streamWriter, OWLObjectProperty instance) throws SerializationException {
-        streamWriter.writeString(instance.getIRI().toString());
+        CustomFieldSerializerUtil.serializeIRI(instance.getIRI(), streamWriter);
     }
 
 